@@ -0,0 +1,101 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.BatchRunner;
+
+/**
+ * Runs a script of commands without starting the user interface, for bulk imports and scripted edits.
+ * The script is read from the file given by {@code --batch=<file>}, or from standard input with {@code --batch=-}.
+ * {@code --checkpoint=<n>} saves the address book every n commands in addition to the save at the end,
+ * and {@code --config=<file>} selects the config file as in the graphical application.
+ */
+public class BatchMain {
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMAND_FAILED = 1;
+    public static final int EXIT_ERROR = 2;
+
+    static final String BATCH_PARAMETER = "--batch=";
+    static final String CHECKPOINT_PARAMETER = "--checkpoint=";
+    static final String CONFIG_PARAMETER = "--config=";
+    static final String STANDARD_INPUT = "-";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchMain.class);
+
+    /**
+     * Returns true if {@code args} asks for a script to be run instead of starting the user interface.
+     */
+    public static boolean isBatchMode(String[] args) {
+        for (String arg : args) {
+            if (arg.startsWith(BATCH_PARAMETER)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Runs the script given in {@code args} and prints its throughput statistics.
+     *
+     * @return {@link #EXIT_SUCCESS} if every command succeeded, {@link #EXIT_COMMAND_FAILED} if some failed, or
+     *     {@link #EXIT_ERROR} if the script could not be run or the address book could not be saved
+     */
+    public static int run(String[] args) {
+        String script = null;
+        int checkpointInterval = 0;
+        Path configPath = null;
+        for (String arg : args) {
+            if (arg.startsWith(BATCH_PARAMETER)) {
+                script = arg.substring(BATCH_PARAMETER.length());
+            } else if (arg.startsWith(CHECKPOINT_PARAMETER)) {
+                try {
+                    checkpointInterval = Integer.parseInt(arg.substring(CHECKPOINT_PARAMETER.length()));
+                } catch (NumberFormatException e) {
+                    checkpointInterval = -1;
+                }
+                if (checkpointInterval < 0) {
+                    System.err.println(BatchRunner.MESSAGE_CONSTRAINTS);
+                    return EXIT_ERROR;
+                }
+            } else if (arg.startsWith(CONFIG_PARAMETER)) {
+                String configPathParameter = arg.substring(CONFIG_PARAMETER.length());
+                if (!FileUtil.isValidPath(configPathParameter)) {
+                    logger.warning("Invalid config path " + configPathParameter + ". Using default config path.");
+                } else {
+                    configPath = Paths.get(configPathParameter);
+                }
+            }
+        }
+
+        logger.info("=============================[ Running AddressBook script ]=========================");
+        MainApp app = new MainApp();
+        app.initComponents(configPath);
+        BatchRunner batchRunner = new BatchRunner(app.model, app.storage, checkpointInterval);
+
+        try (BufferedReader commands = openScript(script)) {
+            BatchRunner.Statistics statistics = batchRunner.run(commands, System.out);
+            System.out.println(statistics);
+            return statistics.getCommandsFailed() == 0 ? EXIT_SUCCESS : EXIT_COMMAND_FAILED;
+        } catch (IOException e) {
+            System.err.println("Script aborted: " + StringUtil.getDetails(e));
+            return EXIT_ERROR;
+        }
+    }
+
+    private static BufferedReader openScript(String script) throws IOException {
+        if (script.equals(STANDARD_INPUT)) {
+            return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        }
+        return Files.newBufferedReader(Paths.get(script), StandardCharsets.UTF_8);
+    }
+}
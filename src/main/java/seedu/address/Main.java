@@ -17,9 +17,15 @@ import javafx.application.Application;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * When given a {@code --batch=<file>} argument, a script of commands is run
+ * by {@link BatchMain} instead, without starting JavaFX.
  */
 public class Main {
     public static void main(String[] args) {
+        if (BatchMain.isBatchMode(args)) {
+            System.exit(BatchMain.run(args));
+        }
         Application.launch(MainApp.class, args);
     }
 }
@@ -2,29 +2,44 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.PerformanceStats;
+import seedu.address.commons.core.StartupProfiler;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.github.AvatarStore;
+import seedu.address.github.GithubApi;
+import seedu.address.github.GithubGraphqlApi;
+import seedu.address.github.GithubHttpClient;
+import seedu.address.logic.AddressBookLoader;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.parser.ParserUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.github.User;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -39,33 +54,110 @@ public class MainApp extends Application {
     public static final Version VERSION = new Version(0, 2, 0, true);
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
+    private static final String GITHUB_TOKEN_VARIABLE = "GITHUB_TOKEN";
+    private static final String STATS_FILE_NAME = "stats.txt";
+    private static final String STARTUP_REPORT_FILE_NAME = "startup.txt";
+    private static final Duration STATS_DUMP_INTERVAL = Duration.ofMinutes(1);
 
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected AddressBookLoader addressBookLoader;
 
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
 
-        AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
+        StartupProfiler profiler = StartupProfiler.getDefaultProfiler();
+        profiler.time("init", () -> {
+            AppParameters appParameters = AppParameters.parse(getParameters());
+            initComponents(appParameters.getConfigPath(), true);
+
+            profiler.setReportFile(getDataSiblingPath(STARTUP_REPORT_FILE_NAME));
+            addressBookLoader = new AddressBookLoader(storage, model, Platform::runLater);
+            addressBookLoader.getProgress().addListener((unused, oldProgress, newProgress) -> {
+                if (newProgress.isDone()) {
+                    removeUnusedAvatars();
+                }
+            });
+            logic = new LogicManager(model, storage, addressBookLoader.getProgress());
+
+            PerformanceStats.getDefaultStats().startPeriodicDump(getStatsFilePath(), STATS_DUMP_INTERVAL);
+
+            ui = new UiManager(logic);
+        });
+    }
+
+    /**
+     * Returns the file the performance statistics are written to, next to the address book data file.
+     */
+    private Path getStatsFilePath() {
+        return getDataSiblingPath(STATS_FILE_NAME);
+    }
+
+    /**
+     * Removes the avatars of GitHub users that are no longer in the address book, from a background thread.
+     */
+    private void removeUnusedAvatars() {
+        List<String> usernames = model.getAddressBook().getPersonList().stream()
+                .map(Person::getGithubUser)
+                .flatMap(Optional::stream)
+                .map(User::getUsername)
+                .collect(Collectors.toList());
+        AvatarStore.getDefaultStore().removeOrphansAsync(usernames);
+    }
+
+    private Path getDataSiblingPath(String fileName) {
+        return model.getAddressBookFilePath().toAbsolutePath().resolveSibling(fileName);
+    }
+
+    /**
+     * Initialises the config, storage and model, along with everything they depend on.
+     * This is all that is needed to run commands, so it is shared with {@link BatchMain}, which runs without a UI.
+     */
+    void initComponents(Path configPath) {
+        initComponents(configPath, false);
+    }
+
+    /**
+     * Initialises the config, storage and model, as in {@link #initComponents(Path)}.
+     * If {@code isLoadedInBackground}, the model is left empty, for the address book to be loaded into it by an
+     * {@code AddressBookLoader} once the UI is shown.
+     */
+    private void initComponents(Path configPath, boolean isLoadedInBackground) {
+        StartupProfiler profiler = StartupProfiler.getDefaultProfiler();
+        config = profiler.time("config", () -> initConfig(configPath));
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        UserPrefs userPrefs = profiler.time("prefs", () -> initPrefs(userPrefsStorage));
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs.getAddressBookFilePath());
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
-        initLogging(config);
+        profiler.time("logging", () -> initLogging(config));
 
-        model = initModelManager(storage, userPrefs);
+        AvatarStore.setDefaultStore(profiler.time("avatar index", () ->
+                new AvatarStore(userPrefs.getAddressBookFilePath().toAbsolutePath().resolveSibling("images"))));
 
-        logic = new LogicManager(model, storage);
+        ParserUtil.setGithubApi(profiler.time("github api", () -> initGithubApi(config)));
 
-        ui = new UiManager(logic);
+        model = isLoadedInBackground
+                ? profiler.time("model build", () -> new ModelManager(new AddressBook(), userPrefs))
+                : initModelManager(storage, userPrefs);
+    }
+
+    /**
+     * Returns the storage for the address book at {@code addressBookPath}.
+     * A path to a {@code .json} file is stored as that one file, and any other path as a directory of shards.
+     */
+    private AddressBookStorage initAddressBookStorage(Path addressBookPath) {
+        if (addressBookPath.getFileName().toString().endsWith(".json")) {
+            return new JsonAddressBookStorage(addressBookPath);
+        }
+        logger.info("Using sharded address book storage in " + addressBookPath);
+        return new ShardedAddressBookStorage(addressBookPath);
     }
 
     /**
@@ -74,8 +166,10 @@ public class MainApp extends Application {
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        StartupProfiler profiler = StartupProfiler.getDefaultProfiler();
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
+        long readStartTime = System.nanoTime();
         try {
             addressBookOptional = storage.readAddressBook();
             if (!addressBookOptional.isPresent()) {
@@ -90,13 +184,38 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        profiler.recordSince("storage read", readStartTime);
+
+        ReadOnlyAddressBook data = initialData;
+        return profiler.time("model build", () -> new ModelManager(data, userPrefs));
     }
 
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
 
+    /**
+     * Returns a {@code GithubApi} that fetches users in batches through GraphQL when an access token is provided
+     * in the {@code GITHUB_TOKEN} environment variable, as GitHub does not serve GraphQL anonymously. <br>
+     * Only the REST API is used otherwise.
+     */
+    private GithubApi initGithubApi(Config config) {
+        GithubHttpClient client = GithubHttpClient.getDefaultClient();
+        String token = System.getenv(GITHUB_TOKEN_VARIABLE);
+        if (token == null || token.isBlank()) {
+            logger.info(GITHUB_TOKEN_VARIABLE + " not set. GitHub users will be fetched through the REST API");
+            return new GithubApi(client);
+        }
+
+        int batchSize = config.getGithubBatchSize();
+        if (batchSize <= 0) {
+            logger.warning("Invalid GitHub batch size " + batchSize + ". Using default batch size");
+            batchSize = GithubGraphqlApi.DEFAULT_BATCH_SIZE;
+        }
+        return new GithubApi(client,
+            new GithubGraphqlApi(client, config.getGithubGraphqlEndpoint(), token, batchSize));
+    }
+
     /**
      * Returns a {@code Config} using the file at {@code configFilePath}. <br>
      * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
@@ -169,6 +288,7 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        addressBookLoader.start();
     }
 
     @Override
@@ -179,5 +299,9 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+
+        PerformanceStats stats = PerformanceStats.getDefaultStats();
+        stats.stopPeriodicDump();
+        stats.dump(getStatsFilePath());
     }
 }
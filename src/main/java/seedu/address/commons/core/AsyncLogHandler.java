@@ -0,0 +1,181 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A log handler that hands records over to a writer thread, which publishes them to the wrapped handlers.
+ * Logging then only costs the caller a copy into a bounded ring buffer, however slow the log file is to write to.
+ * What happens when the buffer is full is decided by the {@link OverflowPolicy}.
+ *
+ * Closing the handler writes out every record still in the buffer before closing the wrapped handlers.
+ */
+public class AsyncLogHandler extends Handler {
+    /** Under {@link OverflowPolicy#SAMPLE}, one in this many records is kept while the buffer is full. */
+    public static final int SAMPLE_RATE = 10;
+
+    private static final long CLOSE_TIMEOUT_MILLIS = 2000;
+    private static final LogRecord END_OF_RECORDS = new LogRecord(Level.OFF, "");
+
+    private final List<Handler> handlers;
+    private final BlockingQueue<LogRecord> buffer;
+    private final Thread writer;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong overflowCount = new AtomicLong();
+    private volatile OverflowPolicy overflowPolicy;
+    private volatile boolean isClosed;
+    private long reportedDroppedCount; // only used by the writer thread
+
+    /**
+     * What to do with a record when the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /** Drop the record, so that the caller is never blocked. */
+        DROP,
+        /** Wait for space in the buffer, so that no record is lost. */
+        BLOCK,
+        /** Keep warnings and one in {@link #SAMPLE_RATE} of the other records, waiting for space for them. */
+        SAMPLE
+    }
+
+    /**
+     * Creates a handler that publishes to {@code handlers} from its own writer thread.
+     *
+     * @param capacity Number of records that can wait to be written before the buffer is full
+     */
+    public AsyncLogHandler(List<Handler> handlers, int capacity, OverflowPolicy overflowPolicy) {
+        requireNonNull(handlers);
+        requireNonNull(overflowPolicy);
+        this.handlers = List.copyOf(handlers);
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+
+        writer = new Thread(this::writeRecords, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = requireNonNull(overflowPolicy);
+    }
+
+    /**
+     * Returns the number of records dropped so far because the buffer was full.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+
+        // The caller is worked out from the stack trace, so it has to be done before leaving the caller's thread.
+        record.getSourceClassName();
+
+        if (buffer.offer(record)) {
+            return;
+        }
+
+        if (shouldWaitForSpace(record)) {
+            try {
+                buffer.put(record);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                droppedCount.incrementAndGet();
+            }
+        } else {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    private boolean shouldWaitForSpace(LogRecord record) {
+        switch (overflowPolicy) {
+        case BLOCK:
+            return true;
+        case SAMPLE:
+            return record.getLevel().intValue() >= Level.WARNING.intValue()
+                    || overflowCount.getAndIncrement() % SAMPLE_RATE == 0;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Flushes the wrapped handlers. Records still in the buffer are not waited for.
+     */
+    @Override
+    public void flush() {
+        handlers.forEach(Handler::flush);
+    }
+
+    /**
+     * Writes out the records in the buffer, waiting up to two seconds for them, then closes the wrapped handlers.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+
+        try {
+            if (buffer.offer(END_OF_RECORDS, CLOSE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                writer.join(CLOSE_TIMEOUT_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        handlers.forEach(Handler::close);
+    }
+
+    private void writeRecords() {
+        try {
+            LogRecord record = buffer.take();
+            while (record != END_OF_RECORDS) {
+                write(record);
+                reportDroppedRecords();
+                record = buffer.take();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        handlers.forEach(Handler::flush);
+    }
+
+    private void write(LogRecord record) {
+        for (Handler handler : handlers) {
+            try {
+                handler.publish(record);
+            } catch (RuntimeException e) {
+                reportError("Failed to publish log record", e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+
+    /**
+     * Logs how many records were dropped since the last report, so that gaps in the log are visible.
+     */
+    private void reportDroppedRecords() {
+        long dropped = droppedCount.get() - reportedDroppedCount;
+        if (dropped > 0) {
+            reportedDroppedCount += dropped;
+            write(new LogRecord(Level.WARNING, "Log buffer was full, dropped " + dropped + " log records"));
+        }
+    }
+}
@@ -5,6 +5,8 @@ import java.nio.file.Paths;
 import java.util.Objects;
 import java.util.logging.Level;
 
+import seedu.address.commons.core.AsyncLogHandler.OverflowPolicy;
+
 /**
  * Config values used by the app
  */
@@ -14,7 +16,10 @@ public class Config {
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
+    private OverflowPolicy logOverflowPolicy = OverflowPolicy.DROP;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private String githubGraphqlEndpoint = "https://api.github.com/graphql";
+    private int githubBatchSize = 50;
 
     public Level getLogLevel() {
         return logLevel;
@@ -24,6 +29,14 @@ public class Config {
         this.logLevel = logLevel;
     }
 
+    public OverflowPolicy getLogOverflowPolicy() {
+        return logOverflowPolicy;
+    }
+
+    public void setLogOverflowPolicy(OverflowPolicy logOverflowPolicy) {
+        this.logOverflowPolicy = logOverflowPolicy;
+    }
+
     public Path getUserPrefsFilePath() {
         return userPrefsFilePath;
     }
@@ -32,6 +45,22 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public String getGithubGraphqlEndpoint() {
+        return githubGraphqlEndpoint;
+    }
+
+    public void setGithubGraphqlEndpoint(String githubGraphqlEndpoint) {
+        this.githubGraphqlEndpoint = githubGraphqlEndpoint;
+    }
+
+    public int getGithubBatchSize() {
+        return githubBatchSize;
+    }
+
+    public void setGithubBatchSize(int githubBatchSize) {
+        this.githubBatchSize = githubBatchSize;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +73,15 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && logOverflowPolicy == o.logOverflowPolicy
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && Objects.equals(githubGraphqlEndpoint, o.githubGraphqlEndpoint)
+                && githubBatchSize == o.githubBatchSize;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, logOverflowPolicy, userPrefsFilePath, githubGraphqlEndpoint, githubBatchSize);
     }
 
     @Override
@@ -0,0 +1,107 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * Keeps track of the user's current UTC offset for the whole application.
+ * The offset is recomputed once a minute instead of every time a timezone is displayed, and listeners are told
+ * when it changes, such as when daylight saving time starts or ends.
+ */
+public class LocalClock {
+    private static final long REFRESH_INTERVAL_SECONDS = 60;
+    private static final Logger logger = LogsCenter.getLogger(LocalClock.class);
+
+    private static LocalClock defaultClock;
+
+    private final Clock clock;
+    private final List<Consumer<ZoneOffset>> listeners = new CopyOnWriteArrayList<>();
+    private volatile ZoneOffset localOffset;
+
+    /**
+     * Creates a clock that reads the time and zone from {@code clock}. It is only refreshed when
+     * {@link #refresh()} is called.
+     */
+    public LocalClock(Clock clock) {
+        requireNonNull(clock);
+        this.clock = clock;
+        this.localOffset = computeLocalOffset();
+    }
+
+    /**
+     * Returns the clock shared across the application, which refreshes itself at the start of every minute.
+     */
+    public static synchronized LocalClock getDefaultClock() {
+        if (defaultClock == null) {
+            defaultClock = new LocalClock(Clock.systemDefaultZone());
+            defaultClock.startRefreshing();
+        }
+        return defaultClock;
+    }
+
+    private void startRefreshing() {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "local-clock");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long secondsToNextMinute = REFRESH_INTERVAL_SECONDS - instant().getEpochSecond() % REFRESH_INTERVAL_SECONDS;
+        scheduler.scheduleAtFixedRate(this::refresh, secondsToNextMinute, REFRESH_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    public Instant instant() {
+        return clock.instant();
+    }
+
+    public ZoneOffset getLocalOffset() {
+        return localOffset;
+    }
+
+    /**
+     * Registers {@code listener} to be called with the new offset whenever the local offset changes.
+     * The listener is called on the clock's own thread, so UI listeners must hand the update over to the UI thread.
+     */
+    public void addListener(Consumer<ZoneOffset> listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+    }
+
+    public void removeListener(Consumer<ZoneOffset> listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Recomputes the local offset and notifies the listeners if it has changed.
+     */
+    public void refresh() {
+        ZoneOffset newOffset = computeLocalOffset();
+        if (newOffset.equals(localOffset)) {
+            return;
+        }
+
+        logger.info("Local UTC offset changed from " + localOffset + " to " + newOffset);
+        localOffset = newOffset;
+        for (Consumer<ZoneOffset> listener : listeners) {
+            try {
+                listener.accept(newOffset);
+            } catch (RuntimeException e) {
+                // A failing listener must not stop the scheduled refreshes or the other listeners.
+                logger.warning("Local clock listener failed: " + e);
+            }
+        }
+    }
+
+    private ZoneOffset computeLocalOffset() {
+        return clock.getZone().getRules().getOffset(clock.instant());
+    }
+}
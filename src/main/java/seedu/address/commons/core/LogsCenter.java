@@ -1,28 +1,36 @@
 package seedu.address.commons.core;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
 
+import seedu.address.commons.core.AsyncLogHandler.OverflowPolicy;
+
 /**
  * Configures and manages loggers and handlers, including their logging level
  * Named {@link Logger}s can be obtained from this class<br>
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Both are written to by a background thread, so logging does not wait for the console or the disk.
+ *   The buffered records are written out when the app shuts down.<br>
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
     private static final String LOG_FILE = "addressbook.log";
+    private static final int LOG_BUFFER_CAPACITY = 8192;
     private static Level currentLogLevel = Level.INFO;
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
-    private static FileHandler fileHandler;
-    private static ConsoleHandler consoleHandler;
+    private static AsyncLogHandler asyncHandler;
 
     /**
      * Initializes with a custom log level (specified in the {@code config} object)
@@ -32,7 +40,8 @@ public class LogsCenter {
      */
     public static void init(Config config) {
         currentLogLevel = config.getLogLevel();
-        logger.info("currentLogLevel: " + currentLogLevel);
+        getAsyncHandler().setOverflowPolicy(config.getLogOverflowPolicy());
+        logger.info("currentLogLevel: " + currentLogLevel + ", logOverflowPolicy: " + config.getLogOverflowPolicy());
     }
 
     /**
@@ -43,12 +52,28 @@ public class LogsCenter {
         logger.setUseParentHandlers(false);
 
         removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
+        logger.addHandler(getAsyncHandler());
 
         return Logger.getLogger(name);
     }
 
+    /**
+     * Creates a logger with the given name that writes only to {@code fileName}, for reports too long to be
+     * mixed into the main log. Falls back to the main log if the file cannot be opened.
+     */
+    public static Logger getFileLogger(String name, String fileName) {
+        Logger logger = getLogger(name);
+        try {
+            FileHandler fileHandler = new FileHandler(fileName, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
+            fileHandler.setFormatter(new SimpleFormatter());
+            removeHandlers(logger);
+            logger.addHandler(fileHandler);
+        } catch (IOException e) {
+            logger.warning("Error adding file handler for " + fileName + ", writing to the main log instead.");
+        }
+        return logger;
+    }
+
     /**
      * Creates a Logger for the given class name.
      */
@@ -60,14 +85,14 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code consoleHandler} to the {@code logger}. <br>
-     * Creates the {@code consoleHandler} if it is null.
+     * Returns the handler shared by all loggers, which writes to the console and the log file.
+     * Creates the handler if it is null.
      */
-    private static void addConsoleHandler(Logger logger) {
-        if (consoleHandler == null) {
-            consoleHandler = createConsoleHandler();
+    private static synchronized AsyncLogHandler getAsyncHandler() {
+        if (asyncHandler == null) {
+            asyncHandler = createAsyncHandler();
         }
-        logger.addHandler(consoleHandler);
+        return asyncHandler;
     }
 
     /**
@@ -79,18 +104,27 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code fileHandler} to the {@code logger}. <br>
-     * Creates {@code fileHandler} if it is null.
+     * Creates an {@code AsyncLogHandler} over the console and the log file, which is closed at shutdown so that no
+     * buffered record is lost.
      */
-    private static void addFileHandler(Logger logger) {
+    private static AsyncLogHandler createAsyncHandler() {
+        List<Handler> handlers = new ArrayList<>();
+        handlers.add(createConsoleHandler());
+        String fileHandlerError = null;
         try {
-            if (fileHandler == null) {
-                fileHandler = createFileHandler();
-            }
-            logger.addHandler(fileHandler);
+            handlers.add(createFileHandler());
         } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+            fileHandlerError = "Error adding file handler for logger.";
+        }
+
+        // The overflow policy in the config is only known once init is called.
+        AsyncLogHandler handler = new AsyncLogHandler(handlers, LOG_BUFFER_CAPACITY, OverflowPolicy.DROP);
+        handler.setLevel(currentLogLevel);
+        Runtime.getRuntime().addShutdownHook(new Thread(handler::close, "log-flush"));
+        if (fileHandlerError != null) {
+            handler.publish(new LogRecord(Level.WARNING, fileHandlerError));
         }
+        return handler;
     }
 
     /**
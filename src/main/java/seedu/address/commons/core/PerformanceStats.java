@@ -0,0 +1,146 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Collects timings and counts of what the app spends its time on, such as each stage of running a command and
+ * the requests made to GitHub.
+ * Timings are recorded in nanoseconds into {@link Histogram}s, and both timings and counts are looked up by name,
+ * so that anything can be measured from any thread without registering it first.
+ */
+public class PerformanceStats {
+    private static final Logger logger = LogsCenter.getLogger(PerformanceStats.class);
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private static PerformanceStats defaultStats;
+
+    private final Map<String, Histogram> timings = new ConcurrentSkipListMap<>();
+    private final Map<String, LongAdder> counters = new ConcurrentSkipListMap<>();
+    private ScheduledExecutorService dumpScheduler;
+
+    /**
+     * Returns the statistics shared across the application.
+     */
+    public static synchronized PerformanceStats getDefaultStats() {
+        if (defaultStats == null) {
+            defaultStats = new PerformanceStats();
+        }
+        return defaultStats;
+    }
+
+    /**
+     * Records that {@code name} took {@code nanos} nanoseconds.
+     */
+    public void recordNanos(String name, long nanos) {
+        requireNonNull(name);
+        timings.computeIfAbsent(name, unused -> new Histogram()).record(Math.max(0, nanos));
+    }
+
+    /**
+     * Records that {@code name} took from {@code startNanos}, a value of {@link System#nanoTime()}, until now.
+     *
+     * @return The number of nanoseconds recorded
+     */
+    public long recordSince(String name, long startNanos) {
+        long nanos = System.nanoTime() - startNanos;
+        recordNanos(name, nanos);
+        return nanos;
+    }
+
+    /**
+     * Adds {@code amount} to the counter {@code name}.
+     */
+    public void increment(String name, long amount) {
+        requireNonNull(name);
+        counters.computeIfAbsent(name, unused -> new LongAdder()).add(amount);
+    }
+
+    /**
+     * Returns the timings of {@code name}, which are empty if nothing was recorded for it.
+     */
+    public Histogram getTimings(String name) {
+        requireNonNull(name);
+        Histogram histogram = timings.get(name);
+        return histogram == null ? new Histogram() : histogram;
+    }
+
+    public long getCount(String name) {
+        requireNonNull(name);
+        LongAdder counter = counters.get(name);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    /**
+     * Returns a table of every timing and counter recorded, with timings in milliseconds.
+     */
+    public String getReport() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%-32s %8s %9s %9s %9s %9s%n", "Timing (ms)", "count", "mean", "p50", "p99",
+                "max"));
+        timings.forEach((name, histogram) -> report.append(String.format("%-32s %8d %9.2f %9.2f %9.2f %9.2f%n",
+                name, histogram.getCount(), histogram.getMean() / NANOS_PER_MILLI,
+                histogram.getPercentile(50) / NANOS_PER_MILLI, histogram.getPercentile(99) / NANOS_PER_MILLI,
+                histogram.getMax() / NANOS_PER_MILLI)));
+
+        if (!counters.isEmpty()) {
+            report.append(String.format("%n%-32s %8s%n", "Counter", "value"));
+            counters.forEach((name, counter) -> report.append(String.format("%-32s %8d%n", name, counter.sum())));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Writes the report to {@code file} every {@code interval}, replacing the previous report, until
+     * {@link #stopPeriodicDump()} is called.
+     */
+    public synchronized void startPeriodicDump(Path file, Duration interval) {
+        requireNonNull(file);
+        requireNonNull(interval);
+        stopPeriodicDump();
+
+        dumpScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "stats-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = interval.toMillis();
+        dumpScheduler.scheduleAtFixedRate(() -> dump(file), intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops writing the report periodically.
+     */
+    public synchronized void stopPeriodicDump() {
+        if (dumpScheduler != null) {
+            dumpScheduler.shutdown();
+            dumpScheduler = null;
+        }
+    }
+
+    /**
+     * Writes the report to {@code file}, logging instead of throwing if it cannot be written.
+     */
+    public void dump(Path file) {
+        try {
+            FileUtil.createIfMissing(file);
+            FileUtil.writeToFile(file, "Statistics as of " + Instant.now() + System.lineSeparator()
+                    + System.lineSeparator() + getReport());
+        } catch (IOException e) {
+            logger.warning("Failed to write statistics to " + file + ": " + e);
+        }
+    }
+}
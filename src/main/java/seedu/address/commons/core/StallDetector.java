@@ -0,0 +1,209 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * Watches a thread that runs tasks from a queue, such as the JavaFX Application Thread, for stalls.
+ * A heartbeat pulse is posted to the thread's queue, and while a pulse is late by more than the threshold, the
+ * thread's stack is sampled. Once the pulse finally runs, the most sampled stacks are written out as a stall report,
+ * together with how long the stall lasted and the last command entered before it.
+ */
+public class StallDetector {
+    public static final Duration DEFAULT_THRESHOLD = Duration.ofMillis(250);
+    public static final Duration SAMPLE_INTERVAL = Duration.ofMillis(20);
+
+    /** A stall lasting this long is also reported while it is still going on, in case it never ends. */
+    static final Duration LONG_STALL = Duration.ofSeconds(10);
+
+    private static final String STALL_LOG_FILE = "stalls.log";
+    private static final int REPORTED_FRAMES = 12;
+    private static final int REPORTED_STACKS = 3;
+    private static final long NANOS_PER_MILLI = 1_000_000;
+    private static final Logger logger = LogsCenter.getLogger(StallDetector.class);
+
+    private final Thread watchedThread;
+    private final Consumer<Runnable> pulsePoster;
+    private final long thresholdNanos;
+    private final Consumer<String> reportWriter;
+    private final PerformanceStats stats = PerformanceStats.getDefaultStats();
+    private volatile String lastCommand;
+    private ScheduledExecutorService scheduler;
+
+    // Set by the watched thread when it runs a pulse, and read by the detector.
+    private volatile long answeredPulse;
+
+    // Only used by the detector. Pulses are numbered from 1, with 0 meaning that no pulse is pending.
+    private long pulseCount;
+    private long pendingPulse;
+    private long pendingPulseSentAt;
+    private Stall currentStall;
+
+    /**
+     * Creates a detector for {@code watchedThread} that writes stall reports to {@code stalls.log}.
+     *
+     * @param pulsePoster Runs a pulse on {@code watchedThread} after the tasks already queued, such as
+     *                    {@code Platform::runLater}
+     */
+    public StallDetector(Thread watchedThread, Consumer<Runnable> pulsePoster, Duration threshold) {
+        this(watchedThread, pulsePoster, threshold, createReportWriter());
+    }
+
+    StallDetector(Thread watchedThread, Consumer<Runnable> pulsePoster, Duration threshold,
+                  Consumer<String> reportWriter) {
+        requireNonNull(watchedThread);
+        requireNonNull(pulsePoster);
+        requireNonNull(threshold);
+        requireNonNull(reportWriter);
+        this.watchedThread = watchedThread;
+        this.pulsePoster = pulsePoster;
+        this.thresholdNanos = threshold.toNanos();
+        this.reportWriter = reportWriter;
+    }
+
+    private static Consumer<String> createReportWriter() {
+        Logger stallLogger = LogsCenter.getFileLogger("StallReport", STALL_LOG_FILE);
+        return stallLogger::warning;
+    }
+
+    /**
+     * Starts checking on the watched thread every {@link #SAMPLE_INTERVAL} from a daemon thread.
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "stall-detector");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalNanos = SAMPLE_INTERVAL.toNanos();
+        scheduler.scheduleWithFixedDelay(this::check, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Stops checking on the watched thread.
+     */
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * Remembers {@code commandText} as the last command entered, to be named in the report of a stall that follows.
+     */
+    public void recordCommand(String commandText) {
+        lastCommand = commandText;
+    }
+
+    /**
+     * Ends the stall in progress once the pending pulse has run, sends a new pulse if none is pending, and samples
+     * the watched thread if the pending pulse is late.
+     */
+    void check() {
+        if (!watchedThread.isAlive()) {
+            stop();
+            return;
+        }
+
+        long now = System.nanoTime();
+        if (pendingPulse != 0 && answeredPulse == pendingPulse) {
+            if (currentStall != null) {
+                endStall(now);
+            }
+            pendingPulse = 0;
+        }
+
+        if (pendingPulse == 0) {
+            long pulse = ++pulseCount;
+            pendingPulse = pulse;
+            pendingPulseSentAt = now;
+            pulsePoster.accept(() -> answeredPulse = pulse);
+            return;
+        }
+
+        if (now - pendingPulseSentAt <= thresholdNanos) {
+            return;
+        }
+        if (currentStall == null) {
+            currentStall = new Stall(pendingPulseSentAt, lastCommand);
+        }
+        currentStall.addSample(watchedThread.getStackTrace());
+        if (!currentStall.isReportedEarly && now - currentStall.startNanos >= LONG_STALL.toNanos()) {
+            currentStall.isReportedEarly = true;
+            writeReport("still going on after", now);
+        }
+    }
+
+    private void endStall(long now) {
+        stats.recordNanos("ui.stall", now - currentStall.startNanos);
+        writeReport("lasted", now);
+        currentStall = null;
+    }
+
+    private void writeReport(String durationPrefix, long now) {
+        long durationMillis = (now - currentStall.startNanos) / NANOS_PER_MILLI;
+        String summary = watchedThread.getName() + " stall " + durationPrefix + " " + durationMillis + " ms"
+                + ", last command: " + (currentStall.lastCommand == null ? "none" : currentStall.lastCommand);
+        logger.warning(summary + ". See " + STALL_LOG_FILE + " for where the thread was stuck.");
+        try {
+            reportWriter.accept(summary + System.lineSeparator() + currentStall.getTopStacks());
+        } catch (RuntimeException e) {
+            logger.warning("Failed to write stall report: " + e);
+        }
+    }
+
+    /**
+     * The stack samples taken during one stall, grouped by their top frames.
+     */
+    private static class Stall {
+        private final long startNanos;
+        private final String lastCommand;
+        private final Map<List<StackTraceElement>, Integer> stackCounts = new HashMap<>();
+        private int sampleCount;
+        private boolean isReportedEarly;
+
+        Stall(long startNanos, String lastCommand) {
+            this.startNanos = startNanos;
+            this.lastCommand = lastCommand;
+        }
+
+        void addSample(StackTraceElement[] stack) {
+            List<StackTraceElement> topFrames = Arrays.asList(stack).subList(0, Math.min(stack.length,
+                    REPORTED_FRAMES));
+            stackCounts.merge(topFrames, 1, Integer::sum);
+            sampleCount++;
+        }
+
+        /**
+         * Returns the most sampled stacks, each with the number of samples it was seen in.
+         */
+        String getTopStacks() {
+            StringBuilder report = new StringBuilder();
+            stackCounts.entrySet().stream()
+                    .sorted(Map.Entry.<List<StackTraceElement>, Integer>comparingByValue(Comparator.reverseOrder()))
+                    .limit(REPORTED_STACKS)
+                    .forEach(entry -> report.append(String.format("  %d of %d samples:%n", entry.getValue(),
+                            sampleCount))
+                            .append(entry.getKey().stream()
+                                    .map(frame -> "    at " + frame + System.lineSeparator())
+                                    .collect(Collectors.joining())));
+            return report.toString();
+        }
+    }
+}
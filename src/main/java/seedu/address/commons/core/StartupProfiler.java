@@ -0,0 +1,187 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Times the phases of starting the app, such as reading the data file and loading each FXML file, until the first
+ * frame of the main window is shown.
+ * Phases can be nested, and are reported indented under the phase they ran in. Once startup is finished, timing a
+ * phase only runs it, so code that also runs after startup can be timed without cost.
+ */
+public class StartupProfiler {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final Logger logger = LogsCenter.getLogger(StartupProfiler.class);
+
+    private static StartupProfiler defaultProfiler;
+
+    private final long startNanos;
+    private final List<Phase> phases = new ArrayList<>();
+    private volatile boolean isFinished;
+    private long finishNanos;
+    private Path reportFile;
+
+    /**
+     * Creates a profiler that times phases from {@code startNanos}, a value of {@link System#nanoTime()}.
+     */
+    public StartupProfiler(long startNanos) {
+        this.startNanos = startNanos;
+    }
+
+    /**
+     * Returns the profiler shared across the application, which times phases from the start of the JVM.
+     */
+    public static synchronized StartupProfiler getDefaultProfiler() {
+        if (defaultProfiler == null) {
+            long uptimeNanos = ManagementFactory.getRuntimeMXBean().getUptime() * 1_000_000;
+            defaultProfiler = new StartupProfiler(System.nanoTime() - uptimeNanos);
+        }
+        return defaultProfiler;
+    }
+
+    /**
+     * Sets the file the report is written to when startup is finished.
+     */
+    public synchronized void setReportFile(Path reportFile) {
+        this.reportFile = requireNonNull(reportFile);
+    }
+
+    public boolean isFinished() {
+        return isFinished;
+    }
+
+    /**
+     * Runs {@code work} and returns its result, timing it as the phase {@code name} if startup is not finished.
+     */
+    public <T> T time(String name, Supplier<T> work) {
+        requireNonNull(name);
+        if (isFinished) {
+            return work.get();
+        }
+
+        long phaseStart = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            recordSince(name, phaseStart);
+        }
+    }
+
+    /**
+     * Runs {@code work}, timing it as the phase {@code name} if startup is not finished.
+     */
+    public void time(String name, Runnable work) {
+        time(name, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * Records the phase {@code name} as having run on this thread from {@code phaseStartNanos}, a value of
+     * {@link System#nanoTime()}, until now, for phases that cannot be wrapped in {@link #time(String, Supplier)}.
+     */
+    public void recordSince(String name, long phaseStartNanos) {
+        requireNonNull(name);
+        if (isFinished) {
+            return;
+        }
+        long phaseEndNanos = System.nanoTime();
+        synchronized (this) {
+            if (!isFinished) {
+                phases.add(new Phase(name, Thread.currentThread().getName(), phaseStartNanos, phaseEndNanos));
+            }
+        }
+    }
+
+    /**
+     * Marks the end of startup, logging how long it took and writing the report to the report file, if there is
+     * one. Only the first call has any effect.
+     */
+    public void finish() {
+        Path file;
+        synchronized (this) {
+            if (isFinished) {
+                return;
+            }
+            finishNanos = System.nanoTime();
+            isFinished = true;
+            file = reportFile;
+        }
+
+        logger.info(String.format("Started up in %.0f ms", toMillis(finishNanos - startNanos)));
+        if (file == null) {
+            return;
+        }
+        try {
+            FileUtil.createIfMissing(file);
+            FileUtil.writeToFile(file, getReport());
+        } catch (IOException e) {
+            logger.warning("Failed to write startup report to " + file + ": " + e);
+        }
+    }
+
+    /**
+     * Returns a table of the phases in the order they started, with times in milliseconds from the start of the JVM.
+     */
+    public synchronized String getReport() {
+        StringBuilder report = new StringBuilder();
+        if (isFinished) {
+            report.append(String.format("First frame shown %.1f ms after the JVM started%n%n",
+                    toMillis(finishNanos - startNanos)));
+        }
+        report.append(String.format("%10s %10s  %-24s %s%n", "start", "duration", "thread", "phase"));
+
+        List<Phase> sortedPhases = new ArrayList<>(phases);
+        sortedPhases.sort(Comparator.comparingLong((Phase phase) -> phase.startNanos)
+                .thenComparing(Comparator.comparingLong((Phase phase) -> phase.endNanos).reversed()));
+        Deque<Phase> enclosingPhases = new ArrayDeque<>();
+        for (Phase phase : sortedPhases) {
+            while (!enclosingPhases.isEmpty() && !enclosingPhases.peek().encloses(phase)) {
+                enclosingPhases.pop();
+            }
+            report.append(String.format("%10.1f %10.1f  %-24s %s%s%n", toMillis(phase.startNanos - startNanos),
+                    toMillis(phase.endNanos - phase.startNanos), phase.thread,
+                    "  ".repeat(enclosingPhases.size()), phase.name));
+            enclosingPhases.push(phase);
+        }
+        return report.toString();
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+
+    /**
+     * A phase of startup that has ended.
+     */
+    private static class Phase {
+        private final String name;
+        private final String thread;
+        private final long startNanos;
+        private final long endNanos;
+
+        Phase(String name, String thread, long startNanos, long endNanos) {
+            this.name = name;
+            this.thread = thread;
+            this.startNanos = startNanos;
+            this.endNanos = endNanos;
+        }
+
+        boolean encloses(Phase other) {
+            return thread.equals(other.thread) && startNanos <= other.startNanos && other.endNanos <= endNanos;
+        }
+    }
+}
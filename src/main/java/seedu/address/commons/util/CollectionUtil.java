@@ -2,9 +2,14 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.AbstractSet;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Stream;
 
 /**
@@ -32,4 +37,77 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Returns an immutable copy of {@code items} in their iteration order, backed by a plain array.
+     * Meant for the small sets held by every person, where a {@code HashSet} costs far more memory than its elements.
+     */
+    public static <T> Set<T> toCompactSet(Collection<? extends T> items) {
+        requireAllNonNull(items);
+        if (items.isEmpty()) {
+            return Set.of();
+        }
+        if (items.size() == 1) {
+            return Set.of(items.iterator().next());
+        }
+        return new ArraySet<>(new LinkedHashSet<>(items).toArray());
+    }
+
+    /**
+     * Immutable set over an array of distinct elements. Lookups scan the array, which is fast for a few elements.
+     * As with {@code Set.of}, every mutator throws, even one that would not change the set.
+     */
+    private static class ArraySet<T> extends AbstractSet<T> {
+        private final Object[] elements;
+
+        ArraySet(Object[] elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterator<>() {
+                private int next = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return next < elements.length;
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public T next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return (T) elements[next++];
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return elements.length;
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void clear() {
+            throw new UnsupportedOperationException();
+        }
+    }
 }
@@ -0,0 +1,35 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Pool of canonical instances of an immutable value type that is created from a string.
+ * Values repeated across many persons, such as tags, are then shared instead of each person holding its own copy.
+ * The pool only grows, so it is meant for values with few distinct instances.
+ */
+public class Interner<T> {
+    private final ConcurrentHashMap<String, T> pool = new ConcurrentHashMap<>();
+    private final Function<String, T> factory;
+
+    /**
+     * @param factory Creates the value for a string not seen before, and may throw if the string is invalid
+     */
+    public Interner(Function<String, T> factory) {
+        this.factory = requireNonNull(factory);
+    }
+
+    /**
+     * Returns the canonical value for {@code value}, creating it on first use.
+     */
+    public T intern(String value) {
+        requireNonNull(value);
+        return pool.computeIfAbsent(value, factory);
+    }
+
+    public int size() {
+        return pool.size();
+    }
+}
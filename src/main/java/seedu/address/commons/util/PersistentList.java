@@ -0,0 +1,300 @@
+package seedu.address.commons.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An immutable list in which every update returns a new list that shares all but O(log n) of its nodes with the
+ * list it was made from, so that many versions of a large list can be kept at little cost.
+ * The list is a balanced binary tree ordered by position, in which each node holds one element.
+ *
+ * Every list also has a generation, one more than the list it was made from. Nodes are tagged with the generation
+ * that created them, so the nodes of a list that are not shared with an older version can be counted without
+ * visiting the shared ones.
+ */
+public final class PersistentList<T> implements Iterable<T> {
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null, 0);
+
+    private final Node<T> root;
+    private final long generation;
+
+    private PersistentList(Node<T> root, long generation) {
+        this.root = root;
+        this.generation = generation;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     */
+    public T get(int index) {
+        Objects.checkIndex(index, size());
+        Node<T> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.value;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns a list with the element at {@code index} replaced by {@code value}.
+     */
+    public PersistentList<T> set(int index, T value) {
+        Objects.checkIndex(index, size());
+        long nextGeneration = generation + 1;
+        return new PersistentList<>(set(root, index, value, nextGeneration), nextGeneration);
+    }
+
+    /**
+     * Returns a list with {@code value} appended.
+     */
+    public PersistentList<T> add(T value) {
+        return add(size(), value);
+    }
+
+    /**
+     * Returns a list with {@code value} inserted at {@code index}.
+     */
+    public PersistentList<T> add(int index, T value) {
+        Objects.checkIndex(index, size() + 1);
+        long nextGeneration = generation + 1;
+        return new PersistentList<>(insert(root, index, value, nextGeneration), nextGeneration);
+    }
+
+    /**
+     * Returns a list without the element at {@code index}.
+     */
+    public PersistentList<T> remove(int index) {
+        Objects.checkIndex(index, size());
+        long nextGeneration = generation + 1;
+        return new PersistentList<>(remove(root, index, nextGeneration), nextGeneration);
+    }
+
+    /**
+     * Returns a list of {@code values}, sharing no nodes with this list but following on from its generation.
+     */
+    public PersistentList<T> withAll(List<? extends T> values) {
+        long nextGeneration = generation + 1;
+        return new PersistentList<>(build(values, 0, values.size(), nextGeneration), nextGeneration);
+    }
+
+    /**
+     * Returns the number of nodes of this list that were created after {@code base}.
+     * {@code base} must be this list or one of the lists it was made from, in which case the result is the number of
+     * nodes not shared with {@code base}. Only those nodes are visited.
+     */
+    public int countNodesSince(PersistentList<T> base) {
+        return countNodesSince(root, base.generation);
+    }
+
+    /**
+     * Returns the elements of this list in a new mutable list.
+     */
+    public List<T> toList() {
+        List<T> list = new ArrayList<>(size());
+        forEach(list::add);
+        return list;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private final Deque<Node<T>> path = new ArrayDeque<>();
+            private Node<T> next = root;
+
+            @Override
+            public boolean hasNext() {
+                return next != null || !path.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                while (next != null) {
+                    path.push(next);
+                    next = next.left;
+                }
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<T> node = path.pop();
+                next = node.right;
+                return node.value;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) { // short circuit if same object
+            return true;
+        }
+        if (!(other instanceof PersistentList)) { // instanceof handles nulls
+            return false;
+        }
+
+        PersistentList<?> otherList = (PersistentList<?>) other;
+        if (size() != otherList.size()) {
+            return false;
+        }
+        Iterator<?> otherIterator = otherList.iterator();
+        for (T value : this) {
+            if (!Objects.equals(value, otherIterator.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (T value : this) {
+            hashCode = 31 * hashCode + Objects.hashCode(value);
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static <T> Node<T> build(List<? extends T> values, int from, int to, long generation) {
+        if (from >= to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node<>(values.get(middle), build(values, from, middle, generation),
+                build(values, middle + 1, to, generation), generation);
+    }
+
+    private static <T> Node<T> set(Node<T> node, int index, T value, long generation) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new Node<>(node.value, set(node.left, index, value, generation), node.right, generation);
+        } else if (index == leftSize) {
+            return new Node<>(value, node.left, node.right, generation);
+        } else {
+            return new Node<>(node.value, node.left, set(node.right, index - leftSize - 1, value, generation),
+                    generation);
+        }
+    }
+
+    private static <T> Node<T> insert(Node<T> node, int index, T value, long generation) {
+        if (node == null) {
+            return new Node<>(value, null, null, generation);
+        }
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            return balance(node.value, insert(node.left, index, value, generation), node.right, generation);
+        }
+        return balance(node.value, node.left, insert(node.right, index - leftSize - 1, value, generation),
+                generation);
+    }
+
+    private static <T> Node<T> remove(Node<T> node, int index, long generation) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(node.value, remove(node.left, index, generation), node.right, generation);
+        } else if (index > leftSize) {
+            return balance(node.value, node.left, remove(node.right, index - leftSize - 1, generation), generation);
+        }
+
+        if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        Node<T> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.value, node.left, remove(node.right, 0, generation), generation);
+    }
+
+    /**
+     * Returns a node holding {@code value} between {@code left} and {@code right}, rotated so that the heights of its
+     * subtrees differ by at most one. The subtrees given must differ in height by at most two.
+     */
+    private static <T> Node<T> balance(T value, Node<T> left, Node<T> right, long generation) {
+        if (height(left) > height(right) + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.value, left.left, new Node<>(value, left.right, right, generation), generation);
+            }
+            Node<T> middle = left.right;
+            return new Node<>(middle.value, new Node<>(left.value, left.left, middle.left, generation),
+                    new Node<>(value, middle.right, right, generation), generation);
+        }
+        if (height(right) > height(left) + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(right.value, new Node<>(value, left, right.left, generation), right.right,
+                        generation);
+            }
+            Node<T> middle = right.left;
+            return new Node<>(middle.value, new Node<>(value, left, middle.left, generation),
+                    new Node<>(right.value, middle.right, right.right, generation), generation);
+        }
+        return new Node<>(value, left, right, generation);
+    }
+
+    private static int countNodesSince(Node<?> node, long generation) {
+        // A node's children are never newer than the node itself, so an old node roots a subtree of old nodes.
+        if (node == null || node.generation <= generation) {
+            return 0;
+        }
+        return 1 + countNodesSince(node.left, generation) + countNodesSince(node.right, generation);
+    }
+
+    private static final class Node<T> {
+        final T value;
+        final Node<T> left;
+        final Node<T> right;
+        final int size;
+        final int height;
+        final long generation;
+
+        Node(T value, Node<T> left, Node<T> right, long generation) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+            this.height = Math.max(height(left), height(right)) + 1;
+            this.generation = generation;
+        }
+    }
+}
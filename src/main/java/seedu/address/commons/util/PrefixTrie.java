@@ -0,0 +1,203 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A compressed prefix trie of terms, matched case-insensitively, for completing terms as they are typed.
+ * Each term is counted, so that the same term can be added once for every place it appears in and stays in the trie
+ * until it has been removed as many times. Chains of nodes with a single child are merged into one edge, and finding
+ * completions only walks the prefix and then as many nodes as are needed for the completions returned, however many
+ * terms there are.
+ */
+public class PrefixTrie {
+    private final Node root = new Node("");
+    private int size;
+
+    /**
+     * Adds an occurrence of {@code term}. The term is completed to as it was first added.
+     */
+    public void add(String term) {
+        requireNonNull(term);
+        String key = toKey(term);
+        if (key.isEmpty()) {
+            return;
+        }
+
+        Node node = root;
+        int matched = 0;
+        while (matched < key.length()) {
+            Node child = node.children.get(key.charAt(matched));
+            if (child == null) {
+                child = new Node(key.substring(matched));
+                node.children.put(key.charAt(matched), child);
+                node = child;
+                break;
+            }
+
+            int common = getCommonPrefixLength(child.label, key, matched);
+            if (common < child.label.length()) {
+                child = split(node, child, common);
+            }
+            node = child;
+            matched += common;
+        }
+
+        if (node.count++ == 0) {
+            node.term = term;
+            size++;
+        }
+    }
+
+    /**
+     * Removes an occurrence of {@code term}, removing the term itself once no occurrence of it is left.
+     * Removing a term that is not in the trie does nothing.
+     */
+    public void remove(String term) {
+        requireNonNull(term);
+        String key = toKey(term);
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        int matched = 0;
+        while (matched < key.length()) {
+            Node child = node.children.get(key.charAt(matched));
+            if (child == null || !key.startsWith(child.label, matched)) {
+                return;
+            }
+            path.push(node);
+            node = child;
+            matched += child.label.length();
+        }
+        if (node.count == 0) {
+            return;
+        }
+
+        if (--node.count == 0) {
+            node.term = null;
+            size--;
+            prune(node, path);
+        }
+    }
+
+    /**
+     * Returns at most {@code limit} terms starting with {@code prefix}, ignoring case, in alphabetical order.
+     */
+    public List<String> getCompletions(String prefix, int limit) {
+        requireNonNull(prefix);
+        String key = toKey(prefix);
+        List<String> completions = new ArrayList<>();
+        Node node = root;
+        int matched = 0;
+        while (matched < key.length()) {
+            Node child = node.children.get(key.charAt(matched));
+            if (child == null) {
+                return completions;
+            }
+            int common = getCommonPrefixLength(child.label, key, matched);
+            if (common < child.label.length() && matched + common < key.length()) {
+                return completions;
+            }
+            node = child;
+            matched += common;
+        }
+
+        collectTerms(node, limit, completions);
+        return completions;
+    }
+
+    /**
+     * Returns the number of distinct terms in the trie.
+     */
+    public int size() {
+        return size;
+    }
+
+    private static String toKey(String term) {
+        return term.toLowerCase(Locale.ROOT);
+    }
+
+    private static int getCommonPrefixLength(String label, String key, int keyStart) {
+        int length = Math.min(label.length(), key.length() - keyStart);
+        int common = 0;
+        while (common < length && label.charAt(common) == key.charAt(keyStart + common)) {
+            common++;
+        }
+        return common;
+    }
+
+    /**
+     * Splits the edge from {@code parent} to {@code child} after its first {@code length} characters, and returns
+     * the node inserted there.
+     */
+    private static Node split(Node parent, Node child, int length) {
+        Node middle = new Node(child.label.substring(0, length));
+        child.label = child.label.substring(length);
+        middle.children.put(child.label.charAt(0), child);
+        parent.children.put(middle.label.charAt(0), middle);
+        return middle;
+    }
+
+    /**
+     * Removes {@code node}, which no longer holds a term, if it has no children, or merges it with its only child.
+     * The parent left with neither a term nor more than one child is then merged with that child in turn.
+     */
+    private void prune(Node node, Deque<Node> path) {
+        Node parent = path.pop();
+        if (node.children.isEmpty()) {
+            parent.children.remove(node.label.charAt(0));
+            if (parent != root && parent.term == null && parent.children.size() == 1) {
+                mergeWithOnlyChild(parent);
+            }
+        } else if (node.children.size() == 1) {
+            mergeWithOnlyChild(node);
+        }
+    }
+
+    private static void mergeWithOnlyChild(Node node) {
+        Node child = node.children.values().iterator().next();
+        node.label = node.label + child.label;
+        node.term = child.term;
+        node.count = child.count;
+        node.children.clear();
+        node.children.putAll(child.children);
+    }
+
+    /**
+     * Adds the terms under {@code node}, in alphabetical order, to {@code terms} until it holds {@code limit} terms.
+     */
+    private static void collectTerms(Node node, int limit, List<String> terms) {
+        if (terms.size() >= limit) {
+            return;
+        }
+        if (node.term != null) {
+            terms.add(node.term);
+        }
+        for (Node child : node.children.values()) {
+            if (terms.size() >= limit) {
+                return;
+            }
+            collectTerms(child, limit, terms);
+        }
+    }
+
+    /**
+     * A node reached by an edge of one or more characters, holding a term if one ends there.
+     */
+    private static class Node {
+        private final Map<Character, Node> children = new TreeMap<>();
+        private String label;
+        private String term;
+        private int count;
+
+        Node(String label) {
+            this.label = label;
+        }
+    }
+}
@@ -5,6 +5,8 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.text.CollationKey;
+import java.text.Collator;
 import java.util.Arrays;
 
 /**
@@ -12,6 +14,9 @@ import java.util.Arrays;
  */
 public class StringUtil {
 
+    /** Collator of the default locale, which must be synchronized on as collators are not thread-safe. */
+    private static final Collator COLLATOR = createCollator();
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -48,6 +53,24 @@ public class StringUtil {
         return t.getMessage() + "\n" + sw.toString();
     }
 
+    /**
+     * Returns the key that sorts {@code s} by the conventions of the default locale, ignoring case.
+     * Comparing two keys is much cheaper than collating the strings themselves, so keys are worth keeping for strings
+     * that are compared often, such as the fields persons are sorted by.
+     */
+    public static CollationKey getCollationKey(String s) {
+        requireNonNull(s);
+        synchronized (COLLATOR) {
+            return COLLATOR.getCollationKey(s);
+        }
+    }
+
+    private static Collator createCollator() {
+        Collator collator = Collator.getInstance();
+        collator.setStrength(Collator.SECONDARY);
+        return collator;
+    }
+
     /**
      * Returns true if {@code s} represents a non-zero unsigned integer
      * e.g. 1, 2, 3, ..., {@code Integer.MAX_VALUE} <br>
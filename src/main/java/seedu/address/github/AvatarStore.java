@@ -0,0 +1,272 @@
+package seedu.address.github;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Stores the avatars of GitHub users in a directory, with each image saved once under the hash of its content.
+ * An index from username to hash is read once when the store is created, so finding a user's avatar does not touch
+ * the file system, and users with the same image share one file.
+ * Avatars of users that are no longer in the address book are removed from a background thread.
+ */
+public class AvatarStore {
+    public static final String INDEX_FILE_NAME = "index.json";
+
+    private static final String IMAGE_EXTENSION = ".png";
+    private static final Pattern HASHED_IMAGE_NAME = Pattern.compile("[0-9a-f]{64}\\" + IMAGE_EXTENSION);
+    private static final Logger logger = LogsCenter.getLogger(AvatarStore.class);
+
+    private static AvatarStore defaultStore;
+
+    private final Path directory;
+    private final Path indexFile;
+    private final Map<String, String> hashesByUsername = new ConcurrentHashMap<>();
+    // The generation at which each user's avatar was last put, so that a user put after the usernames in use were
+    // taken is not mistaken for an orphan. Users read from the index are of generation 0.
+    private final Map<String, Long> generationsByUsername = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicBoolean isSavePending = new AtomicBoolean();
+    // Held for reading while an avatar is saved, and for writing while orphans are removed, so that an image file
+    // is not deleted between being written and being added to the index.
+    private final ReadWriteLock orphanRemovalLock = new ReentrantReadWriteLock();
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "avatar-store");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Creates a store of the avatars in {@code directory}, reading its index.
+     * Avatars saved by username before the index existed are moved into the store.
+     */
+    public AvatarStore(Path directory) {
+        this.directory = requireNonNull(directory);
+        this.indexFile = directory.resolve(INDEX_FILE_NAME);
+        readIndex();
+    }
+
+    /**
+     * Returns the store shared across the application.
+     * Unless another store has been set, it is the {@code images} directory next to the default data file.
+     */
+    public static synchronized AvatarStore getDefaultStore() {
+        if (defaultStore == null) {
+            defaultStore = new AvatarStore(new UserPrefs().getAddressBookFilePath().resolveSibling("images"));
+        }
+        return defaultStore;
+    }
+
+    public static synchronized void setDefaultStore(AvatarStore store) {
+        defaultStore = requireNonNull(store);
+    }
+
+    /**
+     * Returns the file holding the avatar of {@code username}, if one has been saved.
+     */
+    public Optional<Path> getAvatarPath(String username) {
+        requireNonNull(username);
+        return Optional.ofNullable(hashesByUsername.get(username)).map(this::getImagePath);
+    }
+
+    /**
+     * Saves {@code image} as the avatar of {@code username}, writing it only if no user has the same image yet.
+     * The index is saved from a background thread shortly after.
+     *
+     * @return File holding the avatar
+     * @throws IOException if the image could not be written
+     */
+    public Path put(String username, byte[] image) throws IOException {
+        requireNonNull(username);
+        requireNonNull(image);
+        String hash = hash(image);
+        Path imagePath = getImagePath(hash);
+        orphanRemovalLock.readLock().lock();
+        try {
+            if (!Files.isRegularFile(imagePath)) {
+                writeImage(imagePath, image);
+            }
+            generationsByUsername.put(username, generation.incrementAndGet());
+            if (!hash.equals(hashesByUsername.put(username, hash))) {
+                scheduleSave();
+            }
+        } finally {
+            orphanRemovalLock.readLock().unlock();
+        }
+        return imagePath;
+    }
+
+    private void writeImage(Path imagePath, byte[] image) throws IOException {
+        Files.createDirectories(directory);
+        if (Files.isDirectory(imagePath)) {
+            Files.delete(imagePath);
+        }
+        Path tempFile = Files.createTempFile(directory, imagePath.getFileName().toString(), ".tmp");
+        Files.write(tempFile, image);
+        Files.move(tempFile, imagePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Removes, from a background thread, the avatars of users not in {@code usernamesInUse}, deleting the image
+     * files that no user is left with. Avatars saved after this is called are kept, as {@code usernamesInUse} may
+     * have been taken before their users were added.
+     */
+    public Future<?> removeOrphansAsync(Collection<String> usernamesInUse) {
+        Set<String> usernames = new HashSet<>(usernamesInUse);
+        long usernamesGeneration = generation.get();
+        return worker.submit(() -> removeOrphans(usernames, usernamesGeneration));
+    }
+
+    /**
+     * Removes the avatars of users not in {@code usernamesInUse} that were last saved no later than
+     * {@code usernamesGeneration}.
+     */
+    void removeOrphans(Set<String> usernamesInUse, long usernamesGeneration) {
+        orphanRemovalLock.writeLock().lock();
+        try {
+            removeOrphansLocked(usernamesInUse, usernamesGeneration);
+        } finally {
+            orphanRemovalLock.writeLock().unlock();
+        }
+    }
+
+    private void removeOrphansLocked(Set<String> usernamesInUse, long usernamesGeneration) {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        boolean isIndexChanged = hashesByUsername.keySet().removeIf(username -> !usernamesInUse.contains(username)
+            && generationsByUsername.getOrDefault(username, 0L) <= usernamesGeneration);
+        generationsByUsername.keySet().retainAll(hashesByUsername.keySet());
+        Set<String> hashesInUse = new HashSet<>(hashesByUsername.values());
+        int removedCount = 0;
+        try (DirectoryStream<Path> images = Files.newDirectoryStream(directory, "*" + IMAGE_EXTENSION)) {
+            for (Path image : images) {
+                String fileName = image.getFileName().toString();
+                String hash = fileName.substring(0, fileName.length() - IMAGE_EXTENSION.length());
+                if (!hashesInUse.contains(hash)) {
+                    Files.deleteIfExists(image);
+                    removedCount++;
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to remove unused avatars from " + directory + ": " + e);
+        }
+
+        if (isIndexChanged) {
+            saveIndex();
+        }
+        if (removedCount > 0) {
+            logger.info("Removed " + removedCount + " unused avatars");
+        }
+    }
+
+    private Path getImagePath(String hash) {
+        return directory.resolve(hash + IMAGE_EXTENSION);
+    }
+
+    private void readIndex() {
+        try {
+            Optional<AvatarIndex> index = JsonUtil.readJsonFile(indexFile, AvatarIndex.class);
+            if (index.isPresent()) {
+                hashesByUsername.putAll(index.get().avatars);
+                return;
+            }
+        } catch (DataConversionException e) {
+            logger.warning("Avatar index " + indexFile + " could not be read. Avatars will be downloaded again");
+            return;
+        }
+        importAvatarsSavedByUsername();
+    }
+
+    /**
+     * Moves avatars saved as {@code <username>.png} into the store, as they were before the store was added.
+     */
+    private void importAvatarsSavedByUsername() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (DirectoryStream<Path> images = Files.newDirectoryStream(directory, "*" + IMAGE_EXTENSION)) {
+            for (Path image : images) {
+                String fileName = image.getFileName().toString();
+                if (HASHED_IMAGE_NAME.matcher(fileName).matches() || !Files.isRegularFile(image)) {
+                    continue;
+                }
+                put(fileName.substring(0, fileName.length() - IMAGE_EXTENSION.length()), Files.readAllBytes(image));
+                Files.delete(image);
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to move avatars in " + directory + " into the avatar store: " + e);
+        }
+    }
+
+    private void scheduleSave() {
+        if (isSavePending.compareAndSet(false, true)) {
+            worker.execute(() -> {
+                isSavePending.set(false);
+                saveIndex();
+            });
+        }
+    }
+
+    private void saveIndex() {
+        AvatarIndex index = new AvatarIndex();
+        index.avatars.putAll(hashesByUsername);
+        try {
+            Files.createDirectories(directory);
+            JsonUtil.saveJsonFile(index, indexFile);
+        } catch (IOException e) {
+            logger.warning("Failed to save avatar index " + indexFile + ": " + e);
+        }
+    }
+
+    /**
+     * Returns the SHA-256 hash of {@code content} in hexadecimal.
+     */
+    static String hash(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * The index as it is saved in {@link #INDEX_FILE_NAME}.
+     */
+    private static class AvatarIndex {
+        private final Map<String, String> avatars = new TreeMap<>();
+    }
+}
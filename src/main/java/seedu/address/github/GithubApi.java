@@ -2,11 +2,16 @@ package seedu.address.github;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import kong.unirest.Config;
-import kong.unirest.HttpRequestSummary;
-import kong.unirest.HttpResponse;
-import kong.unirest.Interceptor;
-import kong.unirest.UnirestInstance;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.github.exceptions.NetworkConnectionException;
 import seedu.address.github.exceptions.UserInvalidException;
 import seedu.address.model.person.github.User;
@@ -15,47 +20,156 @@ import seedu.address.model.person.github.User;
  * Class representing a singleton GitHub API wrapper
  */
 public class GithubApi {
-    private final UnirestInstance unirest;
+    private static final Logger logger = LogsCenter.getLogger(GithubApi.class);
+
+    private final GithubHttpClient client;
+    private final GithubGraphqlApi graphqlApi;
 
     public GithubApi() {
-        unirest = getDefaultUnirestInstance();
-    }
-
-    public static UnirestInstance getDefaultUnirestInstance() {
-        Config config = new Config().connectTimeout(2000)
-            .interceptor(new Interceptor() {
-                @Override
-                public void onResponse(HttpResponse<?> response, HttpRequestSummary request, Config config)
-                        throws UserInvalidException, NetworkConnectionException {
-                    if (response.getStatus() == 404) {
-                        throw new UserInvalidException(
-                            "User does not exist. Please provide an existing GitHub username.");
-                    } else if (response.getStatus() == 403) {
-                        throw new NetworkConnectionException(
-                            "Unable to get user from GitHub as too many calls have been made. Please wait a while "
-                                + "before trying this request again.");
-                    }
-                }
+        this(GithubHttpClient.getDefaultClient());
+    }
 
-                @Override
-                public HttpResponse<?> onFail(Exception e, HttpRequestSummary request, Config config)
-                        throws UserInvalidException, NetworkConnectionException {
-                    if (e instanceof NetworkConnectionException) {
-                        throw new NetworkConnectionException(e.getMessage());
-                    } else if (e instanceof UserInvalidException) {
-                        throw new UserInvalidException(e.getMessage());
-                    }
-                    throw new NetworkConnectionException("Error while getting request, unable to get results.");
-                }
-            });
-        return new UnirestInstance(config);
+    public GithubApi(GithubHttpClient client) {
+        this(client, null);
+    }
+
+    /**
+     * @param client     HTTP client used to carry out all requests
+     * @param graphqlApi Batched GraphQL API preferred for fetching many users at once, or null to only use the
+     *                   REST API
+     */
+    public GithubApi(GithubHttpClient client, GithubGraphqlApi graphqlApi) {
+        requireAllNonNull(client);
+        this.client = client;
+        this.graphqlApi = graphqlApi;
     }
 
     public User getUser(String username) throws UserInvalidException, NetworkConnectionException {
+        return GithubHttpClient.await(getUserAsync(username));
+    }
+
+    /**
+     * Fetches a GitHub user without blocking.
+     * The user information and repositories are requested concurrently, and the avatar download starts as soon
+     * as its URL is known, while the repositories may still be in flight.
+     *
+     * @param username Username of the GitHub user to fetch
+     * @return Future completing with the user once all of its data has been received
+     */
+    public CompletableFuture<User> getUserAsync(String username) {
         requireAllNonNull(username);
-        UserInfoWrapper userInfoWrapper = new UserInfoWrapper(username, unirest);
-        UserReposWrapper userReposWrapper = new UserReposWrapper(username, unirest);
+        CompletableFuture<UserInfoWrapper> userInfo = UserInfoWrapper.fetch(username, client);
+        CompletableFuture<UserReposWrapper> userRepos = UserReposWrapper.fetch(username, client);
+        CompletableFuture<Void> avatar = userInfo.thenCompose(UserInfoWrapper::downloadAvatarAsync);
+
+        return CompletableFuture.allOf(userInfo, userRepos, avatar)
+            .thenApply(unused -> new User(username, userInfo.join(), userRepos.join()));
+    }
+
+    public User refreshUser(User knownUser) throws UserInvalidException, NetworkConnectionException {
+        return GithubHttpClient.await(refreshUserAsync(knownUser));
+    }
 
-        return new User(username, userInfoWrapper, userReposWrapper);
+    /**
+     * Refreshes a known GitHub user without blocking.
+     * Only the repositories updated since the latest update in {@code knownUser}'s repositories are requested,
+     * and they are merged into its known repositories, dropping those that are no longer on GitHub.
+     *
+     * @param knownUser GitHub user as of the last refresh
+     * @return Future completing with the refreshed user once all of its data has been received
+     */
+    public CompletableFuture<User> refreshUserAsync(User knownUser) {
+        requireAllNonNull(knownUser);
+        String username = knownUser.getUsername();
+        CompletableFuture<UserInfoWrapper> userInfo = UserInfoWrapper.fetch(username, client);
+        CompletableFuture<UserReposWrapper> userRepos =
+            UserReposWrapper.fetchUpdatedSince(username, knownUser.getReposLastUpdated().orElse(null), client);
+        CompletableFuture<Void> avatar = userInfo.thenCompose(UserInfoWrapper::downloadAvatarAsync);
+
+        return CompletableFuture.allOf(userInfo, userRepos, avatar)
+            .thenApply(unused -> new User(username, userInfo.join(), userRepos.join(), knownUser.getRepoList()));
+    }
+
+    /**
+     * Refreshes several known GitHub users at once, such as when refreshing every contact.
+     * The batched GraphQL API is used when available, falling back to concurrent incremental REST requests over
+     * the shared connection pool otherwise.
+     *
+     * @param knownUsers GitHub users as of the last refresh
+     * @return Future completing with the refreshed users, keyed by username.
+     *     Users that are invalid or could not be fetched are left out, so that callers can retry them one by one.
+     */
+    public CompletableFuture<Map<String, User>> refreshUsersAsync(Collection<User> knownUsers) {
+        requireAllNonNull(knownUsers);
+        Map<String, User> knownUsersByUsername = new LinkedHashMap<>();
+        knownUsers.stream()
+            .filter(user -> User.isValidUsername(user.getUsername()))
+            .forEach(user -> knownUsersByUsername.putIfAbsent(user.getUsername(), user));
+        if (graphqlApi == null || knownUsersByUsername.isEmpty()) {
+            return refreshUsersOverRestAsync(knownUsersByUsername);
+        }
+
+        return graphqlApi.getUsersAsync(knownUsersByUsername.keySet())
+            .thenCompose(userData -> toUsersAsync(userData, knownUsersByUsername))
+            .handle((users, e) -> {
+                if (e == null) {
+                    return CompletableFuture.completedFuture(users);
+                }
+                logger.warning("Batched GitHub query failed, falling back to REST requests: " + e.getMessage());
+                return refreshUsersOverRestAsync(knownUsersByUsername);
+            })
+            .thenCompose(users -> users);
+    }
+
+    private CompletableFuture<Map<String, User>> refreshUsersOverRestAsync(Map<String, User> knownUsers) {
+        Map<String, CompletableFuture<User>> users = new LinkedHashMap<>();
+        knownUsers.forEach((username, knownUser) ->
+            users.put(username, refreshUserAsync(knownUser).handle((user, e) -> user)));
+        return collectFetchedUsers(users);
+    }
+
+    /**
+     * Maps users received from a batched query into {@code User}s, downloading their avatars concurrently.
+     * A user whose batch of repositories might not reach back to its last refresh is refreshed over REST instead,
+     * which pages until it does.
+     */
+    private CompletableFuture<Map<String, User>> toUsersAsync(Map<String, UserData> userData,
+                                                              Map<String, User> knownUsers) {
+        Map<String, CompletableFuture<User>> users = new LinkedHashMap<>();
+        userData.forEach((username, data) -> {
+            User knownUser = knownUsers.get(username);
+            if (mayHaveMoreUpdatedRepos(data.getRepos(), knownUser)) {
+                users.put(username, refreshUserAsync(knownUser).handle((user, e) -> user));
+                return;
+            }
+
+            UserInfoWrapper userInfoWrapper = UserInfoWrapper.of(data.getUserInfo(), client);
+            UserReposWrapper userReposWrapper = UserReposWrapper.of(username, data.getRepos(), client);
+            users.put(username, userInfoWrapper.downloadAvatarAsync()
+                .thenApply(unused -> new User(username, userInfoWrapper, userReposWrapper, knownUser.getRepoList()))
+                .handle((user, e) -> user));
+        });
+        return collectFetchedUsers(users);
+    }
+
+    private static boolean mayHaveMoreUpdatedRepos(List<RepoInfo> repos, User knownUser) {
+        Optional<LocalDateTime> watermark = knownUser.getReposLastUpdated();
+        return watermark.isPresent()
+            && repos.size() >= GithubGraphqlApi.REPOS_PER_USER
+            && repos.stream().allMatch(repo -> repo.getLastUpdated().isAfter(watermark.get()));
+    }
+
+    private static CompletableFuture<Map<String, User>> collectFetchedUsers(
+            Map<String, CompletableFuture<User>> users) {
+        return CompletableFuture.allOf(users.values().toArray(new CompletableFuture[0]))
+            .thenApply(unused -> {
+                Map<String, User> fetchedUsers = new LinkedHashMap<>();
+                users.forEach((username, user) -> {
+                    if (user.join() != null) {
+                        fetchedUsers.put(username, user.join());
+                    }
+                });
+                return fetchedUsers;
+            });
     }
 }
@@ -0,0 +1,136 @@
+package seedu.address.github;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.github.exceptions.ResponseParseException;
+import seedu.address.github.exceptions.UserInvalidException;
+import seedu.address.model.person.github.User;
+
+/**
+ * Fetches many GitHub users in few round trips through the GitHub GraphQL API.
+ * Each request is a single query made up of one aliased {@code user} sub-query per username, requesting the
+ * profile fields and the most recently updated repositories of every user in the batch.
+ */
+public class GithubGraphqlApi {
+    public static final String DEFAULT_ENDPOINT = "https://api.github.com/graphql";
+    public static final int DEFAULT_BATCH_SIZE = 50;
+    public static final String MESSAGE_CONSTRAINTS = "Batch size should be a positive number.";
+    public static final int REPOS_PER_USER = 30;
+
+    private static final String ALIAS_PREFIX = "u";
+    private static final String GRAPHQL_ROUTE = "/graphql";
+    private static final String USER_FRAGMENT = "fragment UserFields on User { login name email location avatarUrl "
+        + "url repositories(first: " + REPOS_PER_USER + ", ownerAffiliations: OWNER, "
+        + "orderBy: {field: UPDATED_AT, direction: DESC}) { nodes { databaseId name url description updatedAt } } }";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final GithubHttpClient client;
+    private final String endpoint;
+    private final String token;
+    private final int batchSize;
+
+    /**
+     * @param client    HTTP client used to carry out all requests
+     * @param endpoint  URL of the GraphQL endpoint
+     * @param token     Access token used to authorise requests, as GitHub does not serve GraphQL anonymously
+     * @param batchSize Maximum number of users requested in a single query
+     */
+    public GithubGraphqlApi(GithubHttpClient client, String endpoint, String token, int batchSize) {
+        requireAllNonNull(client, endpoint, token);
+        checkArgument(batchSize > 0, MESSAGE_CONSTRAINTS);
+        this.client = client;
+        this.endpoint = endpoint;
+        this.token = token;
+        this.batchSize = batchSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Fetches the given users, splitting them into batches of at most {@code batchSize} users per query.
+     * Batches are sent concurrently.
+     *
+     * @param usernames Usernames of the GitHub users to fetch; each must be a valid username
+     * @return Future completing with the users found, keyed by the username they were requested with.
+     *     Users that do not exist are left out.
+     */
+    public CompletableFuture<Map<String, UserData>> getUsersAsync(Collection<String> usernames) {
+        requireAllNonNull(usernames);
+        List<String> distinctUsernames = new ArrayList<>(new LinkedHashSet<>(usernames));
+        for (String username : distinctUsernames) {
+            if (!User.isValidUsername(username)) {
+                throw new UserInvalidException(User.MESSAGE_CONSTRAINTS);
+            }
+        }
+
+        List<CompletableFuture<Map<String, UserData>>> batches = new ArrayList<>();
+        for (int start = 0; start < distinctUsernames.size(); start += batchSize) {
+            List<String> batch = distinctUsernames.subList(start,
+                Math.min(start + batchSize, distinctUsernames.size()));
+            batches.add(getBatchAsync(batch));
+        }
+
+        return CompletableFuture.allOf(batches.toArray(new CompletableFuture[0]))
+            .thenApply(unused -> {
+                Map<String, UserData> users = new LinkedHashMap<>();
+                batches.forEach(batch -> users.putAll(batch.join()));
+                return users;
+            });
+    }
+
+    private CompletableFuture<Map<String, UserData>> getBatchAsync(List<String> usernames) {
+        Map<String, String> usernamesByAlias = new HashMap<>();
+        for (int i = 0; i < usernames.size(); i++) {
+            usernamesByAlias.put(ALIAS_PREFIX + i, usernames.get(i));
+        }
+
+        return client.postJson(endpoint, GRAPHQL_ROUTE, createRequestBody(usernames), token,
+                GithubResponseParser::parseGraphqlUsers)
+            .thenApply(usersByAlias -> usersByAlias.entrySet().stream()
+                .filter(entry -> usernamesByAlias.containsKey(entry.getKey()))
+                .collect(Collectors.toMap(entry -> usernamesByAlias.get(entry.getKey()), Map.Entry::getValue,
+                    (first, second) -> first, LinkedHashMap::new)));
+    }
+
+    /**
+     * Builds the query for {@code usernames}, aliasing the sub-query of the i-th user as {@code u<i>}.
+     */
+    static String createQuery(List<String> usernames) {
+        StringBuilder query = new StringBuilder("query {");
+        for (int i = 0; i < usernames.size(); i++) {
+            query.append(' ').append(ALIAS_PREFIX).append(i)
+                .append(": user(login: \"").append(usernames.get(i)).append("\") { ...UserFields }");
+        }
+        return query.append(" } ").append(USER_FRAGMENT).toString();
+    }
+
+    private static String createRequestBody(List<String> usernames) {
+        StringWriter body = new StringWriter();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(body)) {
+            generator.writeStartObject();
+            generator.writeStringField("query", createQuery(usernames));
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new ResponseParseException("Unable to create GraphQL request.", e);
+        }
+        return body.toString();
+    }
+}
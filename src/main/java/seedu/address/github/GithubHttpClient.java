@@ -0,0 +1,314 @@
+package seedu.address.github;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import seedu.address.commons.core.PerformanceStats;
+import seedu.address.github.exceptions.NetworkConnectionException;
+import seedu.address.github.exceptions.UserInvalidException;
+
+/**
+ * Asynchronous HTTP engine shared by all GitHub requests.
+ * Connections are kept alive and pooled by the underlying {@link HttpClient}, and HTTP/2 is negotiated
+ * where the server supports it so that concurrent requests to the same host are multiplexed.
+ * Streamed response bodies are parsed on a separate pool of threads, as reading them blocks until the worker
+ * threads of the {@link HttpClient} have delivered the bytes.
+ * The number of requests, their latency and the bytes received are recorded in the {@link PerformanceStats}, and
+ * each request is also recorded as a {@link GithubRequestEvent} for Java Flight Recorder.
+ */
+public class GithubHttpClient {
+    private static final Duration CONNECT_TIMEOUT = Duration.ofMillis(2000);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+    private static final int WORKER_THREADS = 4;
+    private static final String ACCEPT_HEADER = "application/vnd.github+json";
+
+    private static GithubHttpClient defaultClient;
+
+    private final HttpClient httpClient;
+    private final Executor parseExecutor;
+    private final PerformanceStats stats = PerformanceStats.getDefaultStats();
+
+    /**
+     * Creates a client backed by small pools of daemon worker threads.
+     */
+    public GithubHttpClient() {
+        this(HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(CONNECT_TIMEOUT)
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .executor(createWorkerPool("github-http-"))
+            .build(), createWorkerPool("github-parse-"));
+    }
+
+    GithubHttpClient(HttpClient httpClient, Executor parseExecutor) {
+        requireNonNull(httpClient);
+        requireNonNull(parseExecutor);
+        this.httpClient = httpClient;
+        this.parseExecutor = parseExecutor;
+    }
+
+    /**
+     * Returns the client shared across the application, so that all requests reuse the same connection pool.
+     */
+    public static synchronized GithubHttpClient getDefaultClient() {
+        if (defaultClient == null) {
+            defaultClient = new GithubHttpClient();
+        }
+        return defaultClient;
+    }
+
+    private static ExecutorService createWorkerPool(String threadNamePrefix) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(WORKER_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, threadNamePrefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sends a GET request to {@code url} and completes with the response body read by {@code parser}.
+     * The body is streamed to {@code parser} as soon as the response headers have been received, and
+     * {@code parser} is responsible for closing the stream.
+     *
+     * @param route Path of {@code url} with its parameters left as placeholders, such as {@code /users/{user}},
+     *     by which the request is recorded
+     */
+    public <T> CompletableFuture<T> getStream(String url, String route, Function<InputStream, T> parser) {
+        requireNonNull(parser);
+        return get(url, route, BodyHandlers.ofInputStream()).thenApplyAsync(parser, parseExecutor);
+    }
+
+    /**
+     * Sends a GET request to {@code url} and completes with the raw response body.
+     *
+     * @param route Path of {@code url} with its parameters left as placeholders, by which the request is recorded
+     */
+    public CompletableFuture<byte[]> getBytes(String url, String route) {
+        return get(url, route, BodyHandlers.ofByteArray());
+    }
+
+    /**
+     * Sends a POST request with a JSON {@code body} to {@code url}, authorised with the bearer {@code token},
+     * and completes with the response body read by {@code parser}, which is responsible for closing the stream.
+     *
+     * @param route Path of {@code url} with its parameters left as placeholders, by which the request is recorded
+     */
+    public <T> CompletableFuture<T> postJson(String url, String route, String body, String token,
+                                             Function<InputStream, T> parser) {
+        requireNonNull(body);
+        requireNonNull(token);
+        requireNonNull(parser);
+        return send(url, route, builder -> builder
+            .header("Content-Type", "application/json")
+            .header("Authorization", "Bearer " + token)
+            .POST(HttpRequest.BodyPublishers.ofString(body)), BodyHandlers.ofInputStream())
+            .thenApplyAsync(parser, parseExecutor);
+    }
+
+    private <T> CompletableFuture<T> get(String url, String route, BodyHandler<T> bodyHandler) {
+        return send(url, route, HttpRequest.Builder::GET, bodyHandler);
+    }
+
+    private <T> CompletableFuture<T> send(String url, String route, UnaryOperator<HttpRequest.Builder> method,
+                                          BodyHandler<T> bodyHandler) {
+        requireNonNull(url);
+        requireNonNull(route);
+        HttpRequest request;
+        try {
+            request = method.apply(HttpRequest.newBuilder(URI.create(url))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", ACCEPT_HEADER))
+                .build();
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(
+                new NetworkConnectionException("Error while getting request, unable to get results.", e));
+        }
+
+        GithubRequestEvent event = new GithubRequestEvent();
+        event.begin();
+        event.method = request.method();
+        event.route = route;
+        long startTime = System.nanoTime();
+        return httpClient.sendAsync(request, bodyHandler)
+            .handle((response, throwable) -> {
+                stats.recordSince("github.request", startTime);
+                stats.increment("github.requests", 1);
+                if (throwable != null) {
+                    stats.increment("github.failures", 1);
+                    commit(event, 0);
+                    throw toGithubException(throwable);
+                }
+                event.status = response.statusCode();
+                try {
+                    checkStatus(response);
+                } catch (RuntimeException e) {
+                    stats.increment("github.failures", 1);
+                    closeQuietly(response.body());
+                    commit(event, response.body() instanceof byte[] ? ((byte[]) response.body()).length : 0);
+                    throw e;
+                }
+                return countBytes(response.body(), event);
+            });
+    }
+
+    /**
+     * Commits {@code event} once its response body has been received, or discarded, with {@code bytes} being the
+     * number of bytes of the body received.
+     */
+    private static void commit(GithubRequestEvent event, long bytes) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.bytes = bytes;
+            event.commit();
+        }
+    }
+
+    private static void checkStatus(HttpResponse<?> response)
+            throws UserInvalidException, NetworkConnectionException {
+        if (response.statusCode() == 404) {
+            throw new UserInvalidException(
+                "User does not exist. Please provide an existing GitHub username.");
+        } else if (response.statusCode() == 403) {
+            throw new NetworkConnectionException(
+                "Unable to get user from GitHub as too many calls have been made. Please wait a while "
+                    + "before trying this request again.");
+        } else if (response.statusCode() >= 400) {
+            throw new NetworkConnectionException(
+                "GitHub responded with status " + response.statusCode() + ", unable to get results.");
+        }
+    }
+
+    /**
+     * Counts the bytes of {@code body} towards the bytes received from GitHub, and commits {@code event} once the
+     * whole body is received. A stream is counted as it is read, until it is read to the end or closed.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T countBytes(T body, GithubRequestEvent event) {
+        if (body instanceof InputStream) {
+            return (T) new CountingInputStream((InputStream) body, event);
+        }
+        long bytes = body instanceof byte[] ? ((byte[]) body).length : 0;
+        stats.increment("github.bytes", bytes);
+        commit(event, bytes);
+        return body;
+    }
+
+    private static void closeQuietly(Object body) {
+        if (body instanceof Closeable) {
+            try {
+                ((Closeable) body).close();
+            } catch (IOException e) {
+                // the response is already being discarded
+            }
+        }
+    }
+
+    private static RuntimeException toGithubException(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+            ? throwable.getCause()
+            : throwable;
+        if (cause instanceof UserInvalidException || cause instanceof NetworkConnectionException) {
+            return (RuntimeException) cause;
+        }
+        return new NetworkConnectionException("Error while getting request, unable to get results.", cause);
+    }
+
+    /**
+     * Blocks until {@code future} completes and returns its result.
+     * Failures are rethrown as the unchecked exception that caused them, so that callers of the blocking API
+     * see the same exceptions as before.
+     */
+    public static <T> T await(CompletableFuture<T> future) {
+        requireNonNull(future);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NetworkConnectionException("Interrupted while waiting for GitHub.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw toGithubException(e.getCause());
+        }
+    }
+
+    /**
+     * A stream that adds the number of bytes read from it to the bytes received from GitHub, and commits the event of
+     * its request with the number of bytes read once it is read to the end or closed.
+     */
+    private class CountingInputStream extends FilterInputStream {
+        private final GithubRequestEvent event;
+        private long bytesRead;
+        private boolean isDone;
+
+        CountingInputStream(InputStream in, GithubRequestEvent event) {
+            super(in);
+            this.event = event;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count(1);
+            } else {
+                finish();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int count = super.read(b, off, len);
+            if (count > 0) {
+                count(count);
+            } else if (count < 0) {
+                finish();
+            }
+            return count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                finish();
+            }
+        }
+
+        private void count(int bytes) {
+            bytesRead += bytes;
+            stats.increment("github.bytes", bytes);
+        }
+
+        private void finish() {
+            if (!isDone) {
+                isDone = true;
+                commit(event, bytesRead);
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.address.github;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event covering one request to GitHub, from sending it until its response body has been read
+ * to the end or discarded.
+ */
+@Name("seedu.address.GithubRequest")
+@Label("GitHub Request")
+@Category({"GithubContact", "GitHub"})
+@Description("A request to the GitHub API, until its response body is read to the end or discarded")
+class GithubRequestEvent extends Event {
+    @Label("Method")
+    String method;
+
+    @Label("Route")
+    @Description("Path of the requested URL with its parameters as placeholders, such as /users/{user}")
+    String route;
+
+    @Label("Status")
+    @Description("HTTP status of the response, or 0 if no response was received")
+    int status;
+
+    @Label("Response Size")
+    @Description("Number of bytes of the response body received")
+    @DataAmount
+    long bytes;
+}
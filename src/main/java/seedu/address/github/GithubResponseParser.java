@@ -0,0 +1,260 @@
+package seedu.address.github;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.github.exceptions.ResponseParseException;
+
+/**
+ * Streams GitHub API responses and extracts only the fields used by the application.
+ * No intermediate tree is built, so unused fields are skipped without being materialised.
+ */
+public final class GithubResponseParser {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final FieldNames REST_FIELDS = new FieldNames("login", "name", "email", "location",
+        "avatar_url", "html_url", "id", "description", "updated_at", null);
+    private static final FieldNames GRAPHQL_FIELDS = new FieldNames("login", "name", "email", "location",
+        "avatarUrl", "url", "databaseId", "description", "updatedAt", "repositories");
+    private static final String GRAPHQL_DATA_KEY = "data";
+    private static final String GRAPHQL_NODES_KEY = "nodes";
+
+    private static final String MESSAGE_PARSE_FAILURE = "Unable to parse API result.";
+
+    private GithubResponseParser() {}
+
+    /**
+     * Parses the response of a GitHub user request. The stream is closed once parsing is done.
+     *
+     * @throws ResponseParseException if the response is not a user object with the required fields
+     */
+    public static UserInfo parseUserInfo(InputStream response) throws ResponseParseException {
+        requireNonNull(response);
+        try (JsonParser parser = JSON_FACTORY.createParser(response)) {
+            expect(parser.nextToken(), JsonToken.START_OBJECT);
+            return readUser(parser, REST_FIELDS).getUserInfo();
+        } catch (IOException | IllegalArgumentException | DateTimeParseException e) {
+            throw new ResponseParseException(MESSAGE_PARSE_FAILURE, e);
+        }
+    }
+
+    /**
+     * Parses the response of a GitHub user repositories request. The stream is closed once parsing is done.
+     *
+     * @throws ResponseParseException if the response is not an array of repositories with the required fields
+     */
+    public static List<RepoInfo> parseRepos(InputStream response) throws ResponseParseException {
+        requireNonNull(response);
+        try (JsonParser parser = JSON_FACTORY.createParser(response)) {
+            expect(parser.nextToken(), JsonToken.START_ARRAY);
+            return readRepos(parser, REST_FIELDS);
+        } catch (IOException | IllegalArgumentException | DateTimeParseException e) {
+            throw new ResponseParseException(MESSAGE_PARSE_FAILURE, e);
+        }
+    }
+
+    /**
+     * Parses the response of a GraphQL query made up of aliased {@code user} sub-queries.
+     * Users that do not exist are returned as {@code null} by GitHub and are left out of the result.
+     * The stream is closed once parsing is done.
+     *
+     * @return The users found, keyed by the alias of their sub-query
+     * @throws ResponseParseException if the response carries no data or a user lacks the required fields
+     */
+    public static Map<String, UserData> parseGraphqlUsers(InputStream response) throws ResponseParseException {
+        requireNonNull(response);
+        try (JsonParser parser = JSON_FACTORY.createParser(response)) {
+            expect(parser.nextToken(), JsonToken.START_OBJECT);
+            Map<String, UserData> users = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                if (field.equals(GRAPHQL_DATA_KEY) && parser.getCurrentToken() == JsonToken.START_OBJECT) {
+                    users = readAliasedUsers(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            if (users == null) {
+                throw new ResponseParseException(MESSAGE_PARSE_FAILURE);
+            }
+            return users;
+        } catch (IOException | IllegalArgumentException | DateTimeParseException e) {
+            throw new ResponseParseException(MESSAGE_PARSE_FAILURE, e);
+        }
+    }
+
+    private static Map<String, UserData> readAliasedUsers(JsonParser parser) throws IOException {
+        Map<String, UserData> users = new LinkedHashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String alias = parser.getCurrentName();
+            if (parser.nextToken() == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            expect(parser.getCurrentToken(), JsonToken.START_OBJECT);
+            users.put(alias, readUser(parser, GRAPHQL_FIELDS));
+        }
+        return users;
+    }
+
+    private static UserData readUser(JsonParser parser, FieldNames keys) throws IOException {
+        String username = null;
+        String name = null;
+        String email = null;
+        String location = null;
+        String avatarUrl = null;
+        String url = null;
+        List<RepoInfo> repos = new ArrayList<>();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if (field.equals(keys.username)) {
+                username = readString(parser);
+            } else if (field.equals(keys.name)) {
+                name = readString(parser);
+            } else if (field.equals(keys.email)) {
+                email = readString(parser);
+            } else if (field.equals(keys.location)) {
+                location = readString(parser);
+            } else if (field.equals(keys.avatarUrl)) {
+                avatarUrl = readString(parser);
+            } else if (field.equals(keys.url)) {
+                url = readString(parser);
+            } else if (field.equals(keys.repositories)) {
+                repos = readRepoConnection(parser, keys);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (username == null || avatarUrl == null || url == null) {
+            throw new ResponseParseException(MESSAGE_PARSE_FAILURE);
+        }
+        return new UserData(new UserInfo(username, name, email, location, avatarUrl, url), repos);
+    }
+
+    /**
+     * Reads a GraphQL connection object, keeping only the repositories in its {@code nodes} array.
+     */
+    private static List<RepoInfo> readRepoConnection(JsonParser parser, FieldNames keys) throws IOException {
+        expect(parser.getCurrentToken(), JsonToken.START_OBJECT);
+        List<RepoInfo> repos = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if (field.equals(GRAPHQL_NODES_KEY)) {
+                expect(parser.getCurrentToken(), JsonToken.START_ARRAY);
+                repos = readRepos(parser, keys);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return repos;
+    }
+
+    private static List<RepoInfo> readRepos(JsonParser parser, FieldNames keys) throws IOException {
+        List<RepoInfo> repos = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            expect(parser.getCurrentToken(), JsonToken.START_OBJECT);
+            repos.add(readRepo(parser, keys));
+        }
+        return repos;
+    }
+
+    private static RepoInfo readRepo(JsonParser parser, FieldNames keys) throws IOException {
+        Integer id = null;
+        String name = null;
+        String url = null;
+        String description = null;
+        String lastUpdated = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if (field.equals(keys.repoId)) {
+                expect(parser.getCurrentToken(), JsonToken.VALUE_NUMBER_INT);
+                id = parser.getIntValue();
+            } else if (field.equals(keys.name)) {
+                name = readString(parser);
+            } else if (field.equals(keys.url)) {
+                url = readString(parser);
+            } else if (field.equals(keys.description)) {
+                description = readString(parser);
+            } else if (field.equals(keys.lastUpdated)) {
+                lastUpdated = readString(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (id == null || name == null || url == null || lastUpdated == null) {
+            throw new ResponseParseException(MESSAGE_PARSE_FAILURE);
+        }
+        return new RepoInfo(id, name, url, description,
+            LocalDateTime.parse(lastUpdated, DateTimeFormatter.ISO_OFFSET_DATE_TIME));
+    }
+
+    /**
+     * Returns the current string value, or null if the value is a JSON null or empty.
+     * GraphQL reports hidden fields such as private emails as empty strings.
+     */
+    private static String readString(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser.getCurrentToken(), JsonToken.VALUE_STRING);
+        String value = parser.getText();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static void expect(JsonToken actual, JsonToken expected) {
+        if (actual != expected) {
+            throw new ResponseParseException(MESSAGE_PARSE_FAILURE);
+        }
+    }
+
+    /**
+     * Names of the fields read from the REST and GraphQL APIs, which differ in casing and naming.
+     */
+    private static class FieldNames {
+        private final String username;
+        private final String name;
+        private final String email;
+        private final String location;
+        private final String avatarUrl;
+        private final String url;
+        private final String repoId;
+        private final String description;
+        private final String lastUpdated;
+        private final String repositories;
+
+        FieldNames(String username, String name, String email, String location, String avatarUrl, String url,
+                   String repoId, String description, String lastUpdated, String repositories) {
+            this.username = username;
+            this.name = name;
+            this.email = email;
+            this.location = location;
+            this.avatarUrl = avatarUrl;
+            this.url = url;
+            this.repoId = repoId;
+            this.description = description;
+            this.lastUpdated = lastUpdated;
+            this.repositories = repositories;
+        }
+    }
+}
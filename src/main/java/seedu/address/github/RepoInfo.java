@@ -0,0 +1,66 @@
+package seedu.address.github;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Compact representation of the fields of a GitHub repository response that are used by the application.
+ */
+public class RepoInfo {
+    private final int id;
+    private final String name;
+    private final String url;
+    private final String description;
+    private final LocalDateTime lastUpdated;
+
+    /**
+     * Every field except the description must be present and not null.
+     */
+    public RepoInfo(int id, String name, String url, String description, LocalDateTime lastUpdated) {
+        requireAllNonNull(name, url, lastUpdated);
+        this.id = id;
+        this.name = name;
+        this.url = url;
+        this.description = description;
+        this.lastUpdated = lastUpdated;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public Optional<String> getDescription() {
+        return Optional.ofNullable(description);
+    }
+
+    public LocalDateTime getLastUpdated() {
+        return lastUpdated;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+            || (other instanceof RepoInfo)
+            && id == ((RepoInfo) other).id
+            && name.equals(((RepoInfo) other).name)
+            && url.equals(((RepoInfo) other).url)
+            && Objects.equals(description, ((RepoInfo) other).description)
+            && lastUpdated.equals(((RepoInfo) other).lastUpdated);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, name, url, description, lastUpdated);
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.github;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Profile information and repositories of a GitHub user, as received in a single response.
+ */
+public class UserData {
+    private final UserInfo userInfo;
+    private final List<RepoInfo> repos;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public UserData(UserInfo userInfo, List<RepoInfo> repos) {
+        requireAllNonNull(userInfo, repos);
+        this.userInfo = userInfo;
+        this.repos = Collections.unmodifiableList(new ArrayList<>(repos));
+    }
+
+    public UserInfo getUserInfo() {
+        return userInfo;
+    }
+
+    public List<RepoInfo> getRepos() {
+        return repos;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+            || (other instanceof UserData)
+            && userInfo.equals(((UserData) other).userInfo)
+            && repos.equals(((UserData) other).repos);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userInfo, repos);
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.github;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Compact representation of the fields of a GitHub user response that are used by the application.
+ */
+public class UserInfo {
+    private final String username;
+    private final String name;
+    private final String email;
+    private final String location;
+    private final String avatarUrl;
+    private final String url;
+
+    /**
+     * Username, avatar URL and profile URL must be present and not null.
+     */
+    public UserInfo(String username, String name, String email, String location, String avatarUrl, String url) {
+        requireAllNonNull(username, avatarUrl, url);
+        this.username = username;
+        this.name = name;
+        this.email = email;
+        this.location = location;
+        this.avatarUrl = avatarUrl;
+        this.url = url;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public Optional<String> getName() {
+        return Optional.ofNullable(name);
+    }
+
+    public Optional<String> getEmail() {
+        return Optional.ofNullable(email);
+    }
+
+    public Optional<String> getLocation() {
+        return Optional.ofNullable(location);
+    }
+
+    public String getAvatarUrl() {
+        return avatarUrl;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+            || (other instanceof UserInfo)
+            && username.equals(((UserInfo) other).username)
+            && Objects.equals(name, ((UserInfo) other).name)
+            && Objects.equals(email, ((UserInfo) other).email)
+            && Objects.equals(location, ((UserInfo) other).location)
+            && avatarUrl.equals(((UserInfo) other).avatarUrl)
+            && url.equals(((UserInfo) other).url);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(username, name, email, location, avatarUrl, url);
+    }
+}
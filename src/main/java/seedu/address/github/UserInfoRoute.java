@@ -3,12 +3,7 @@ package seedu.address.github;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Objects;
-
-import org.json.JSONException;
-import org.json.JSONObject;
-
-import kong.unirest.UnirestInstance;
-import seedu.address.github.exceptions.ResponseParseException;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Class representing routes taken to get user information
@@ -17,6 +12,8 @@ public final class UserInfoRoute {
     public static final String BASE_GITHUB_URL = "https://api.github.com";
 
     private static final String BASE_GET_USER_PATH = "/users/";
+    private static final String USER_INFO_ROUTE = "/users/{user}";
+    private static final String AVATAR_ROUTE = "/u/{id}";
     private final String path;
 
     private UserInfoRoute(String path) {
@@ -30,24 +27,24 @@ public final class UserInfoRoute {
     }
 
     /**
-     * @param unirest Unirest instance to be used to carry out requests
+     * @param client HTTP client to be used to carry out requests
      * @return Request class pertaining to user information from GitHub
      */
-    public UserInfoRequest createRequest(UnirestInstance unirest) {
-        assert unirest != null : "Unirest instance cannot be null.";
+    public UserInfoRequest createRequest(GithubHttpClient client) {
+        assert client != null : "HTTP client cannot be null.";
 
-        return new UserInfoRequest(unirest, BASE_GITHUB_URL + this.path);
+        return new UserInfoRequest(client, BASE_GITHUB_URL + this.path);
     }
 
     /**
-     * @param unirest Unirest instance to carry out all further requests
-     * @param url     URL pointing to user avatar
-     * @return
+     * @param client HTTP client to carry out all further requests
+     * @param url    URL pointing to user avatar
+     * @return Request class pertaining to the user's avatar image
      */
-    public UserAvatarRequest createAvatarRequest(UnirestInstance unirest, String url) {
-        assert unirest != null : "Unirest instance cannot be null.";
+    public UserAvatarRequest createAvatarRequest(GithubHttpClient client, String url) {
+        assert client != null : "HTTP client cannot be null.";
 
-        return new UserAvatarRequest(unirest, url);
+        return new UserAvatarRequest(client, url);
     }
 
     /**
@@ -55,23 +52,26 @@ public final class UserInfoRoute {
      */
     public static class UserInfoRequest {
 
-        private final UnirestInstance unirest;
+        private final GithubHttpClient client;
         private final String url;
 
-        UserInfoRequest(UnirestInstance unirest, String url) {
-            requireAllNonNull(unirest, url);
-            this.unirest = unirest;
+        UserInfoRequest(GithubHttpClient client, String url) {
+            requireAllNonNull(client, url);
+            this.client = client;
             this.url = url;
         }
 
-        public JSONObject getJson() {
-            var response = this.unirest.get(this.url).asString().getBody();
+        public UserInfo getUserInfo() {
+            return GithubHttpClient.await(getUserInfoAsync());
+        }
 
-            try {
-                return new JSONObject(response);
-            } catch (JSONException e) {
-                throw new ResponseParseException("Unable to parse API result.");
-            }
+        /**
+         * Sends the request without blocking. The response is parsed as it is streamed in.
+         *
+         * @return Future completing with the parsed user information
+         */
+        public CompletableFuture<UserInfo> getUserInfoAsync() {
+            return this.client.getStream(this.url, USER_INFO_ROUTE, GithubResponseParser::parseUserInfo);
         }
 
         @Override
@@ -93,25 +93,28 @@ public final class UserInfoRoute {
      */
     public static class UserAvatarRequest {
 
-        private final UnirestInstance unirest;
+        private final GithubHttpClient client;
         private final String url;
 
-        UserAvatarRequest(UnirestInstance unirest, String url) {
-            requireAllNonNull(unirest, url);
-            this.unirest = unirest;
+        UserAvatarRequest(GithubHttpClient client, String url) {
+            requireAllNonNull(client, url);
+            this.client = client;
             this.url = url;
         }
 
         public byte[] getAvatarImage() {
-            return this.unirest.get(this.url).asBytes().getBody();
+            return GithubHttpClient.await(getAvatarImageAsync());
+        }
 
+        public CompletableFuture<byte[]> getAvatarImageAsync() {
+            return this.client.getBytes(this.url, AVATAR_ROUTE);
         }
 
         @Override
         public boolean equals(Object other) {
             return other == this
-                    || (other instanceof UserInfoRequest)
-                    && url.equals(((UserInfoRequest) other).url);
+                    || (other instanceof UserAvatarRequest)
+                    && url.equals(((UserAvatarRequest) other).url);
         }
 
         @Override
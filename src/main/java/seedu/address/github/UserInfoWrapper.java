@@ -3,108 +3,113 @@ package seedu.address.github;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.nio.file.Files;
+import java.io.IOException;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
-import org.json.JSONObject;
-
-import kong.unirest.UnirestInstance;
 import seedu.address.github.exceptions.FileSaveFailException;
-import seedu.address.model.UserPrefs;
 
 /**
  * Class representing a wrapper over the requests and routes needed to get user information from GitHub
  */
 public class UserInfoWrapper {
-    private static final String NAME_KEY = "name";
-    private static final String URL_KEY = "html_url";
-    private static final String USERNAME_KEY = "login";
-    private static final String EMAIL_KEY = "email";
-    private static final String LOCATION_KEY = "location";
-    private static final String IMAGE_LOCATION_KEY = "avatar_url";
-    private final Path avatarImageFileDirectory;
+    private final AvatarStore avatarStore = AvatarStore.getDefaultStore();
     private final UserInfoRoute.UserInfoRequest userInfoRequest;
     private final UserInfoRoute.UserAvatarRequest userAvatarRequest;
 
-    private final String avatarImageFileName;
-    private JSONObject userJson;
+    private final UserInfo userInfo;
 
-    /**
-     * @param username GitHub username of corresponding user to initialize class with
-     * @param unirest  Unirest instance to carry out all further requests
-     */
-    public UserInfoWrapper(String username, UnirestInstance unirest) {
-        requireAllNonNull(username, unirest);
+    private UserInfoWrapper(UserInfoRoute.UserInfoRequest userInfoRequest, UserInfo userInfo,
+                            GithubHttpClient client) {
+        requireAllNonNull(userInfoRequest, userInfo, client);
 
-        UserInfoRoute userInfoRoute = UserInfoRoute.getUserInfoRoute(username);
+        this.userInfoRequest = userInfoRequest;
+        this.userInfo = userInfo;
 
-        userInfoRequest = userInfoRoute.createRequest(unirest);
-        getUserJson();
+        userAvatarRequest = UserInfoRoute.getUserInfoRoute(getUsername()).createAvatarRequest(client, getAvatarUrl());
+    }
 
-        userAvatarRequest = userInfoRoute.createAvatarRequest(unirest, getAvatarUrl());
-        avatarImageFileName = getUsername() + ".png";
+    /**
+     * Fetches the information of a GitHub user without blocking.
+     *
+     * @param username GitHub username of corresponding user to initialize class with
+     * @param client   HTTP client to carry out all further requests
+     * @return Future completing with the wrapper once the user information has been received
+     */
+    public static CompletableFuture<UserInfoWrapper> fetch(String username, GithubHttpClient client) {
+        requireAllNonNull(username, client);
 
-        UserPrefs userPrefs = new UserPrefs();
-        avatarImageFileDirectory =
-            Paths.get(userPrefs.getAddressBookFilePath().getParent().toString(), "images");
+        UserInfoRoute.UserInfoRequest userInfoRequest = UserInfoRoute.getUserInfoRoute(username).createRequest(client);
+        return userInfoRequest.getUserInfoAsync()
+            .thenApply(userInfo -> new UserInfoWrapper(userInfoRequest, userInfo, client));
     }
 
-    private void getUserJson() {
-        this.userJson = this.userInfoRequest.getJson();
+    /**
+     * Wraps user information that has already been received, such as from a batched GraphQL query.
+     *
+     * @param userInfo Information of the GitHub user
+     * @param client   HTTP client to carry out all further requests
+     */
+    public static UserInfoWrapper of(UserInfo userInfo, GithubHttpClient client) {
+        requireAllNonNull(userInfo, client);
+
+        UserInfoRoute.UserInfoRequest userInfoRequest =
+            UserInfoRoute.getUserInfoRoute(userInfo.getUsername()).createRequest(client);
+        return new UserInfoWrapper(userInfoRequest, userInfo, client);
     }
 
     public Optional<String> getName() {
-        return Optional.ofNullable(userJson.optString(NAME_KEY, null));
+        return userInfo.getName();
     }
 
     public String getUsername() {
-        return userJson.getString(USERNAME_KEY);
+        return userInfo.getUsername();
     }
 
     public Optional<String> getEmail() {
-        return Optional.ofNullable(userJson.optString(EMAIL_KEY, null));
+        return userInfo.getEmail();
     }
 
     public Optional<String> getLocation() {
-        return Optional.ofNullable(userJson.optString(LOCATION_KEY, null));
+        return userInfo.getLocation();
     }
 
     public String getAvatarUrl() {
-        return userJson.getString(IMAGE_LOCATION_KEY);
+        return userInfo.getAvatarUrl();
     }
 
     /**
-     * Downloads avatar to file specified in class above.
+     * Downloads avatar into the avatar store.
      */
     public void downloadAvatar() throws FileSaveFailException {
-        byte[] image = userAvatarRequest.getAvatarImage();
+        GithubHttpClient.await(downloadAvatarAsync());
+    }
+
+    /**
+     * Downloads avatar into the avatar store without blocking.
+     *
+     * @return Future completing once the avatar has been saved
+     */
+    public CompletableFuture<Void> downloadAvatarAsync() {
+        return userAvatarRequest.getAvatarImageAsync().thenAccept(this::saveAvatar);
+    }
+
+    private void saveAvatar(byte[] image) throws FileSaveFailException {
         try {
-            avatarImageFileDirectory.toFile().mkdirs();
-            Path avatarImageFilePath = Paths.get(avatarImageFileDirectory.toString(), avatarImageFileName);
-
-            if (avatarImageFilePath.toFile().exists() && !avatarImageFilePath.toFile().isFile()) {
-                if (!avatarImageFilePath.toFile().delete()) {
-                    throw new FileSaveFailException(
-                            "Directory exists with same name as file to be saved and could not be deleted. Please "
-                                    + "delete directory to save this user's avatar.");
-                }
-            }
-
-            Files.write(avatarImageFilePath, image);
-        } catch (Exception e) {
-            throw new FileSaveFailException("Unable to save user avatar to local storage.");
+            avatarStore.put(getUsername(), image);
+        } catch (IOException e) {
+            throw new FileSaveFailException("Unable to save user avatar to local storage.", e);
         }
     }
 
-    public Path getAvatarImageFilePath() {
-        return Paths.get(avatarImageFileDirectory.toString(), avatarImageFileName);
+    public Optional<Path> getAvatarImageFilePath() {
+        return avatarStore.getAvatarPath(getUsername());
     }
 
     public String getUrl() {
-        return userJson.getString(URL_KEY);
+        return userInfo.getUrl();
     }
 
     @Override
@@ -113,11 +118,11 @@ public class UserInfoWrapper {
             || (other instanceof UserInfoWrapper)
             && userInfoRequest.equals(((UserInfoWrapper) other).userInfoRequest)
             && userAvatarRequest.equals(((UserInfoWrapper) other).userAvatarRequest)
-            && userJson.equals(((UserInfoWrapper) other).userJson);
+            && userInfo.equals(((UserInfoWrapper) other).userInfo);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(userAvatarRequest, userJson);
+        return Objects.hash(userAvatarRequest, userInfo);
     }
 }
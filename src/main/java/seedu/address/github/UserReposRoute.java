@@ -2,21 +2,21 @@ package seedu.address.github;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.List;
 import java.util.Objects;
-
-import org.json.JSONArray;
-import org.json.JSONException;
-
-import kong.unirest.UnirestInstance;
-import seedu.address.github.exceptions.ResponseParseException;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Class representing routes taken to get user's repo information
  */
 public class UserReposRoute {
     public static final String BASE_GITHUB_URL = "https://api.github.com";
+    public static final int REPOS_PER_PAGE = 30;
     private static final String GET_USER_BASE_PATH = "/users/";
     private static final String GET_REPO_PATH = "/repos";
+    private static final String USER_REPOS_ROUTE = GET_USER_BASE_PATH + "{user}" + GET_REPO_PATH;
+    private static final String MOST_RECENTLY_UPDATED_QUERY =
+        "?sort=updated&direction=desc&per_page=" + REPOS_PER_PAGE + "&page=";
 
     private final String path;
 
@@ -26,18 +26,29 @@ public class UserReposRoute {
     }
 
     public static UserReposRoute getUserReposRoute(String username) {
+        return getUserReposRoute(username, 1);
+    }
+
+    /**
+     * Returns the route to the given page of the user's repositories, most recently updated first.
+     *
+     * @param username Username of GitHub user owning the repositories
+     * @param page     One-based index of the page
+     */
+    public static UserReposRoute getUserReposRoute(String username, int page) {
         requireAllNonNull(username);
-        return new UserReposRoute(GET_USER_BASE_PATH + username + GET_REPO_PATH);
+        assert page > 0 : "Page index must be positive.";
+        return new UserReposRoute(GET_USER_BASE_PATH + username + GET_REPO_PATH + MOST_RECENTLY_UPDATED_QUERY + page);
     }
 
     /**
-     * @param unirest Unirest instance to carry out all requests with
+     * @param client HTTP client to carry out all requests with
      * @return Request class instance pertaining to getting user repo information
      */
-    public UserReposRequest createRequest(UnirestInstance unirest) {
-        assert unirest != null : "Unirest instance cannot be null.";
+    public UserReposRequest createRequest(GithubHttpClient client) {
+        assert client != null : "HTTP client cannot be null.";
 
-        return new UserReposRequest(unirest, BASE_GITHUB_URL + this.path);
+        return new UserReposRequest(client, BASE_GITHUB_URL + this.path);
     }
 
     public String getPath() {
@@ -49,23 +60,26 @@ public class UserReposRoute {
      */
     public static class UserReposRequest {
 
-        private final UnirestInstance unirest;
+        private final GithubHttpClient client;
         private final String url;
 
-        UserReposRequest(UnirestInstance unirest, String url) {
-            requireAllNonNull(unirest, url);
-            this.unirest = unirest;
+        UserReposRequest(GithubHttpClient client, String url) {
+            requireAllNonNull(client, url);
+            this.client = client;
             this.url = url;
         }
 
-        public JSONArray getJson() {
-            String response = this.unirest.get(this.url).asString().getBody();
+        public List<RepoInfo> getRepos() {
+            return GithubHttpClient.await(getReposAsync());
+        }
 
-            try {
-                return new JSONArray(response);
-            } catch (JSONException e) {
-                throw new ResponseParseException("Unable to parse API result.");
-            }
+        /**
+         * Sends the request without blocking. The response is parsed as it is streamed in.
+         *
+         * @return Future completing with the parsed list of repositories
+         */
+        public CompletableFuture<List<RepoInfo>> getReposAsync() {
+            return this.client.getStream(this.url, USER_REPOS_ROUTE, GithubResponseParser::parseRepos);
         }
 
         @Override
@@ -4,103 +4,166 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.github.UserReposRoute.getUserReposRoute;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
 
-import org.json.JSONArray;
-import org.json.JSONObject;
-
-import kong.unirest.UnirestInstance;
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.github.exceptions.RepoNotFoundException;
 
 /**
  * Class representing a wrapper over the requests and routes needed to get user repo information from GitHub
  */
 public class UserReposWrapper {
-    private static final String ID_KEY = "id";
-    private static final String NAME_KEY = "name";
-    private static final String URL_KEY = "html_url";
-    private static final String DESCRIPTION_KEY = "description";
-    private static final String UPDATED_KEY = "updated_at";
+    private static final int MAX_PAGES = 10;
+
+    private static final Logger logger = LogsCenter.getLogger(UserReposWrapper.class);
+
     private final UserReposRoute.UserReposRequest getUserReposRequest;
-    private JSONArray reposJson;
+    private final Map<Integer, RepoInfo> repos = new LinkedHashMap<>();
+    private final boolean hasAllRepos;
+    private final boolean isTruncated;
+
+    private UserReposWrapper(UserReposRoute.UserReposRequest getUserReposRequest, List<RepoInfo> repos,
+                             boolean hasAllRepos, boolean isTruncated) {
+        requireAllNonNull(getUserReposRequest, repos);
+        this.getUserReposRequest = getUserReposRequest;
+        for (RepoInfo repo : repos) {
+            this.repos.put(repo.getId(), repo);
+        }
+        this.hasAllRepos = hasAllRepos;
+        this.isTruncated = isTruncated;
+    }
 
     /**
+     * Fetches the most recently updated repositories of a GitHub user without blocking.
+     *
      * @param username Username of GitHub user to initialise class
-     * @param unirest  Unirest instance used for all further requests
+     * @param client   HTTP client used for all further requests
+     * @return Future completing with the wrapper once the repositories have been received
      */
-    public UserReposWrapper(String username, UnirestInstance unirest) {
-        requireAllNonNull(username);
+    public static CompletableFuture<UserReposWrapper> fetch(String username, GithubHttpClient client) {
+        return fetchUpdatedSince(username, null, client);
+    }
+
+    /**
+     * Fetches the repositories of a GitHub user that were updated after {@code watermark}, without blocking.
+     * Repositories are requested most recently updated first, and paging stops at the first page that reaches a
+     * repository not newer than {@code watermark}. Every repository on the pages fetched is kept, so that those
+     * no longer on GitHub can be told apart by {@link #coversUpdatesAfter(LocalDateTime)}.
+     * If there are more updated repositories than fit in {@code MAX_PAGES} pages, the wrapper is marked as
+     * truncated, and the repositories fetched should replace the known ones rather than be merged into them.
+     *
+     * @param username  Username of GitHub user to initialise class
+     * @param watermark Time of the latest update already known, or null to fetch the most recent page only
+     * @param client    HTTP client used for all further requests
+     * @return Future completing with the wrapper once the updated repositories have been received
+     */
+    public static CompletableFuture<UserReposWrapper> fetchUpdatedSince(String username, LocalDateTime watermark,
+                                                                        GithubHttpClient client) {
+        requireAllNonNull(username, client);
+
+        UserReposRoute.UserReposRequest getUserReposRequest = getUserReposRoute(username).createRequest(client);
+        return fetchPagesUpdatedSince(username, watermark, client, 1, getUserReposRequest, new ArrayList<>());
+    }
 
-        UserReposRoute getUserInfoGetInfoRoute = getUserReposRoute(username);
-        getUserReposRequest = getUserInfoGetInfoRoute.createRequest(unirest);
-        updateReposJson();
+    private static CompletableFuture<UserReposWrapper> fetchPagesUpdatedSince(String username,
+            LocalDateTime watermark, GithubHttpClient client, int page,
+            UserReposRoute.UserReposRequest getUserReposRequest, List<RepoInfo> fetchedRepos) {
+        return getUserReposRoute(username, page).createRequest(client).getReposAsync().thenCompose(repos -> {
+            fetchedRepos.addAll(repos);
+            boolean hasMorePages = repos.size() == UserReposRoute.REPOS_PER_PAGE;
+            boolean reachedWatermark = watermark == null
+                || repos.stream().anyMatch(repo -> !repo.getLastUpdated().isAfter(watermark));
+            if (!hasMorePages || reachedWatermark) {
+                return CompletableFuture.completedFuture(
+                    new UserReposWrapper(getUserReposRequest, fetchedRepos, !hasMorePages, false));
+            }
+            if (page >= MAX_PAGES) {
+                logger.warning("More than " + fetchedRepos.size() + " repositories of " + username
+                    + " were updated since the last refresh, so only the most recent ones are kept.");
+                return CompletableFuture.completedFuture(
+                    new UserReposWrapper(getUserReposRequest, fetchedRepos, false, true));
+            }
+            return fetchPagesUpdatedSince(username, watermark, client, page + 1, getUserReposRequest, fetchedRepos);
+        });
     }
 
-    private void updateReposJson() {
-        this.reposJson = getUserReposRequest.getJson();
+    /**
+     * Wraps repositories that have already been received, such as from a batched GraphQL query.
+     *
+     * @param username Username of GitHub user owning the repositories
+     * @param repos    Repositories of the GitHub user
+     * @param client   HTTP client used for all further requests
+     */
+    public static UserReposWrapper of(String username, List<RepoInfo> repos, GithubHttpClient client) {
+        requireAllNonNull(username, repos, client);
+
+        return new UserReposWrapper(getUserReposRoute(username).createRequest(client), repos, false, false);
     }
 
     public ArrayList<Integer> getIDs() {
-        ArrayList<Integer> result = new ArrayList<>();
-        JSONObject obj;
-        for (int i = 0; i < this.reposJson.length(); i++) {
-            obj = (JSONObject) this.reposJson.get(i);
-            result.add(obj.getInt(ID_KEY));
-        }
+        return new ArrayList<>(repos.keySet());
+    }
 
-        return result;
+    public List<RepoInfo> getRepos() {
+        return Collections.unmodifiableList(new ArrayList<>(repos.values()));
     }
 
-    public String getRepoName(int id) {
-        JSONObject obj;
-        for (Object o : this.reposJson) {
-            obj = (JSONObject) o;
-            if (obj.getInt("id") == id) {
-                return obj.getString(NAME_KEY);
-            }
+    /**
+     * Returns true if the repositories received include every repository of the user that was last updated after
+     * {@code time}. A repository known to have been updated after such a time that was not received has since been
+     * deleted, renamed or made private, as the time a repository was last updated never goes back.
+     */
+    public boolean coversUpdatesAfter(LocalDateTime time) {
+        requireAllNonNull(time);
+        if (hasAllRepos) {
+            return true;
         }
+        return repos.values().stream()
+            .map(RepoInfo::getLastUpdated)
+            .min(Comparator.naturalOrder())
+            .map(time::isAfter)
+            .orElse(false);
+    }
 
-        throw new RepoNotFoundException("Provided ID does not correspond to a repository owned by this user!");
+    /**
+     * Returns true if paging stopped before reaching the last known update, so that the repositories received
+     * should replace the known ones.
+     */
+    public boolean isTruncated() {
+        return isTruncated;
     }
 
-    public String getRepoUrl(int id) {
-        JSONObject obj;
-        for (Object o : this.reposJson) {
-            obj = (JSONObject) o;
-            if (obj.getInt("id") == id) {
-                return obj.getString(URL_KEY);
-            }
-        }
+    public String getRepoName(int id) {
+        return getRepo(id).getName();
+    }
 
-        throw new RepoNotFoundException("Provided ID does not correspond to a repository owned by this user!");
+    public String getRepoUrl(int id) {
+        return getRepo(id).getUrl();
     }
 
     public LocalDateTime getLastUpdated(int id) {
-        JSONObject obj;
-        for (Object o : this.reposJson) {
-            obj = (JSONObject) o;
-            if (obj.getInt("id") == id) {
-                return LocalDateTime.parse(obj.getString(UPDATED_KEY), DateTimeFormatter.ISO_OFFSET_DATE_TIME);
-            }
-        }
-
-        throw new RepoNotFoundException("Provided ID does not correspond to a repository owned by this user!");
+        return getRepo(id).getLastUpdated();
     }
 
     public Optional<String> getDescription(int id) {
-        JSONObject obj;
-        for (Object o : this.reposJson) {
-            obj = (JSONObject) o;
-            if (obj.getInt("id") == id) {
-                return Optional.ofNullable(obj.optString(DESCRIPTION_KEY, null));
-            }
-        }
-
+        return getRepo(id).getDescription();
+    }
 
-        throw new RepoNotFoundException("Provided ID does not correspond to a repository owned by this user!");
+    private RepoInfo getRepo(int id) {
+        RepoInfo repo = repos.get(id);
+        if (repo == null) {
+            throw new RepoNotFoundException("Provided ID does not correspond to a repository owned by this user!");
+        }
+        return repo;
     }
 
     @Override
@@ -108,11 +171,13 @@ public class UserReposWrapper {
         return other == this
             || (other instanceof UserReposWrapper)
             && getUserReposRequest.equals(((UserReposWrapper) other).getUserReposRequest)
-            && reposJson.equals(((UserReposWrapper) other).reposJson);
+            && repos.equals(((UserReposWrapper) other).repos)
+            && hasAllRepos == ((UserReposWrapper) other).hasAllRepos
+            && isTruncated == ((UserReposWrapper) other).isTruncated;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getUserReposRequest, reposJson);
+        return Objects.hash(getUserReposRequest, repos, hasAllRepos, isTruncated);
     }
 }
@@ -0,0 +1,126 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.beans.property.SimpleObjectProperty;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonBatch;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookStorage;
+
+/**
+ * Loads the address book from storage into the model from a background thread, so that the app can be used while
+ * the data file is read and the GitHub users in it are refreshed.
+ * Persons are added to the model a chunk at a time as they are read, each chunk being appended to the list of persons
+ * in a single change that takes time proportional to the chunk alone, and {@link #getProgress()} is updated along
+ * with them. If there is no data file, the sample address book is loaded instead, and if the data file cannot be
+ * read, whatever was loaded of it is replaced by an empty address book.
+ */
+public class AddressBookLoader {
+    public static final int CHUNK_SIZE = 50;
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookLoader.class);
+
+    private final AddressBookStorage storage;
+    private final Model model;
+    private final Consumer<Runnable> modelUpdater;
+    private final SimpleObjectProperty<LoadProgress> progress =
+            new SimpleObjectProperty<>(new LoadProgress(0, 0, false));
+
+    // Only used by the loading thread.
+    private int loadedCount;
+
+    /**
+     * Creates a loader that loads the address book in {@code storage} into {@code model}, which should be empty.
+     *
+     * @param modelUpdater Runs an update to the model or the progress on the thread that owns the model, such as
+     *                     {@code Platform::runLater}
+     */
+    public AddressBookLoader(AddressBookStorage storage, Model model, Consumer<Runnable> modelUpdater) {
+        requireNonNull(storage);
+        requireNonNull(model);
+        requireNonNull(modelUpdater);
+        this.storage = storage;
+        this.model = model;
+        this.modelUpdater = modelUpdater;
+    }
+
+    /**
+     * Returns the progress of loading, which is only updated on the thread that owns the model.
+     */
+    public SimpleObjectProperty<LoadProgress> getProgress() {
+        return progress;
+    }
+
+    /**
+     * Starts loading from a daemon thread.
+     */
+    public void start() {
+        Thread loader = new Thread(this::load, "address-book-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Loads the address book on the calling thread, handing each chunk over to the model's thread.
+     */
+    void load() {
+        try {
+            boolean isFound = storage.readAddressBook(CHUNK_SIZE, this::addChunk);
+            if (!isFound) {
+                logger.info("Data file not found. Will be starting with a sample AddressBook");
+                replaceAddressBook(new AddressBook(SampleDataUtil.getSampleAddressBook()));
+                return;
+            }
+            logger.info("Loaded " + loadedCount + " persons from the data file");
+            modelUpdater.accept(() -> finish(loadedCount));
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
+            replaceAddressBook(new AddressBook());
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
+            replaceAddressBook(new AddressBook());
+        } catch (RuntimeException e) {
+            logger.severe("Failed to load the data file. Will be starting with an empty AddressBook: " + e);
+            replaceAddressBook(new AddressBook());
+        }
+    }
+
+    private void addChunk(List<Person> chunk, int totalCount) {
+        loadedCount += chunk.size();
+        int chunkLoadedCount = loadedCount;
+        modelUpdater.accept(() -> {
+            PersonBatch batch = new PersonBatch();
+            chunk.forEach(batch::add);
+            model.applyPersonBatch(batch);
+            progress.set(new LoadProgress(chunkLoadedCount, totalCount, false));
+        });
+    }
+
+    /**
+     * Replaces whatever was loaded with {@code addressBook}.
+     */
+    private void replaceAddressBook(AddressBook addressBook) {
+        modelUpdater.accept(() -> {
+            model.setAddressBook(addressBook);
+            finish(addressBook.getPersonList().size());
+        });
+    }
+
+    /**
+     * Marks loading as done, after making the loaded address book the first version that can be undone to.
+     */
+    private void finish(int totalCount) {
+        model.clearAddressBookHistory();
+        progress.set(LoadProgress.done(totalCount));
+    }
+}
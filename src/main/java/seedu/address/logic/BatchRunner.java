@@ -0,0 +1,173 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.github.exceptions.NetworkConnectionException;
+import seedu.address.github.exceptions.UserInvalidException;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.storage.Storage;
+import seedu.address.ui.MainPanelName;
+
+/**
+ * Runs a script of commands against a model without a user interface.
+ * Unlike {@link LogicManager}, which saves after every command, the address book is only saved every
+ * {@code checkpointInterval} commands and once more at the end of the script.
+ * Commands are run as if entered at the list panel, as the other panels need a user interface to reach.
+ */
+public class BatchRunner {
+    public static final String COMMENT_PREFIX = "#";
+    public static final String MESSAGE_CONSTRAINTS = "Checkpoint interval should not be negative.";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchRunner.class);
+
+    private final Model model;
+    private final Storage storage;
+    private final int checkpointInterval;
+    private final AddressBookParser addressBookParser;
+
+    /**
+     * @param model              Model the commands are run against
+     * @param storage            Storage the address book is saved to
+     * @param checkpointInterval Number of commands run between saves, or 0 to only save at the end
+     */
+    public BatchRunner(Model model, Storage storage, int checkpointInterval) {
+        requireAllNonNull(model, storage);
+        checkArgument(checkpointInterval >= 0, MESSAGE_CONSTRAINTS);
+        this.model = model;
+        this.storage = storage;
+        this.checkpointInterval = checkpointInterval;
+        addressBookParser = new AddressBookParser();
+    }
+
+    /**
+     * Runs every command read from {@code commands}, one per line, until the input ends or an exit command is run.
+     * Blank lines and lines starting with {@link #COMMENT_PREFIX} are skipped.
+     * A command that fails, even with an unexpected exception, is reported to {@code out} and the script carries on
+     * with the next line.
+     *
+     * @return Statistics of the run
+     * @throws IOException if the commands cannot be read or the address book cannot be saved
+     */
+    public Statistics run(BufferedReader commands, PrintStream out) throws IOException {
+        requireAllNonNull(commands, out);
+        Statistics statistics = new Statistics();
+        long start = System.nanoTime();
+        int unsavedCommands = 0;
+        int lineNumber = 0;
+
+        String line;
+        while ((line = commands.readLine()) != null) {
+            lineNumber++;
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            statistics.commandsRun++;
+            CommandResult commandResult;
+            try {
+                commandResult = execute(commandText);
+            } catch (CommandException | ParseException | UserInvalidException | NetworkConnectionException e) {
+                statistics.commandsFailed++;
+                out.println("Line " + lineNumber + ": " + e.getMessage());
+                continue;
+            } catch (RuntimeException e) {
+                // Such as a value from GitHub failing a check, which must not end a long script and lose the
+                // commands run since the last save
+                logger.log(Level.WARNING, "Unexpected error running line " + lineNumber + " of the batch script", e);
+                statistics.commandsFailed++;
+                out.println("Line " + lineNumber + ": " + e);
+                continue;
+            }
+
+            unsavedCommands++;
+            if (commandResult.isExit()) {
+                break;
+            }
+            if (checkpointInterval > 0 && unsavedCommands >= checkpointInterval) {
+                save(statistics);
+                unsavedCommands = 0;
+            }
+        }
+
+        if (unsavedCommands > 0) {
+            save(statistics);
+        }
+        statistics.elapsedNanos = System.nanoTime() - start;
+        return statistics;
+    }
+
+    private CommandResult execute(String commandText) throws CommandException, ParseException,
+            UserInvalidException, NetworkConnectionException {
+        logger.fine("----------------[BATCH COMMAND][" + commandText + "]");
+        Command command = addressBookParser.parseCommand(commandText, MainPanelName.List);
+        CommandResult commandResult = command.execute(model);
+        model.commitAddressBook();
+        return commandResult;
+    }
+
+    private void save(Statistics statistics) throws IOException {
+        long start = System.nanoTime();
+        storage.saveAddressBook(model.getAddressBook());
+        statistics.saves++;
+        statistics.saveNanos += System.nanoTime() - start;
+    }
+
+    /**
+     * Throughput statistics of a batch run.
+     */
+    public static class Statistics {
+        private int commandsRun;
+        private int commandsFailed;
+        private int saves;
+        private long elapsedNanos;
+        private long saveNanos;
+
+        public int getCommandsRun() {
+            return commandsRun;
+        }
+
+        public int getCommandsFailed() {
+            return commandsFailed;
+        }
+
+        public int getSaves() {
+            return saves;
+        }
+
+        public long getElapsedMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        }
+
+        public long getSaveMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(saveNanos);
+        }
+
+        /**
+         * Returns the number of commands run per second, including the time spent saving.
+         */
+        public double getCommandsPerSecond() {
+            return elapsedNanos == 0 ? 0 : commandsRun * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d commands (%d failed) in %d ms, %.1f commands/s; %d saves took %d ms",
+                commandsRun, commandsFailed, getElapsedMillis(), getCommandsPerSecond(), saves, getSaveMillis());
+        }
+    }
+}
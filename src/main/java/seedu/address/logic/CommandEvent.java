@@ -0,0 +1,40 @@
+package seedu.address.logic;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * A Java Flight Recorder event covering one command typed by the user, from parsing it to saving the result.
+ * The time spent in each phase is recorded separately, so that a pause in a recording can be traced to the phase
+ * of the command that caused it.
+ */
+@Name("seedu.address.Command")
+@Label("Command")
+@Category({"GithubContact", "Logic"})
+@Description("A command entered by the user, from parsing to saving")
+class CommandEvent extends Event {
+    @Label("Command Word")
+    String commandWord;
+
+    @Label("Panel")
+    String panel;
+
+    @Label("Parse Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long parseTime;
+
+    @Label("Execute Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long executeTime;
+
+    @Label("Save Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long saveTime;
+
+    @Label("Succeeded")
+    boolean succeeded;
+}
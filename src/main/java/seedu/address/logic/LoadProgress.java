@@ -0,0 +1,60 @@
+package seedu.address.logic;
+
+import java.util.Objects;
+
+/**
+ * How far loading the address book from storage has got.
+ * Guarantees: immutable.
+ */
+public class LoadProgress {
+    private final int loadedCount;
+    private final int totalCount;
+    private final boolean isDone;
+
+    /**
+     * Creates a progress of {@code loadedCount} out of {@code totalCount} persons loaded.
+     */
+    public LoadProgress(int loadedCount, int totalCount, boolean isDone) {
+        this.loadedCount = loadedCount;
+        this.totalCount = totalCount;
+        this.isDone = isDone;
+    }
+
+    /**
+     * Returns the progress of an address book whose {@code totalCount} persons have all been loaded.
+     */
+    public static LoadProgress done(int totalCount) {
+        return new LoadProgress(totalCount, totalCount, true);
+    }
+
+    public int getLoadedCount() {
+        return loadedCount;
+    }
+
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    public boolean isDone() {
+        return isDone;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof LoadProgress // instanceof handles nulls
+                && loadedCount == ((LoadProgress) other).loadedCount
+                && totalCount == ((LoadProgress) other).totalCount
+                && isDone == ((LoadProgress) other).isDone); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(loadedCount, totalCount, isDone);
+    }
+
+    @Override
+    public String toString() {
+        return loadedCount + "/" + totalCount + (isDone ? " loaded" : " loading");
+    }
+}
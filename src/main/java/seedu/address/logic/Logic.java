@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.ObservableList;
@@ -18,6 +19,8 @@ import seedu.address.ui.MainPanelName;
 public interface Logic {
     /**
      * Executes the command and returns the result.
+     * While the address book is still being loaded, commands that need it are not executed, and a result that
+     * is {@link CommandResult#isDeferred() deferred} is returned instead.
      * @param commandText The command as entered by the user.
      * @param panelName The panel that where user at when run this command.
      * @return the result of the command execution.
@@ -60,4 +63,15 @@ public interface Logic {
      * Set the person selected by user.
      */
     void setSelectedPerson(Person selectedPerson);
+
+    /**
+     * Returns the progress of loading the address book from storage.
+     */
+    SimpleObjectProperty<LoadProgress> getLoadProgress();
+
+    /**
+     * Returns the completions of the last word of {@code textBeforeCaret} to values in the address book, each to
+     * replace the whole word.
+     */
+    List<String> getCompletions(String textBeforeCaret);
 }
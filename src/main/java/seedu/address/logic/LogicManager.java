@@ -2,18 +2,21 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.PerformanceStats;
 import seedu.address.github.exceptions.NetworkConnectionException;
 import seedu.address.github.exceptions.UserInvalidException;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.CommandCompleter;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -26,19 +29,37 @@ import seedu.address.ui.MainPanelName;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String MESSAGE_COMMAND_DEFERRED =
+            "Your contacts are still being loaded. \"%1$s\" will be run once they are all loaded.";
+    private static final String INVALID_COMMAND_STATS_NAME = "command.invalid";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
+    private final PerformanceStats stats = PerformanceStats.getDefaultStats();
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final CommandCompleter commandCompleter;
+    private final SimpleObjectProperty<LoadProgress> loadProgress;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, whose address book is
+     * already fully loaded into the model.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage,
+                new SimpleObjectProperty<>(LoadProgress.done(model.getAddressBook().getPersonList().size())));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, whose address book is
+     * being loaded into the model with the given {@code loadProgress}.
+     */
+    public LogicManager(Model model, Storage storage, SimpleObjectProperty<LoadProgress> loadProgress) {
         this.model = model;
         this.storage = storage;
+        this.loadProgress = loadProgress;
         addressBookParser = new AddressBookParser();
+        commandCompleter = new CommandCompleter(model);
     }
 
     @Override
@@ -47,14 +68,63 @@ public class LogicManager implements Logic {
             UserInvalidException, NetworkConnectionException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
+        CommandEvent event = new CommandEvent();
+        event.begin();
+        event.commandWord = getCommandWord(commandText);
+        event.panel = String.valueOf(mainPanelName);
+        try {
+            CommandResult commandResult = execute(commandText, mainPanelName, event);
+            event.succeeded = true;
+            return commandResult;
+        } finally {
+            event.commit();
+        }
+    }
+
+    private CommandResult execute(String commandText, MainPanelName mainPanelName, CommandEvent event)
+            throws CommandException, ParseException {
+        long startTime = System.nanoTime();
+        Command command;
+        try {
+            command = addressBookParser.parseCommand(commandText, mainPanelName);
+        } catch (ParseException e) {
+            // Unparsable input is timed under a single name, so that typos do not each get their own entry.
+            event.parseTime = stats.recordSince(INVALID_COMMAND_STATS_NAME + ".parse", startTime);
+            throw e;
+        }
+        String statsName = getStatsName(command);
+        event.parseTime = stats.recordSince(statsName + ".parse", startTime);
+
+        boolean isLoaded = loadProgress.get().isDone();
+        if (!isLoaded && command.needsLoadedAddressBook()) {
+            logger.info("Deferring until the address book is loaded: " + commandText);
+            return new CommandResult(String.format(MESSAGE_COMMAND_DEFERRED, commandText.trim()),
+                    false, false, false, true);
+        }
+
         CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText, mainPanelName);
-        commandResult = command.execute(model);
+        long executeTime = System.nanoTime();
+        try {
+            commandResult = command.execute(model);
+            if (isLoaded) {
+                model.commitAddressBook();
+            }
+        } finally {
+            event.executeTime = stats.recordSince(statsName + ".execute", executeTime);
+        }
 
+        if (!isLoaded) {
+            // Saving now would overwrite the data file with the part of it loaded so far.
+            return commandResult;
+        }
+
+        long saveTime = System.nanoTime();
         try {
             storage.saveAddressBook(model.getAddressBook());
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        } finally {
+            event.saveTime = stats.recordSince(statsName + ".save", saveTime);
         }
 
         return commandResult;
@@ -85,6 +155,16 @@ public class LogicManager implements Logic {
         model.setGuiSettings(guiSettings);
     }
 
+    @Override
+    public SimpleObjectProperty<LoadProgress> getLoadProgress() {
+        return loadProgress;
+    }
+
+    @Override
+    public List<String> getCompletions(String textBeforeCaret) {
+        return commandCompleter.getCompletions(textBeforeCaret);
+    }
+
     @Override
     public SimpleObjectProperty<Person> getSelectedPerson() {
         return model.getSelectedPerson();
@@ -94,4 +174,21 @@ public class LogicManager implements Logic {
     public void setSelectedPerson(Person selectedPerson) {
         model.setSelectedPerson(selectedPerson);
     }
+
+    private static String getCommandWord(String commandText) {
+        String trimmedText = commandText.trim();
+        int end = trimmedText.indexOf(' ');
+        return end < 0 ? trimmedText : trimmedText.substring(0, end);
+    }
+
+    /**
+     * Returns the name {@code command} is timed under, such as {@code command.add} for an {@code AddCommand}.
+     */
+    static String getStatsName(Command command) {
+        String className = command.getClass().getSimpleName();
+        String commandName = className.endsWith("Command")
+                ? className.substring(0, className.length() - "Command".length())
+                : className;
+        return "command." + commandName.toLowerCase();
+    }
 }
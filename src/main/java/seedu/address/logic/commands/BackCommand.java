@@ -27,4 +27,12 @@ public class BackCommand extends Command {
         return true;
     }
 
+    /**
+     * Returns false because going back to the previous panel does not read the address book.
+     */
+    @Override
+    public boolean needsLoadedAddressBook() {
+        return false;
+    }
+
 }
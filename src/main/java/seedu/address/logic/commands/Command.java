@@ -18,6 +18,14 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if the command reads or changes the persons in the address book, and so has to wait until the
+     * address book is fully loaded. By default, every command does.
+     */
+    public boolean needsLoadedAddressBook() {
+        return true;
+    }
+
     /**
      * To indicate whether the command can be executed on given panel.
      * By default, every command can be executed at any panel.
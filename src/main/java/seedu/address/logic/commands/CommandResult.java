@@ -20,14 +20,25 @@ public class CommandResult {
     /** The application should back to the last main panel */
     private final boolean back;
 
+    /** The command was not executed, and should be entered again once the address book is loaded. */
+    private final boolean deferred;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
-    public CommandResult(String feedbackToUser, boolean showHelp, boolean exit, boolean back) {
+    public CommandResult(String feedbackToUser, boolean showHelp, boolean exit, boolean back, boolean deferred) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
         this.back = back;
+        this.deferred = deferred;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified fields, for a command that was executed.
+     */
+    public CommandResult(String feedbackToUser, boolean showHelp, boolean exit, boolean back) {
+        this(feedbackToUser, showHelp, exit, back, false);
     }
 
     /**
@@ -54,6 +65,10 @@ public class CommandResult {
         return back;
     }
 
+    public boolean isDeferred() {
+        return deferred;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +84,13 @@ public class CommandResult {
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
                 && exit == otherCommandResult.exit
-                && back == otherCommandResult.back;
+                && back == otherCommandResult.back
+                && deferred == otherCommandResult.deferred;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit, back);
+        return Objects.hash(feedbackToUser, showHelp, exit, back, deferred);
     }
 
 }
@@ -17,6 +17,11 @@ public class ExitCommand extends Command {
         return new CommandResult(MESSAGE_EXIT_ACKNOWLEDGEMENT, false, true, false);
     }
 
+    @Override
+    public boolean needsLoadedAddressBook() {
+        return false;
+    }
+
     public static boolean canExecuteAt(MainPanelName name) {
         return true;
     }
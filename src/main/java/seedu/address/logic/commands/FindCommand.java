@@ -1,14 +1,31 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GITHUB;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.Messages;
+import seedu.address.model.IndexedField;
 import seedu.address.model.Model;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonMatchesKeywordsPredicate;
 import seedu.address.ui.MainPanelName;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
+ * Finds and lists all persons in address book whose attributes match the argument keywords, or who have exactly the
+ * values given for their name, role, tags and GitHub username.
  * Keyword matching is case insensitive.
  */
 public class FindCommand extends Command {
@@ -19,22 +36,69 @@ public class FindCommand extends Command {
             + "the specified keywords (case-insensitive) using a fuzzy search that is immune to a few spelling errors"
             + " and displays them as a list with index numbers.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Persons with exactly the given values (case-insensitive) can be found instead with the parameters: "
+            + "[" + PREFIX_NAME + "NAME] "
+            + "[" + PREFIX_ROLE + "ROLE] "
+            + "[" + PREFIX_GITHUB + "GITHUB] "
+            + "[" + PREFIX_TAG + "TAG]...\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_TAG + "friends " + PREFIX_ROLE + "Software Engineer";
 
     private final PersonMatchesKeywordsPredicate predicate;
+    private final Map<IndexedField, List<String>> fieldValues;
 
     public FindCommand(PersonMatchesKeywordsPredicate predicate) {
         this.predicate = predicate;
+        this.fieldValues = Map.of();
+    }
+
+    /**
+     * Creates a FindCommand to find the persons that have every one of {@code fieldValues}, ignoring case.
+     */
+    public FindCommand(Map<IndexedField, List<String>> fieldValues) {
+        requireNonNull(fieldValues);
+        assert !fieldValues.isEmpty() : "At least one field value must be given";
+        this.predicate = null;
+        this.fieldValues = Map.copyOf(fieldValues);
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.filterPersonList(predicate);
+        if (predicate != null) {
+            model.filterPersonList(predicate);
+        } else {
+            // Persons are matched by name, so that a person who is edited afterwards stays in the list.
+            Set<Name> found = findByFieldValues(model);
+            model.filterPersonList(person -> found.contains(person.getName()));
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getSortedFilteredPersonList().size()));
     }
 
+    /**
+     * Returns the names of the persons with every one of the field values, looking up the persons with each value in
+     * the model's index rather than comparing the fields of each person.
+     * The filtered person list still tests the name of every person against the names returned.
+     */
+    private Set<Name> findByFieldValues(Model model) {
+        List<List<Person>> personsWithEachValue = new ArrayList<>();
+        fieldValues.forEach((field, values) ->
+                values.forEach(value -> personsWithEachValue.add(model.getPersonsWith(field, value))));
+        personsWithEachValue.sort(Comparator.comparingInt(List::size));
+
+        Set<Name> found = personsWithEachValue.get(0).stream().map(Person::getName).collect(Collectors.toSet());
+        for (List<Person> persons : personsWithEachValue.subList(1, personsWithEachValue.size())) {
+            if (found.isEmpty()) {
+                break;
+            }
+            Set<Name> names = new HashSet<>();
+            persons.forEach(person -> names.add(person.getName()));
+            found.retainAll(names);
+        }
+        return found;
+    }
+
     public static boolean canExecuteAt(MainPanelName name) {
         return name.equals(MainPanelName.List);
     }
@@ -43,7 +107,8 @@ public class FindCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && predicate.equals(((FindCommand) other).predicate)); // state check
+                && Objects.equals(predicate, ((FindCommand) other).predicate) // state check
+                && fieldValues.equals(((FindCommand) other).fieldValues));
     }
 
 
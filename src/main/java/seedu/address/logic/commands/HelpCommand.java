@@ -20,6 +20,10 @@ public class HelpCommand extends Command {
             + FindCommand.COMMAND_WORD + "|"
             + SortCommand.COMMAND_WORD + "|"
             + ResetCommand.COMMAND_WORD + "|"
+            + WorkingCommand.COMMAND_WORD + "|"
+            + UndoCommand.COMMAND_WORD + "|"
+            + RedoCommand.COMMAND_WORD + "|"
+            + StatsCommand.COMMAND_WORD + "|"
             + HelpCommand.COMMAND_WORD + "]\n"
             + "Example: " + COMMAND_WORD + ", " + COMMAND_WORD + " add";
 
@@ -52,6 +56,11 @@ public class HelpCommand extends Command {
         return new CommandResult(helpMessage, showHelpPanel, false, false);
     }
 
+    @Override
+    public boolean needsLoadedAddressBook() {
+        return false;
+    }
+
     public static boolean canExecuteAt(MainPanelName name) {
         return name.equals(MainPanelName.List) || name.equals(MainPanelName.Help);
     }
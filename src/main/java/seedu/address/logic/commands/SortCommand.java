@@ -22,10 +22,12 @@ public class SortCommand extends Command {
 
     public static final String COMMAND_WORD = "sort";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts all persons with specified fields\n"
-            + "Parameters: (" + buildParameters(PREFIX_NAME, PREFIX_ROLE, PREFIX_ADDRESS) + ")[/desc]\n"
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts all persons with specified fields, "
+            + "each field breaking ties of the one before\n"
+            + "Parameters: (" + buildParameters(PREFIX_NAME, PREFIX_ROLE, PREFIX_ADDRESS) + ")[/desc]...\n"
             + "Example: " + COMMAND_WORD + " " + PREFIX_NAME.getAlias().replace("/", "")
-            + ", " + COMMAND_WORD + " " + PREFIX_NAME + "desc";
+            + ", " + COMMAND_WORD + " " + PREFIX_NAME + "desc"
+            + ", " + COMMAND_WORD + " " + PREFIX_ROLE.getAlias().replace("/", "") + " " + PREFIX_NAME + "desc";
 
     private final Comparator<Person> comparator;
 
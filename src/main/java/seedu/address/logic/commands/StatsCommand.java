@@ -0,0 +1,51 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.core.PerformanceStats;
+import seedu.address.model.Model;
+import seedu.address.ui.MainPanelName;
+
+/**
+ * Shows how long commands and GitHub requests have taken since the app was started.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows how long each command has taken to parse, "
+            + "execute and save, and how long GitHub requests have taken, since the app was started.\n"
+            + "Example: " + COMMAND_WORD;
+    public static final String MESSAGE_SUCCESS = "Performance statistics since the app was started:\n%1$s";
+
+    private final PerformanceStats stats;
+
+    public StatsCommand() {
+        this(PerformanceStats.getDefaultStats());
+    }
+
+    public StatsCommand(PerformanceStats stats) {
+        this.stats = requireNonNull(stats);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, stats.getReport()));
+    }
+
+    @Override
+    public boolean needsLoadedAddressBook() {
+        return false;
+    }
+
+    public static boolean canExecuteAt(MainPanelName name) {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StatsCommand // instanceof handles nulls
+                && stats == ((StatsCommand) other).stats); // state check
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LocalClock;
+import seedu.address.commons.core.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.ui.MainPanelName;
+
+/**
+ * Lists all persons in address book whose timezone is within working hours right now.
+ */
+public class WorkingCommand extends Command {
+
+    public static final String COMMAND_WORD = "working";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all persons who are within working hours "
+            + "(9am to 6pm, Monday to Friday) in their timezone right now.\n"
+            + "Example: " + COMMAND_WORD;
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        // Persons are matched by name, so that a person who is edited afterwards stays in the list.
+        Set<Name> working = model.getPersonsInWorkingHours(LocalClock.getDefaultClock().instant()).stream()
+                .map(Person::getName)
+                .collect(Collectors.toSet());
+        model.filterPersonList(person -> working.contains(person.getName()));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getSortedFilteredPersonList().size()));
+    }
+
+    public static boolean canExecuteAt(MainPanelName name) {
+        return name.equals(MainPanelName.List);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof WorkingCommand;
+    }
+}
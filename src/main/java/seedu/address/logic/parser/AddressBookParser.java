@@ -5,10 +5,11 @@ import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND_AT_PANEL;
 
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
-import java.util.function.Function;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Map;
+import java.util.function.Predicate;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.BackCommand;
@@ -20,55 +21,58 @@ import seedu.address.logic.commands.DetailHelpCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.ResetCommand;
 import seedu.address.logic.commands.SetCommand;
 import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.WorkingCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.ui.MainPanelName;
 
 /**
  * Parses user input.
+ * The command to parse each input with is looked up by its command word and the panel it is entered at, in a table
+ * built once from {@link #AVAILABLE_COMMANDS}, so that a long script of commands is parsed without searching through
+ * every command for each one.
  */
 public class AddressBookParser {
 
-    /**
-     * Used for initial separation of command word and args.
-     */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
-
+    // Parsers hold no state, so each one is created here once and reused for every command it parses.
     private static final List<CommandFactory> AVAILABLE_COMMANDS = Arrays.asList(
             new CommandFactory(
                     AddCommand.COMMAND_WORD,
                     AddCommand::canExecuteAt,
-                    args -> new AddCommandParser().parse(args)),
+                    new AddCommandParser()::parse),
             new CommandFactory(
                     DeleteCommand.COMMAND_WORD,
                     DeleteCommand::canExecuteAt,
-                    args -> new DeleteCommandParser().parse(args)),
+                    new DeleteCommandParser()::parse),
             new CommandFactory(
                     DeleteAttributeCommand.COMMAND_WORD,
                     DeleteAttributeCommand::canExecuteAt,
-                    args -> new DeleteAttributeCommandParser().parse(args)),
+                    new DeleteAttributeCommandParser()::parse),
             new CommandFactory(
                     FindCommand.COMMAND_WORD,
                     FindCommand::canExecuteAt,
-                    args -> new FindCommandParser().parse(args)),
+                    new FindCommandParser()::parse),
             new CommandFactory(
                     HelpCommand.COMMAND_WORD,
                     HelpCommand::canExecuteAt,
-                    args -> new HelpCommandParser().parse(args)),
+                    new HelpCommandParser()::parse),
             new CommandFactory(
                     DetailHelpCommand.COMMAND_WORD,
                     DetailHelpCommand::canExecuteAt,
-                    args -> new DetailHelpCommandParser().parse(args)),
+                    new DetailHelpCommandParser()::parse),
             new CommandFactory(
                     SetCommand.COMMAND_WORD,
                     SetCommand::canExecuteAt,
-                    args -> new SetCommandParser().parse(args)),
+                    new SetCommandParser()::parse),
             new CommandFactory(
                     SortCommand.COMMAND_WORD,
                     SortCommand::canExecuteAt,
-                    args -> new SortCommandParser().parse(args)),
+                    new SortCommandParser()::parse),
             new CommandFactory(
                     ClearCommand.COMMAND_WORD,
                     ClearCommand::canExecuteAt,
@@ -77,6 +81,22 @@ public class AddressBookParser {
                     ResetCommand.COMMAND_WORD,
                     ResetCommand::canExecuteAt,
                     args -> new ResetCommand()),
+            new CommandFactory(
+                    WorkingCommand.COMMAND_WORD,
+                    WorkingCommand::canExecuteAt,
+                    args -> new WorkingCommand()),
+            new CommandFactory(
+                    UndoCommand.COMMAND_WORD,
+                    UndoCommand::canExecuteAt,
+                    args -> new UndoCommand()),
+            new CommandFactory(
+                    RedoCommand.COMMAND_WORD,
+                    RedoCommand::canExecuteAt,
+                    args -> new RedoCommand()),
+            new CommandFactory(
+                    StatsCommand.COMMAND_WORD,
+                    StatsCommand::canExecuteAt,
+                    args -> new StatsCommand()),
             new CommandFactory(
                     BackCommand.COMMAND_WORD,
                     BackCommand::canExecuteAt,
@@ -87,6 +107,8 @@ public class AddressBookParser {
                     args -> new ExitCommand())
     );
 
+    private static final Map<String, Map<MainPanelName, CommandBuilder>> DISPATCH_TABLE = buildDispatchTable();
+
     /**
      * Parses user input into command for execution.
      *
@@ -95,30 +117,67 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput, MainPanelName mainPanelName) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String input = userInput.trim();
+        int commandWordEnd = 0;
+        while (commandWordEnd < input.length() && !isSeparator(input.charAt(commandWordEnd))) {
+            commandWordEnd++;
+        }
+        if (commandWordEnd == 0 || hasLineTerminator(input, commandWordEnd)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        final String commandWord = input.substring(0, commandWordEnd);
+        final String arguments = input.substring(commandWordEnd);
 
-        boolean belongsToOtherPanel = false;
+        Map<MainPanelName, CommandBuilder> buildersByPanel = DISPATCH_TABLE.get(commandWord);
+        if (buildersByPanel == null) {
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+        CommandBuilder builder = buildersByPanel.get(mainPanelName);
+        if (builder == null) {
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND_AT_PANEL);
+        }
+        return builder.build(arguments);
+    }
+
+    /**
+     * Returns the builder of each command word at each panel it can be executed at.
+     * Where two commands with the same word can be executed at a panel, the first in {@link #AVAILABLE_COMMANDS} is
+     * built.
+     */
+    private static Map<String, Map<MainPanelName, CommandBuilder>> buildDispatchTable() {
+        Map<String, Map<MainPanelName, CommandBuilder>> table = new HashMap<>();
         for (CommandFactory commandFactory : AVAILABLE_COMMANDS) {
-            if (commandFactory.match(commandWord)) {
+            Map<MainPanelName, CommandBuilder> buildersByPanel =
+                    table.computeIfAbsent(commandFactory.commandWord, word -> new EnumMap<>(MainPanelName.class));
+            for (MainPanelName mainPanelName : MainPanelName.values()) {
                 if (commandFactory.canExecuteAt(mainPanelName)) {
-                    return commandFactory.build(arguments);
-                } else {
-                    belongsToOtherPanel = true;
+                    buildersByPanel.putIfAbsent(mainPanelName, commandFactory.builder);
                 }
             }
         }
+        return table;
+    }
 
-        if (belongsToOtherPanel) {
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND_AT_PANEL);
-        }
+    /**
+     * Returns true if {@code c} ends the command word, being whitespace as matched by {@code \s} in a regex.
+     */
+    private static boolean isSeparator(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
 
-        throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+    /**
+     * Returns true if {@code input} has a line terminator from {@code start}. Such arguments have always been
+     * rejected, as arguments used to be matched by {@code .*} in a regex.
+     */
+    private static boolean hasLineTerminator(String input, int start) {
+        for (int i = start; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -127,26 +186,18 @@ public class AddressBookParser {
     private static class CommandFactory {
 
         private final String commandWord;
-        private final Function<MainPanelName, Boolean> canExecute;
+        private final Predicate<MainPanelName> canExecute;
         private final CommandBuilder builder;
 
         public CommandFactory(String commandWord,
-                              Function<MainPanelName, Boolean> canExecute, CommandBuilder commandBuilder) {
+                              Predicate<MainPanelName> canExecute, CommandBuilder commandBuilder) {
             this.commandWord = commandWord;
             this.canExecute = canExecute;
             this.builder = commandBuilder;
         }
 
-        public boolean match(String userCommandWord) {
-            return commandWord.equals(userCommandWord);
-        }
-
         public boolean canExecuteAt(MainPanelName name) {
-            return this.canExecute.apply(name);
-        }
-
-        public Command build(String args) throws ParseException {
-            return builder.build(args);
+            return this.canExecute.test(name);
         }
     }
 
@@ -1,9 +1,9 @@
 package seedu.address.logic.parser;
 
-import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
@@ -15,141 +15,101 @@ import java.util.stream.Collectors;
  */
 public class ArgumentTokenizer {
 
+    private static final Prefix PREAMBLE_PREFIX = new Prefix("");
+
+    /** Automata built so far, as each parser tokenizes with the same prefixes every time */
+    private static final Map<List<Prefix>, PrefixAutomaton> AUTOMATA = new ConcurrentHashMap<>();
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
+     * A prefix is recognized where one of its aliases follows a space. Where aliases of several prefixes follow the
+     * same space, the longest one is recognized.
      *
      * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
      * @param prefixes   Prefixes to tokenize the arguments string with
      * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
-    }
-
-    /**
-     * Finds all zero-based prefix positions in the given arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
+        return AUTOMATA.computeIfAbsent(List.of(prefixes), PrefixAutomaton::new).tokenize(argsString);
     }
 
     /**
-     * {@see findAllPrefixPositions}
+     * Matches the aliases of a set of prefixes in a single pass over an arguments string.
+     * The aliases are held in a trie, which is walked from the root after each space. As aliases contain no spaces,
+     * a space that ends a walk can start the next one right away, so no character is looked at twice.
      */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        for (String alias: prefix.getAliases()) {
-            int prefixPosition = findPrefixPosition(argsString, alias, 0);
-            while (prefixPosition != -1) {
-                PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-                positions.add(extendedPrefix);
-                prefixPosition = findPrefixPosition(argsString, alias, prefixPosition);
+    private static class PrefixAutomaton {
+        private final Node root = new Node();
+
+        PrefixAutomaton(List<Prefix> prefixes) {
+            for (Prefix prefix : prefixes) {
+                for (String alias : prefix.getAliases()) {
+                    assert !alias.isEmpty() && alias.indexOf(' ') == -1 : "Aliases must be non-empty without spaces";
+                    Node node = root;
+                    for (char c : alias.toCharArray()) {
+                        node = node.children.computeIfAbsent(c, unused -> new Node());
+                    }
+                    node.prefix = prefix;
+                    node.aliasLength = alias.length();
+                }
             }
         }
 
-        return positions;
-    }
-
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
-    }
-
-    /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
-     *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
-     */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
-        ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
-        }
-
-        return argMultimap;
-    }
-
-    /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
-     */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
+        ArgumentMultimap tokenize(String argsString) {
+            ArgumentMultimap argMultimap = new ArgumentMultimap();
+            Prefix currentPrefix = PREAMBLE_PREFIX;
+            int valueStart = 0;
+
+            // The trie node reached by the walk in progress, or null if no alias is being matched
+            Node node = null;
+            int aliasStart = 0;
+            Node longestMatch = null;
+
+            for (int i = 0; i < argsString.length(); i++) {
+                char c = argsString.charAt(i);
+                if (node != null) {
+                    Node next = node.children.get(c);
+                    if (next != null) {
+                        node = next;
+                        if (next.prefix != null) {
+                            longestMatch = next;
+                        }
+                        continue;
+                    }
+
+                    node = null;
+                    if (longestMatch != null) {
+                        argMultimap.put(currentPrefix, argsString.substring(valueStart, aliasStart).trim());
+                        currentPrefix = longestMatch.prefix;
+                        valueStart = aliasStart + longestMatch.aliasLength;
+                        longestMatch = null;
+                    }
+                }
+
+                if (c == ' ') {
+                    node = root;
+                    aliasStart = i + 1;
+                }
+            }
 
-        for (String alias: prefix.getAliases()) {
-            if (argsString.startsWith(alias, currentPrefixPosition.getStartPosition())) {
-                int valueStartPos = currentPrefixPosition.getStartPosition() + alias.length();
-                String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
-                return value.trim();
+            if (longestMatch != null) {
+                argMultimap.put(currentPrefix, argsString.substring(valueStart, aliasStart).trim());
+                currentPrefix = longestMatch.prefix;
+                valueStart = aliasStart + longestMatch.aliasLength;
             }
+            argMultimap.put(currentPrefix, argsString.substring(valueStart).trim());
+            return argMultimap;
         }
-
-        return "";
     }
 
     /**
-     * Represents a prefix's position in an arguments string.
+     * A node of the trie of aliases, holding the prefix of the alias that ends there, if any.
      */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
-
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
-        }
-
-        int getStartPosition() {
-            return startPosition;
-        }
-
-        Prefix getPrefix() {
-            return prefix;
-        }
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private Prefix prefix;
+        private int aliasLength;
     }
 
 }
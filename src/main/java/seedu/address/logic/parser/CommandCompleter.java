@@ -0,0 +1,103 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GITHUB;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SLACK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TELEGRAM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIMEZONE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.CompletionField;
+import seedu.address.model.Model;
+
+/**
+ * Completes the word being typed at the end of a command to the values in the address book.
+ * The value completed to depends on the prefix the word is an argument of, such as tag names after {@code t/}.
+ * The keywords of a {@code find} command, which are not prefixed, are completed to any value.
+ */
+public class CommandCompleter {
+    public static final int MAX_COMPLETIONS = 10;
+
+    private static final List<Prefix> ALL_PREFIXES = Arrays.asList(PREFIX_NAME, PREFIX_ADDRESS, PREFIX_TAG,
+            PREFIX_EMAIL, PREFIX_PHONE, PREFIX_SLACK, PREFIX_TELEGRAM, PREFIX_ROLE, PREFIX_TIMEZONE, PREFIX_GITHUB);
+    private static final Map<Prefix, CompletionField> COMPLETED_PREFIXES = new LinkedHashMap<>();
+
+    static {
+        COMPLETED_PREFIXES.put(PREFIX_NAME, CompletionField.NAME);
+        COMPLETED_PREFIXES.put(PREFIX_ROLE, CompletionField.ROLE);
+        COMPLETED_PREFIXES.put(PREFIX_TAG, CompletionField.TAG);
+        COMPLETED_PREFIXES.put(PREFIX_GITHUB, CompletionField.GITHUB_USERNAME);
+    }
+
+    private final Model model;
+
+    public CommandCompleter(Model model) {
+        this.model = requireNonNull(model);
+    }
+
+    /**
+     * Returns the completions of the last word of {@code textBeforeCaret}, in alphabetical order.
+     * Each completion replaces the whole word, keeping a prefix the word starts with.
+     * The command word itself is not completed.
+     */
+    public List<String> getCompletions(String textBeforeCaret) {
+        requireNonNull(textBeforeCaret);
+        String[] words = textBeforeCaret.stripLeading().split("\\s+", -1);
+        if (words.length < 2) {
+            return List.of();
+        }
+        String word = words[words.length - 1];
+
+        // A word without a prefix continues the argument of the last prefix before it, as in "r/Software Eng"
+        for (int i = words.length - 1; i > 0; i--) {
+            for (Prefix prefix : ALL_PREFIXES) {
+                for (String alias : prefix.getAliases()) {
+                    if (!words[i].startsWith(alias)) {
+                        continue;
+                    }
+                    CompletionField field = COMPLETED_PREFIXES.get(prefix);
+                    if (field == null) {
+                        return List.of();
+                    }
+                    String aliasTyped = i == words.length - 1 ? alias : "";
+                    return complete(aliasTyped, word.substring(aliasTyped.length()), List.of(field));
+                }
+            }
+        }
+
+        if (words[0].equals(FindCommand.COMMAND_WORD)) {
+            return complete("", word, Arrays.asList(CompletionField.values()));
+        }
+        return List.of();
+    }
+
+    private List<String> complete(String alias, String partialValue, List<CompletionField> fields) {
+        if (partialValue.isEmpty() && fields.size() > 1) {
+            return List.of();
+        }
+        List<String> values = new ArrayList<>();
+        for (CompletionField field : fields) {
+            values.addAll(model.getCompletions(field, partialValue, MAX_COMPLETIONS));
+        }
+        return values.stream()
+                .distinct()
+                .sorted(Comparator.comparing(String::toLowerCase))
+                .limit(MAX_COMPLETIONS)
+                .map(value -> alias + value)
+                .collect(Collectors.toList());
+    }
+}
@@ -1,9 +1,18 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GITHUB;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.IndexedField;
 import seedu.address.model.person.PersonMatchesKeywordsPredicate;
 
 /**
@@ -11,9 +20,20 @@ import seedu.address.model.person.PersonMatchesKeywordsPredicate;
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    private static final Map<Prefix, IndexedField> PREFIX_FIELD_MAP = Map.of(
+        PREFIX_NAME, IndexedField.NAME,
+        PREFIX_ROLE, IndexedField.ROLE,
+        PREFIX_TAG, IndexedField.TAG,
+        PREFIX_GITHUB, IndexedField.GITHUB_USERNAME
+    );
+
+    private static final Prefix[] AVAILABLE_FIELDS = PREFIX_FIELD_MAP.keySet().toArray(new Prefix[]{});
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
+     * Arguments with the prefix of a name, role, tag or GitHub username find the persons with exactly those values,
+     * and any other arguments are keywords to match fuzzily.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
@@ -23,7 +43,24 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        return new FindCommand(new PersonMatchesKeywordsPredicate(trimmedArgs));
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + trimmedArgs, AVAILABLE_FIELDS);
+        List<Prefix> fields = argMultimap.getPrefixes();
+        if (fields.isEmpty()) {
+            return new FindCommand(new PersonMatchesKeywordsPredicate(trimmedArgs));
+        }
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+
+        Map<IndexedField, List<String>> fieldValues = new EnumMap<>(IndexedField.class);
+        for (Prefix prefix : fields) {
+            List<String> values = argMultimap.getAllValues(prefix);
+            if (values.contains("")) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+            fieldValues.put(PREFIX_FIELD_MAP.get(prefix), values);
+        }
+        return new FindCommand(fieldValues);
     }
 
 }
@@ -9,8 +9,12 @@ import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.ResetCommand;
 import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.WorkingCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -55,6 +59,18 @@ public class HelpCommandParser implements Parser<HelpCommand> {
         case ResetCommand.COMMAND_WORD:
             helpMessage = ResetCommand.MESSAGE_USAGE;
             break;
+        case WorkingCommand.COMMAND_WORD:
+            helpMessage = WorkingCommand.MESSAGE_USAGE;
+            break;
+        case UndoCommand.COMMAND_WORD:
+            helpMessage = UndoCommand.MESSAGE_USAGE;
+            break;
+        case RedoCommand.COMMAND_WORD:
+            helpMessage = RedoCommand.MESSAGE_USAGE;
+            break;
+        case StatsCommand.COMMAND_WORD:
+            helpMessage = StatsCommand.MESSAGE_USAGE;
+            break;
         case HelpCommand.COMMAND_WORD:
             helpMessage = HelpCommand.MESSAGE_USAGE;
             break;
@@ -5,11 +5,13 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_ARGUMENT;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.github.GithubApi;
+import seedu.address.github.GithubHttpClient;
 import seedu.address.github.exceptions.NetworkConnectionException;
 import seedu.address.github.exceptions.UserInvalidException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -31,7 +33,7 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
-    private static final GithubApi githubApi = new GithubApi();
+    private static GithubApi githubApi = new GithubApi();
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -74,7 +76,7 @@ public class ParserUtil {
         if (!Role.isValidRole(trimmedRole)) {
             throw new ParseException(String.format(MESSAGE_INVALID_ARGUMENT, role, Role.MESSAGE_CONSTRAINTS));
         }
-        return new Role(trimmedRole);
+        return Role.of(trimmedRole);
     }
 
     /**
@@ -93,6 +95,31 @@ public class ParserUtil {
         return githubApi.getUser(trimmedUser);
     }
 
+    /**
+     * Refreshes a {@code User} that was stored earlier, fetching only the repositories updated since.
+     */
+    public static User refreshGithubUser(User knownUser) throws UserInvalidException, NetworkConnectionException {
+        requireNonNull(knownUser);
+        return githubApi.refreshUser(knownUser);
+    }
+
+    /**
+     * Refreshes the given {@code User}s that were stored earlier in bulk.
+     * Users that are invalid or could not be fetched are left out of the result, which is keyed by username.
+     */
+    public static Map<String, User> refreshGithubUsers(Collection<User> knownUsers) {
+        requireNonNull(knownUsers);
+        return GithubHttpClient.await(githubApi.refreshUsersAsync(knownUsers));
+    }
+
+    /**
+     * Replaces the {@code GithubApi} used to fetch GitHub users, such as with one configured for batched queries.
+     */
+    public static void setGithubApi(GithubApi githubApi) {
+        requireNonNull(githubApi);
+        ParserUtil.githubApi = githubApi;
+    }
+
     /**
      * Parses a {@code String timezone} into a {@code Timezone}.
      * Leading and trailing whitespaces will be trimmed.
@@ -105,7 +132,7 @@ public class ParserUtil {
         if (!Timezone.isValidTimezone(trimmedTimezone)) {
             throw new ParseException(String.format(MESSAGE_INVALID_ARGUMENT, timezone, Timezone.MESSAGE_CONSTRAINTS));
         }
-        return new Timezone(trimmedTimezone);
+        return Timezone.of(trimmedTimezone);
     }
 
     /**
@@ -165,7 +192,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(String.format(MESSAGE_INVALID_ARGUMENT, tag, Tag.MESSAGE_CONSTRAINTS));
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
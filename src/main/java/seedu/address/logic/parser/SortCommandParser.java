@@ -7,10 +7,14 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
 import static seedu.address.model.person.PersonComparators.ADDRESS_COMPARATOR;
 import static seedu.address.model.person.PersonComparators.NAME_COMPARATOR;
 import static seedu.address.model.person.PersonComparators.ROLE_COMPARATOR;
+import static seedu.address.model.person.PersonComparators.chainComparators;
 import static seedu.address.model.person.PersonComparators.reverseComparator;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import seedu.address.logic.commands.SortCommand;
@@ -30,50 +34,47 @@ public class SortCommandParser implements Parser<SortCommand> {
 
     private static final Prefix[] AVAILABLE_FIELDS = PREFIX_COMPARATOR_MAP.keySet().toArray(new Prefix[]{});
 
+    private static final String DESCENDING = "desc";
+
     /**
      * Parses the given {@code String} of arguments in the context of the SortCommand
      * and returns a SortCommand object for execution.
+     * Fields are sorted by in the order they are given, each breaking the ties of the one before.
      * @throws ParseException if the user input does not conform the expected format
      */
     public SortCommand parse(String userInput) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(addMissingSlashes(userInput), AVAILABLE_FIELDS);
+        List<Prefix> fields = argMultimap.getPrefixes();
 
-        // Add `/` behind userInput so that ArgumentTokenizer can tokenize
-        // `sort name` like `sort name/` or `sort name/desc`.
-        userInput = userInput.contains("desc") ? userInput : userInput + "/";
-
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(userInput, AVAILABLE_FIELDS);
-
-        if (!anyPrefixesPresent(argMultimap) || !argMultimap.getPreamble().isEmpty()) {
+        if (fields.isEmpty() || !argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
         }
 
-        Prefix prefix = getFirstPresentPrefix(argMultimap);
-        Comparator<Person> comparator = PREFIX_COMPARATOR_MAP.get(prefix);
+        List<Comparator<Person>> comparators = new ArrayList<>();
+        for (Prefix prefix : fields) {
+            List<String> values = argMultimap.getAllValues(prefix);
 
-        // The value can only be "" or "desc"
-        if (!argMultimap.getValue(prefix).get().equals("") && !argMultimap.getValue(prefix).get().equals("desc")) {
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
-        }
+            // Each field can only be given once, and its value can only be "" or "desc"
+            if (values.size() > 1 || (!values.get(0).isEmpty() && !values.get(0).equals(DESCENDING))) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+            }
 
-        if (argMultimap.getValue(prefix).get().equals("desc")) {
-            comparator = reverseComparator(comparator);
+            Comparator<Person> comparator = PREFIX_COMPARATOR_MAP.get(prefix);
+            comparators.add(values.get(0).equals(DESCENDING) ? reverseComparator(comparator) : comparator);
         }
 
-        return new SortCommand(comparator);
-    }
-
-    private static Prefix getFirstPresentPrefix(ArgumentMultimap argumentMultimap) {
-        return Stream.of(AVAILABLE_FIELDS)
-                .filter(prefix -> argumentMultimap.getValue(prefix).isPresent())
-                .findFirst().get();
+        return new SortCommand(chainComparators(comparators));
     }
 
     /**
-     * Returns true if one of the prefixes contains empty {@code Optional} values in the given
-     * {@code ArgumentMultimap}.
+     * Adds `/` behind every field name so that ArgumentTokenizer can tokenize
+     * `sort role name` like `sort role/ name/`, while `sort name/desc` and `sort name desc` are left as they are.
      */
-    private static boolean anyPrefixesPresent(ArgumentMultimap argumentMultimap) {
-        return Stream.of(AVAILABLE_FIELDS).anyMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    private static String addMissingSlashes(String userInput) {
+        return Stream.of(userInput.trim().split("\\s+"))
+                .filter(word -> !word.isEmpty())
+                .map(word -> word.contains("/") || word.equals(DESCENDING) ? word : word + "/")
+                .collect(Collectors.joining(" ", " ", ""));
     }
 
 }
@@ -5,7 +5,9 @@ import static java.util.Objects.requireNonNull;
 import java.util.List;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonBatch;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -56,6 +58,21 @@ public class AddressBook implements ReadOnlyAddressBook {
         setPersons(newData.getPersonList());
     }
 
+    /**
+     * Returns a snapshot of the persons in the address book, which later changes do not affect.
+     * Taking a snapshot does not copy the persons.
+     */
+    public PersistentList<Person> getSnapshot() {
+        return persons.getSnapshot();
+    }
+
+    /**
+     * Replaces the persons in the address book with a snapshot previously returned by {@link #getSnapshot()}.
+     */
+    public void restore(PersistentList<Person> snapshot) {
+        persons.restore(snapshot);
+    }
+
     //// person-level operations
 
     /**
@@ -93,6 +110,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    /**
+     * Applies all the changes in {@code batch} to this {@code AddressBook} as a single update.
+     * If any change is invalid, none of them are applied.
+     */
+    public void applyBatch(PersonBatch batch) {
+        persons.applyBatch(batch);
+    }
+
     //// util methods
 
     @Override
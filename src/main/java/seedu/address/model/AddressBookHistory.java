@@ -0,0 +1,148 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.person.Person;
+
+/**
+ * The versions of the persons in the address book that can be returned to with undo and redo.
+ * Each version is a snapshot that shares most of its structure with the version before it, so keeping a version
+ * costs memory in proportion to what changed rather than to the size of the address book. Undo and redo only move a
+ * pointer between versions.
+ *
+ * The history is bounded by the number of versions and by an estimate of the memory they hold on to, beyond which
+ * the oldest versions are dropped.
+ */
+class AddressBookHistory {
+    static final int DEFAULT_MAX_VERSIONS = 100;
+    static final long DEFAULT_MAX_BYTES = 32L * 1024 * 1024;
+
+    /** Approximate size of one node of a {@code PersistentList}: its header, three references, two ints and a long. */
+    static final long BYTES_PER_NODE = 48;
+
+    private final int maxVersions;
+    private final long maxBytes;
+    private final List<Version> versions = new ArrayList<>();
+    private int current;
+    private long retainedBytes;
+
+    /**
+     * Creates a history whose only version is {@code initial}.
+     */
+    AddressBookHistory(PersistentList<Person> initial, int maxVersions, long maxBytes) {
+        requireNonNull(initial);
+        checkArgument(maxVersions > 0, "History must keep at least one version");
+        this.maxVersions = maxVersions;
+        this.maxBytes = maxBytes;
+        reset(initial);
+    }
+
+    AddressBookHistory(PersistentList<Person> initial) {
+        this(initial, DEFAULT_MAX_VERSIONS, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Discards every version and starts again from {@code initial}.
+     */
+    void reset(PersistentList<Person> initial) {
+        requireNonNull(initial);
+        versions.clear();
+        versions.add(new Version(initial, initial.size() * BYTES_PER_NODE));
+        current = 0;
+        retainedBytes = versions.get(0).bytes;
+    }
+
+    /**
+     * Records {@code snapshot} as the newest version, discarding the versions that could have been redone.
+     * Does nothing if {@code snapshot} is the current version.
+     *
+     * @return true if a version was recorded
+     */
+    boolean commit(PersistentList<Person> snapshot) {
+        requireNonNull(snapshot);
+        PersistentList<Person> currentSnapshot = versions.get(current).snapshot;
+        if (snapshot == currentSnapshot) {
+            return false;
+        }
+
+        while (versions.size() > current + 1) {
+            retainedBytes -= versions.remove(versions.size() - 1).bytes;
+        }
+
+        Version version = new Version(snapshot, snapshot.countNodesSince(currentSnapshot) * BYTES_PER_NODE);
+        versions.add(version);
+        current++;
+        retainedBytes += version.bytes;
+
+        while (versions.size() > maxVersions || (retainedBytes > maxBytes && versions.size() > 1)) {
+            dropOldest();
+        }
+        return true;
+    }
+
+    boolean canUndo() {
+        return current > 0;
+    }
+
+    boolean canRedo() {
+        return current < versions.size() - 1;
+    }
+
+    /**
+     * Moves back to the previous version and returns it.
+     */
+    PersistentList<Person> undo() {
+        checkArgument(canUndo(), "No version to undo to");
+        current--;
+        return versions.get(current).snapshot;
+    }
+
+    /**
+     * Moves forward to the version that was last undone and returns it.
+     */
+    PersistentList<Person> redo() {
+        checkArgument(canRedo(), "No version to redo to");
+        current++;
+        return versions.get(current).snapshot;
+    }
+
+    int getVersionCount() {
+        return versions.size();
+    }
+
+    /**
+     * Returns an estimate of the memory held by the versions, counting each node shared between versions once.
+     */
+    long getRetainedBytes() {
+        return retainedBytes;
+    }
+
+    private void dropOldest() {
+        retainedBytes -= versions.remove(0).bytes;
+        current--;
+
+        // The new oldest version now has to hold on to all of its nodes, not only the ones it did not share.
+        Version oldest = versions.get(0);
+        long oldestBytes = oldest.snapshot.size() * BYTES_PER_NODE;
+        retainedBytes += oldestBytes - oldest.bytes;
+        versions.set(0, new Version(oldest.snapshot, oldestBytes));
+    }
+
+    /**
+     * A snapshot of the persons, with the estimated memory of the nodes it does not share with the version before.
+     */
+    private static class Version {
+        final PersistentList<Person> snapshot;
+        final long bytes;
+
+        Version(PersistentList<Person> snapshot, long bytes) {
+            this.snapshot = snapshot;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package seedu.address.model;
+
+/**
+ * The values of persons that typed text can be completed to.
+ */
+public enum CompletionField {
+    /** Words of person names */
+    NAME,
+    /** Words of roles */
+    ROLE,
+    /** Tag names */
+    TAG,
+    /** GitHub usernames */
+    GITHUB_USERNAME
+}
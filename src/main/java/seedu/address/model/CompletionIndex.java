@@ -0,0 +1,81 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.PrefixTrie;
+import seedu.address.model.person.Person;
+
+/**
+ * Indexes the values of persons in {@link CompletionField}s by prefix, so that typed text can be completed without
+ * checking each person in the address book.
+ * Names and roles are indexed word by word, as they are typed a word at a time.
+ */
+class CompletionIndex {
+    private final Map<CompletionField, PrefixTrie> tries = new EnumMap<>(CompletionField.class);
+
+    CompletionIndex() {
+        for (CompletionField field : CompletionField.values()) {
+            tries.put(field, new PrefixTrie());
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    void reset(Collection<Person> persons) {
+        for (CompletionField field : CompletionField.values()) {
+            tries.put(field, new PrefixTrie());
+        }
+        persons.forEach(this::add);
+    }
+
+    void add(Person person) {
+        requireNonNull(person);
+        for (CompletionField field : CompletionField.values()) {
+            getValues(person, field).forEach(tries.get(field)::add);
+        }
+    }
+
+    void remove(Person person) {
+        requireNonNull(person);
+        for (CompletionField field : CompletionField.values()) {
+            getValues(person, field).forEach(tries.get(field)::remove);
+        }
+    }
+
+    /**
+     * Returns at most {@code limit} values of {@code field} starting with {@code prefix}, ignoring case, in
+     * alphabetical order.
+     */
+    List<String> getCompletions(CompletionField field, String prefix, int limit) {
+        requireNonNull(field);
+        return tries.get(field).getCompletions(prefix, limit);
+    }
+
+    private static List<String> getValues(Person person, CompletionField field) {
+        List<String> values = new ArrayList<>();
+        switch (field) {
+        case NAME:
+            values.addAll(List.of(person.getName().fullName.split("\\s+")));
+            break;
+        case ROLE:
+            person.getRole().ifPresent(role -> values.addAll(List.of(role.role.split("\\s+"))));
+            break;
+        case TAG:
+            person.getTags().forEach(tag -> values.add(tag.tagName));
+            break;
+        case GITHUB_USERNAME:
+            person.getGithubUser().ifPresent(user -> values.add(user.getUsername()));
+            break;
+        default:
+            throw new AssertionError("Unknown completion field " + field);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Groups persons by the values of their {@link IndexedField}s, ignoring case, so that the persons with a given value
+ * can be found without checking each person in the address book.
+ */
+class FieldIndex {
+    private final Map<IndexedField, Map<String, Map<Name, Person>>> buckets = new EnumMap<>(IndexedField.class);
+
+    FieldIndex() {
+        for (IndexedField field : IndexedField.values()) {
+            buckets.put(field, new HashMap<>());
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    void reset(Collection<Person> persons) {
+        buckets.values().forEach(Map::clear);
+        persons.forEach(this::add);
+    }
+
+    void add(Person person) {
+        requireNonNull(person);
+        for (IndexedField field : IndexedField.values()) {
+            for (String value : getValues(person, field)) {
+                buckets.get(field)
+                        .computeIfAbsent(value, unused -> new LinkedHashMap<>())
+                        .put(person.getName(), person);
+            }
+        }
+    }
+
+    void remove(Person person) {
+        requireNonNull(person);
+        for (IndexedField field : IndexedField.values()) {
+            Map<String, Map<Name, Person>> fieldBuckets = buckets.get(field);
+            for (String value : getValues(person, field)) {
+                Map<Name, Person> bucket = fieldBuckets.get(value);
+                if (bucket != null) {
+                    bucket.remove(person.getName());
+                    if (bucket.isEmpty()) {
+                        fieldBuckets.remove(value);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson} in the index.
+     * Either may be null, for a person added or removed respectively.
+     */
+    void update(Person target, Person editedPerson) {
+        if (target != null) {
+            remove(target);
+        }
+        if (editedPerson != null) {
+            add(editedPerson);
+        }
+    }
+
+    /**
+     * Returns the persons whose {@code field} is {@code value}, ignoring case.
+     */
+    List<Person> getPersons(IndexedField field, String value) {
+        requireAllNonNull(field, value);
+        Map<Name, Person> bucket = buckets.get(field).get(value.toLowerCase());
+        return bucket == null ? new ArrayList<>() : new ArrayList<>(bucket.values());
+    }
+
+    private static Set<String> getValues(Person person, IndexedField field) {
+        Set<String> values = new HashSet<>();
+        switch (field) {
+        case NAME:
+            values.add(person.getName().fullName.toLowerCase());
+            break;
+        case ROLE:
+            person.getRole().ifPresent(role -> values.add(role.role.toLowerCase()));
+            break;
+        case TAG:
+            person.getTags().forEach(tag -> values.add(tag.tagName.toLowerCase()));
+            break;
+        case GITHUB_USERNAME:
+            person.getGithubUser().ifPresent(user -> values.add(user.getUsername().toLowerCase()));
+            break;
+        default:
+            throw new AssertionError("Unknown indexed field " + field);
+        }
+        return values;
+    }
+}
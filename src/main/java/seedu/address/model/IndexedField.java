@@ -0,0 +1,15 @@
+package seedu.address.model;
+
+/**
+ * The values of persons that persons can be looked up by.
+ */
+public enum IndexedField {
+    /** Full names of persons */
+    NAME,
+    /** Roles */
+    ROLE,
+    /** Tag names */
+    TAG,
+    /** GitHub usernames */
+    GITHUB_USERNAME
+}
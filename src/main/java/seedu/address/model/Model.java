@@ -1,13 +1,16 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonBatch;
 
 /**
  * The API of the Model component.
@@ -78,6 +81,65 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Applies all the changes in {@code batch} to the address book as a single update, so that the person list is
+     * only filtered and sorted once and its listeners are notified once, however many persons are changed.
+     * If any change is invalid, none of them are applied.
+     */
+    void applyPersonBatch(PersonBatch batch);
+
+    /**
+     * Returns the persons whose timezone is within working hours at {@code instant}.
+     * Persons are looked up by the offset of their timezone, without checking each person in the address book.
+     */
+    List<Person> getPersonsInWorkingHours(Instant instant);
+
+    /**
+     * Returns the persons whose {@code field} is {@code value}, ignoring case.
+     * Persons are looked up in an index kept up to date with the address book, without checking each person.
+     */
+    List<Person> getPersonsWith(IndexedField field, String value);
+
+    /**
+     * Returns at most {@code limit} values of {@code field} in the address book that start with {@code prefix},
+     * ignoring case, in alphabetical order.
+     * Values are looked up in an index kept up to date with the address book, without checking each person.
+     */
+    List<String> getCompletions(CompletionField field, String prefix, int limit);
+
+    /**
+     * Records the current state of the address book as a version that can be returned to with undo and redo.
+     * Does nothing if the address book has not changed since the current version.
+     *
+     * @return true if a version was recorded
+     */
+    boolean commitAddressBook();
+
+    /**
+     * Returns true if there is a version of the address book before the current one.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if a version of the address book was undone and can be restored.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Restores the version of the address book before the current one.
+     */
+    void undoAddressBook();
+
+    /**
+     * Restores the version of the address book that was last undone.
+     */
+    void redoAddressBook();
+
+    /**
+     * Forgets every version of the address book, making the current state the only version.
+     */
+    void clearAddressBookHistory();
+
     /**
      * Returns the person selected by user
      */
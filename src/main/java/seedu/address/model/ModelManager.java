@@ -5,7 +5,9 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.model.person.PersonComparators.DEFAULT_COMPARATOR;
 
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -16,6 +18,7 @@ import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonBatch;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -28,6 +31,10 @@ public class ModelManager implements Model {
     private final SortedList<Person> sortedPersons;
     private final FilteredList<Person> filteredPersons;
     private final SimpleObjectProperty<Person> selectedPerson;
+    private final TimezoneIndex timezoneIndex = new TimezoneIndex();
+    private final CompletionIndex completionIndex = new CompletionIndex();
+    private final FieldIndex fieldIndex = new FieldIndex();
+    private final AddressBookHistory history;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -41,6 +48,10 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         sortedPersons = new SortedList<>(filteredPersons, DEFAULT_COMPARATOR);
+        timezoneIndex.reset(this.addressBook.getPersonList());
+        completionIndex.reset(this.addressBook.getPersonList());
+        fieldIndex.reset(this.addressBook.getPersonList());
+        history = new AddressBookHistory(this.addressBook.getSnapshot());
 
         selectedPerson = new SimpleObjectProperty<>();
     }
@@ -89,6 +100,9 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        timezoneIndex.reset(this.addressBook.getPersonList());
+        completionIndex.reset(this.addressBook.getPersonList());
+        fieldIndex.reset(this.addressBook.getPersonList());
     }
 
     @Override
@@ -105,11 +119,17 @@ public class ModelManager implements Model {
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
+        timezoneIndex.remove(target);
+        completionIndex.remove(target);
+        fieldIndex.remove(target);
     }
 
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
+        timezoneIndex.add(person);
+        completionIndex.add(person);
+        fieldIndex.add(person);
         filterPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -118,6 +138,12 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPerson);
 
         addressBook.setPerson(target, editedPerson);
+        timezoneIndex.remove(target);
+        timezoneIndex.add(editedPerson);
+        completionIndex.remove(target);
+        completionIndex.add(editedPerson);
+        fieldIndex.remove(target);
+        fieldIndex.add(editedPerson);
 
         // When the selected person is changed, we need to change
         // the reference of selectedPerson as well to notify.
@@ -126,6 +152,80 @@ public class ModelManager implements Model {
         }
     }
 
+    @Override
+    public void applyPersonBatch(PersonBatch batch) {
+        requireNonNull(batch);
+
+        addressBook.applyBatch(batch);
+        batch.forEachChange(timezoneIndex::update);
+        batch.forEachChange(fieldIndex::update);
+        // Values are counted, so adding before removing keeps those of persons added and removed in the batch right
+        batch.getAddedPersons().forEach(completionIndex::add);
+        batch.getRemovedPersons().forEach(completionIndex::remove);
+        if (batch.hasAdditions()) {
+            filterPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        }
+
+        Person selected = selectedPerson.get();
+        if (selected != null && batch.getReplacement(selected) != selected) {
+            setSelectedPerson(batch.getReplacement(selected));
+        }
+    }
+
+    @Override
+    public List<Person> getPersonsInWorkingHours(Instant instant) {
+        requireNonNull(instant);
+        return timezoneIndex.getPersonsInWorkingHours(instant);
+    }
+
+    @Override
+    public List<Person> getPersonsWith(IndexedField field, String value) {
+        requireAllNonNull(field, value);
+        return fieldIndex.getPersons(field, value);
+    }
+
+    @Override
+    public List<String> getCompletions(CompletionField field, String prefix, int limit) {
+        requireAllNonNull(field, prefix);
+        return completionIndex.getCompletions(field, prefix, limit);
+    }
+
+    @Override
+    public boolean commitAddressBook() {
+        return history.commit(addressBook.getSnapshot());
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return history.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return history.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        addressBook.restore(history.undo());
+        timezoneIndex.reset(addressBook.getPersonList());
+        completionIndex.reset(addressBook.getPersonList());
+        fieldIndex.reset(addressBook.getPersonList());
+    }
+
+    @Override
+    public void redoAddressBook() {
+        addressBook.restore(history.redo());
+        timezoneIndex.reset(addressBook.getPersonList());
+        completionIndex.reset(addressBook.getPersonList());
+        fieldIndex.reset(addressBook.getPersonList());
+    }
+
+    @Override
+    public void clearAddressBookHistory() {
+        history.reset(addressBook.getSnapshot());
+    }
+
     @Override
     public void setSelectedPerson(Person person) {
         selectedPerson.set(person);
@@ -0,0 +1,79 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Timezone;
+
+/**
+ * Groups persons into buckets by the UTC offset of their timezone.
+ * There are at most 37 offsets, so finding the persons that are within working hours only needs each offset to be
+ * checked once, whatever the number of persons. Persons without a timezone are not indexed.
+ */
+class TimezoneIndex {
+    private final Map<ZoneOffset, Map<Name, Person>> buckets = new HashMap<>();
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    void reset(List<Person> persons) {
+        buckets.clear();
+        persons.forEach(this::add);
+    }
+
+    void add(Person person) {
+        requireNonNull(person);
+        person.getTimezone().ifPresent(timezone -> buckets
+                .computeIfAbsent(timezone.getOffset(), unused -> new LinkedHashMap<>())
+                .put(person.getName(), person));
+    }
+
+    void remove(Person person) {
+        requireNonNull(person);
+        person.getTimezone().ifPresent(timezone -> {
+            Map<Name, Person> bucket = buckets.get(timezone.getOffset());
+            if (bucket != null) {
+                bucket.remove(person.getName());
+                if (bucket.isEmpty()) {
+                    buckets.remove(timezone.getOffset());
+                }
+            }
+        });
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson} in the index.
+     * Either may be null, for a person added or removed respectively.
+     */
+    void update(Person target, Person editedPerson) {
+        if (target != null) {
+            remove(target);
+        }
+        if (editedPerson != null) {
+            add(editedPerson);
+        }
+    }
+
+    /**
+     * Returns the persons whose timezone is within working hours at {@code instant}.
+     */
+    List<Person> getPersonsInWorkingHours(Instant instant) {
+        requireNonNull(instant);
+        List<Person> persons = new ArrayList<>();
+        buckets.forEach((offset, bucket) -> {
+            if (Timezone.isWorkingHours(offset, instant)) {
+                persons.addAll(bucket.values());
+            }
+        });
+        return persons;
+    }
+}
@@ -3,6 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.text.CollationKey;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -16,8 +21,10 @@ public class Address implements Comparable<Address> {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
+    private CollationKey sortKey;
 
     /**
      * Constructs an {@code Address}.
@@ -34,12 +41,22 @@ public class Address implements Comparable<Address> {
      * Returns true if a given string is a valid address.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
+    }
+
+    /**
+     * Returns the key this address is sorted by, computed on first use.
+     */
+    public CollationKey getSortKey() {
+        if (sortKey == null) {
+            sortKey = StringUtil.getCollationKey(value);
+        }
+        return sortKey;
     }
 
     @Override
     public int compareTo(Address o) {
-        return value.compareToIgnoreCase(o.value);
+        return getSortKey().compareTo(o.getSortKey());
     }
 
     @Override
@@ -3,6 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.text.CollationKey;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -17,9 +22,13 @@ public class Name implements Comparable<Name> {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum}- ]*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String fullName;
 
+    /** Key this name is sorted by, computed on first use. */
+    private CollationKey sortKey;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -35,13 +44,24 @@ public class Name implements Comparable<Name> {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
+    }
+
+    /**
+     * Returns the locale-aware key this name is sorted by.
+     * The key is computed once, so that sorting only has to compare keys.
+     */
+    public CollationKey getSortKey() {
+        if (sortKey == null) {
+            sortKey = StringUtil.getCollationKey(fullName);
+        }
+        return sortKey;
     }
 
     @Override
     public int compareTo(Name other) {
         assert other != null : "Name is always not null";
-        return this.fullName.toLowerCase().compareTo(other.fullName.toLowerCase());
+        return getSortKey().compareTo(other.getSortKey());
     }
 
     @Override
@@ -1,10 +1,11 @@
 package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.commons.util.CollectionUtil.toCompactSet;
 
+import java.text.CollationKey;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.EnumMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -29,8 +30,8 @@ public class Person implements Comparable<Person> {
     private final User gitHubUser;
     private final Role role;
     private final Timezone timezone;
-    private final Set<Tag> tags = new HashSet<>();
-    private final Map<ContactType, Contact> contacts = new HashMap<>();
+    private final Set<Tag> tags;
+    private final Map<ContactType, Contact> contacts = new EnumMap<>(ContactType.class);
 
     /**
      * Every field must be present and not null.
@@ -44,7 +45,7 @@ public class Person implements Comparable<Person> {
         this.address = ((address) == null && githubUser != null) ? githubUser.getAddress().orElse(null) : address;
         this.role = role;
         this.timezone = timezone;
-        this.tags.addAll(tags);
+        this.tags = toCompactSet(tags);
         this.contacts.putAll(contacts);
         if (!this.contacts.containsKey(ContactType.EMAIL)
                 && (githubUser != null && githubUser.getEmail().isPresent())) {
@@ -73,12 +74,26 @@ public class Person implements Comparable<Person> {
         return Optional.ofNullable(timezone);
     }
 
+    /**
+     * Returns the key this person's address is sorted by, or null if the person has no address.
+     */
+    public CollationKey getAddressSortKey() {
+        return address == null ? null : address.getSortKey();
+    }
+
+    /**
+     * Returns the key this person's role is sorted by, or null if the person has no role.
+     */
+    public CollationKey getRoleSortKey() {
+        return role == null ? null : role.getSortKey();
+    }
+
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
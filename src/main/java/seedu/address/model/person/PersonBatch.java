@@ -0,0 +1,133 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * A sequence of additions, replacements and removals of persons, to be applied to a {@code UniquePersonList} as a
+ * single update. The changes are applied in the order they were made, and each must be valid given the ones before it.
+ *
+ * @see UniquePersonList#applyBatch(PersonBatch)
+ */
+public class PersonBatch {
+    private final List<Change> changes = new ArrayList<>();
+
+    /**
+     * Adds {@code toAdd} to the batch as a person to be added.
+     */
+    public PersonBatch add(Person toAdd) {
+        requireNonNull(toAdd);
+        changes.add(new Change(null, toAdd));
+        return this;
+    }
+
+    /**
+     * Adds the replacement of {@code target} with {@code editedPerson} to the batch.
+     */
+    public PersonBatch setPerson(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        changes.add(new Change(target, editedPerson));
+        return this;
+    }
+
+    /**
+     * Adds {@code toRemove} to the batch as a person to be removed.
+     */
+    public PersonBatch remove(Person toRemove) {
+        requireNonNull(toRemove);
+        changes.add(new Change(toRemove, null));
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    /**
+     * Returns true if the batch adds any person.
+     */
+    public boolean hasAdditions() {
+        return changes.stream().anyMatch(Change::isAddition);
+    }
+
+    /**
+     * Returns what {@code person} becomes once the batch is applied, following every replacement of it in turn.
+     * A person that is not replaced is returned as it is.
+     */
+    public Person getReplacement(Person person) {
+        Person current = person;
+        for (Change change : changes) {
+            if (!change.isAddition() && !change.isRemoval() && change.target.equals(current)) {
+                current = change.person;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Returns the persons the batch adds, including those put in place of another person, in the order they were
+     * made. Together with {@link #getRemovedPersons()}, this is the net effect of the batch once persons added and
+     * later removed in the same batch cancel out.
+     */
+    public List<Person> getAddedPersons() {
+        List<Person> added = new ArrayList<>();
+        for (Change change : changes) {
+            if (!change.isRemoval()) {
+                added.add(change.person);
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Returns the persons the batch removes, including those replaced by another person, in the order they were made.
+     */
+    public List<Person> getRemovedPersons() {
+        List<Person> removed = new ArrayList<>();
+        for (Change change : changes) {
+            if (!change.isAddition()) {
+                removed.add(change.target);
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Passes each change in the batch to {@code action} in the order they were made, as the person replaced or
+     * removed, which is null for additions, and the person put in its place, which is null for removals.
+     */
+    public void forEachChange(BiConsumer<Person, Person> action) {
+        requireNonNull(action);
+        changes.forEach(change -> action.accept(change.target, change.person));
+    }
+
+    List<Change> getChanges() {
+        return Collections.unmodifiableList(changes);
+    }
+
+    /**
+     * A single change in the batch. The target is null for additions and the person is null for removals.
+     */
+    static class Change {
+        final Person target;
+        final Person person;
+
+        Change(Person target, Person person) {
+            this.target = target;
+            this.person = person;
+        }
+
+        boolean isAddition() {
+            return target == null;
+        }
+
+        boolean isRemoval() {
+            return person == null;
+        }
+    }
+}
@@ -1,55 +1,108 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.Optional;
+import java.util.List;
 
 /**
  * Comparators for fields in person model.
+ * Fields are compared by their precomputed collation keys, so sorting does no string work once every key is known.
+ * Persons without the field are placed after those with it.
  */
 public class PersonComparators {
 
-    public static final Comparator<Person> NAME_COMPARATOR = (Comparator.comparing(Person::getName));
+    public static final Comparator<Person> NAME_COMPARATOR = Comparator.comparing(person ->
+        person.getName().getSortKey());
 
     public static final Comparator<Person> DEFAULT_COMPARATOR = NAME_COMPARATOR;
 
-    public static final Comparator<Person> ADDRESS_COMPARATOR = ((o1, o2) -> {
-        if (o1.getAddress().isEmpty() || o2.getAddress().isEmpty()) {
-            return compareOptional(o1.getAddress(), o2.getAddress());
-        }
-
-        return o1.getAddress().get().compareTo(o2.getAddress().get());
-    });
+    public static final Comparator<Person> ADDRESS_COMPARATOR = Comparator.comparing(Person::getAddressSortKey,
+        Comparator.nullsLast(Comparator.naturalOrder()));
 
-    public static final Comparator<Person> ROLE_COMPARATOR = ((o1, o2) -> {
-        if (o1.getRole().isEmpty() || o2.getRole().isEmpty()) {
-            return compareOptional(o1.getRole(), o2.getRole());
-        }
-
-        return o1.getRole().get().compareTo(o2.getRole().get());
-    });
+    public static final Comparator<Person> ROLE_COMPARATOR = Comparator.comparing(Person::getRoleSortKey,
+        Comparator.nullsLast(Comparator.naturalOrder()));
 
     /**
      * Reverses the comparator so we can sort in descending order.
      */
     public static Comparator<Person> reverseComparator(Comparator<Person> comparator) {
-        return ((o1, o2) -> -comparator.compare(o1, o2));
+        return new ReversedComparator(comparator);
     }
 
+    /**
+     * Returns a comparator that sorts by each of {@code comparators} in turn, breaking ties with the next one.
+     * Persons that are still tied are sorted by name, which identifies them, so that the order is always the same.
+     */
+    public static Comparator<Person> chainComparators(List<Comparator<Person>> comparators) {
+        requireNonNull(comparators);
+        List<Comparator<Person>> chain = new ArrayList<>(comparators);
+        if (!chain.contains(NAME_COMPARATOR) && !chain.contains(reverseComparator(NAME_COMPARATOR))) {
+            chain.add(NAME_COMPARATOR);
+        }
+        return chain.size() == 1 ? chain.get(0) : new ChainedComparator(chain);
+    }
 
     /**
-     * Compare between two Optional fields, {@code o1} and {@code o2}.
-     * When both of them are present, returns 0 as it cannot be determined.
-     * When one of them is present, returns 1 when {@code o1} is present else -1.
+     * Comparator in descending order, equal to any other reversal of the same comparator.
      */
-    private static int compareOptional(Optional<?> o1, Optional<?> o2) {
-        if (o1.isPresent() && o2.isPresent()) {
-            return 0; // cannot be determined
+    private static class ReversedComparator implements Comparator<Person> {
+        private final Comparator<Person> comparator;
+
+        ReversedComparator(Comparator<Person> comparator) {
+            this.comparator = requireNonNull(comparator);
         }
 
-        if (o1.isEmpty() && o2.isEmpty()) {
+        @Override
+        public int compare(Person o1, Person o2) {
+            return comparator.compare(o2, o1);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                || (other instanceof ReversedComparator // instanceof handles nulls
+                && comparator.equals(((ReversedComparator) other).comparator)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return -comparator.hashCode();
+        }
+    }
+
+    /**
+     * Comparator over several fields, equal to any other chain of the same comparators.
+     */
+    private static class ChainedComparator implements Comparator<Person> {
+        private final List<Comparator<Person>> comparators;
+
+        ChainedComparator(List<Comparator<Person>> comparators) {
+            this.comparators = List.copyOf(comparators);
+        }
+
+        @Override
+        public int compare(Person o1, Person o2) {
+            for (Comparator<Person> comparator : comparators) {
+                int result = comparator.compare(o1, o2);
+                if (result != 0) {
+                    return result;
+                }
+            }
             return 0;
         }
 
-        return o1.isPresent() ? -1 : 1;
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                || (other instanceof ChainedComparator // instanceof handles nulls
+                && comparators.equals(((ChainedComparator) other).comparators)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return comparators.hashCode();
+        }
     }
 }
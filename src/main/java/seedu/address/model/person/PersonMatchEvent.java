@@ -0,0 +1,28 @@
+package seedu.address.model.person;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * A Java Flight Recorder event covering one person being matched against the keywords of a {@code find}.
+ * A search matches every person in the list, so by default only matches slower than the threshold are recorded.
+ */
+@Name("seedu.address.PersonMatch")
+@Label("Person Keyword Match")
+@Category({"GithubContact", "Model"})
+@Description("A person being matched against search keywords")
+@Threshold("1 ms")
+class PersonMatchEvent extends Event {
+    @Label("Keywords")
+    String keywords;
+
+    @Label("Person")
+    String person;
+
+    @Label("Matched")
+    boolean matched;
+}
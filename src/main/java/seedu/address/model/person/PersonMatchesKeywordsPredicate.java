@@ -1,22 +1,56 @@
 package seedu.address.model.person;
 
 import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import seedu.address.model.tag.Tag;
 
 /**
  * Tests that a {@code Person} matches any of the keywords given.
+ * Tags and roles are shared by many persons, so whether each distinct tag or role matches is only worked out once,
+ * the first time a person with it is tested.
  */
 public class PersonMatchesKeywordsPredicate implements Predicate<Person> {
     private final String keywords;
+    private final String lowerCaseKeywords;
+    private final Map<String, Boolean> sharedValueMatches = new ConcurrentHashMap<>();
 
     public PersonMatchesKeywordsPredicate(String keywords) {
         this.keywords = keywords;
+        this.lowerCaseKeywords = keywords.toLowerCase();
     }
 
-    private boolean containsIgnoreCase(String str1, String str2) {
-        return str1.toLowerCase().contains(str2.toLowerCase());
+    private boolean containsKeywordsIgnoreCase(String str) {
+        return str.toLowerCase().contains(lowerCaseKeywords);
+    }
+
+    /**
+     * Returns true if {@code value} is similar to the keywords or contains them, ignoring case.
+     */
+    private boolean matches(String value) {
+        return isSimilar(value) || containsKeywordsIgnoreCase(value);
+    }
+
+    /**
+     * Returns true if {@code value} matches, looking up the result for a value already tested.
+     */
+    private boolean matchesSharedValue(String value) {
+        return sharedValueMatches.computeIfAbsent(value, this::matches);
+    }
+
+    /**
+     * Returns true if the similarity between the keywords and {@code value} is above 0.5.
+     * The Levenshtein distance is at least the difference in length of the two strings, so values much longer or
+     * shorter than the keywords are ruled out without computing it.
+     */
+    private boolean isSimilar(String value) {
+        int maxLength = Math.max(keywords.length(), value.length());
+        if (maxLength > 0 && 2 * Math.abs(keywords.length() - value.length()) >= maxLength) {
+            return false;
+        }
+        return findSimilarity(keywords, value) > 0.5;
     }
 
     /**
@@ -103,20 +137,13 @@ public class PersonMatchesKeywordsPredicate implements Predicate<Person> {
     }
 
     private boolean matchesName(Person person) {
-        return findSimilarity(keywords, person.getName().fullName) > 0.5
-                || containsIgnoreCase(
-                        person.getName().fullName, keywords
-        );
+        return matches(person.getName().fullName);
     }
 
     private boolean matchesAddress(Person person) {
         if (person.getAddress().isPresent()) {
             assert person.getAddress().get() != null : "Error with matchesAddress method";
-            return findSimilarity(keywords, String.valueOf(
-                    person.getAddress().get().value)) > 0.5
-                    || containsIgnoreCase(
-                            person.getAddress().get().value, keywords
-            );
+            return matches(String.valueOf(person.getAddress().get().value));
         } else {
             return false;
         }
@@ -124,28 +151,19 @@ public class PersonMatchesKeywordsPredicate implements Predicate<Person> {
 
     private boolean matchesRole(Person person) {
         if (person.getRole().isPresent()) {
-            return findSimilarity(keywords, String.valueOf(person.getRole().get().role)) > 0.5
-                    || containsIgnoreCase(
-                            person.getRole().get().role, keywords
-            );
+            return matchesSharedValue(String.valueOf(person.getRole().get().role));
         } else {
             return false;
         }
     }
 
     private boolean matchesGitHubUser(Person person) {
-        return findSimilarity(keywords, person.getGithubUser().toString()) > 0.5
-                || containsIgnoreCase(
-                        person.getGithubUser().toString(), keywords
-        );
+        return matches(person.getGithubUser().toString());
     }
 
     private boolean matchesTags(Person person) {
-        Object[] tags = person.getTags().toArray();
-        for (int i = 0; i < tags.length; i++) {
-            assert tags[i] instanceof Tag : "Error with tags list of Person";
-            if (findSimilarity(keywords, tags[i].toString()) > 0.5
-                    || containsIgnoreCase(tags[i].toString(), keywords)) {
+        for (Tag tag : person.getTags()) {
+            if (matchesSharedValue(tag.toString())) {
                 return true;
             }
         }
@@ -154,11 +172,21 @@ public class PersonMatchesKeywordsPredicate implements Predicate<Person> {
 
     @Override
     public boolean test(Person person) {
-        return matchesName(person)
+        PersonMatchEvent event = new PersonMatchEvent();
+        event.begin();
+        boolean matched = matchesName(person)
                 || matchesAddress(person)
                 || matchesTags(person)
                 || matchesRole(person)
                 || matchesGitHubUser(person);
+        event.end();
+        if (event.shouldCommit()) {
+            event.keywords = keywords;
+            event.person = person.getName().fullName;
+            event.matched = matched;
+            event.commit();
+        }
+        return matched;
     }
 
     @Override
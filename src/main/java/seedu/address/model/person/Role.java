@@ -3,6 +3,12 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.text.CollationKey;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.Interner;
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Software Engineer's role in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidRole(String)}
@@ -15,7 +21,11 @@ public class Role implements Comparable<Role> {
         + "3. not empty";
 
     public static final String VALIDATION_REGEX = "[a-zA-z][a-zA-Z\\d ]*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final Interner<Role> POOL = new Interner<>(Role::new);
+
     public final String role;
+    private CollationKey sortKey;
 
     /**
      * Constructs an {@code Role}.
@@ -28,16 +38,35 @@ public class Role implements Comparable<Role> {
         this.role = role;
     }
 
+    /**
+     * Returns the shared role for {@code role}, so that persons with the same role share one instance.
+     *
+     * @param role A valid role.
+     */
+    public static Role of(String role) {
+        return POOL.intern(role);
+    }
+
     /**
      * Returns true if a given string is a valid role.
      */
     public static boolean isValidRole(String roleString) {
-        return roleString.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(roleString).matches();
+    }
+
+    /**
+     * Returns the key this role is sorted by, computed on first use.
+     */
+    public CollationKey getSortKey() {
+        if (sortKey == null) {
+            sortKey = StringUtil.getCollationKey(role);
+        }
+        return sortKey;
     }
 
     @Override
     public int compareTo(Role o) {
-        return role.compareToIgnoreCase(o.role);
+        return getSortKey().compareTo(o.getSortKey());
     }
 
     @Override
@@ -3,9 +3,15 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.time.DayOfWeek;
 import java.time.Instant;
-import java.time.ZoneId;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.ZoneOffset;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.core.LocalClock;
+import seedu.address.commons.util.Interner;
 
 /**
  * Represents a Software Engineer's role in the address book.
@@ -16,7 +22,16 @@ public class Timezone {
         "Timezone should be a number with sign (+18 to -18), and it should not be blank";
 
     public static final String VALIDATION_REGEX = "[+-][\\d]{1,2}";
+
+    /** Working hours are from 9am to 6pm, Monday to Friday, in the person's timezone. */
+    public static final LocalTime WORKING_HOURS_START = LocalTime.of(9, 0);
+    public static final LocalTime WORKING_HOURS_END = LocalTime.of(18, 0);
+
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final Interner<Timezone> POOL = new Interner<>(Timezone::new);
+
     public final String timezone;
+    private final ZoneOffset offset;
 
     /**
      * Constructs an {@code Role}.
@@ -27,13 +42,23 @@ public class Timezone {
         requireNonNull(timezone);
         checkArgument(isValidTimezone(timezone), MESSAGE_CONSTRAINTS);
         this.timezone = timezone;
+        this.offset = ZoneOffset.ofHours(Integer.parseInt(timezone));
+    }
+
+    /**
+     * Returns the shared timezone for {@code timezone}, so that persons with the same timezone share one instance.
+     *
+     * @param timezone A valid timezone.
+     */
+    public static Timezone of(String timezone) {
+        return POOL.intern(timezone);
     }
 
     /**
      * Returns true if a given string is a valid role.
      */
     public static boolean isValidTimezone(String timezoneString) {
-        if (!timezoneString.matches(VALIDATION_REGEX)) {
+        if (!VALIDATION_PATTERN.matcher(timezoneString).matches()) {
             return false;
         }
 
@@ -46,13 +71,39 @@ public class Timezone {
         }
     }
 
+    public ZoneOffset getOffset() {
+        return offset;
+    }
+
+    /**
+     * Returns true if {@code instant} falls within working hours in this timezone.
+     */
+    public boolean isWorkingHoursAt(Instant instant) {
+        return isWorkingHours(offset, instant);
+    }
+
+    /**
+     * Returns true if {@code instant} falls within working hours at the UTC {@code offset}.
+     */
+    public static boolean isWorkingHours(ZoneOffset offset, Instant instant) {
+        requireNonNull(offset);
+        requireNonNull(instant);
+        LocalDateTime localTime = LocalDateTime.ofInstant(instant, offset);
+        DayOfWeek day = localTime.getDayOfWeek();
+        if (day == DayOfWeek.SATURDAY || day == DayOfWeek.SUNDAY) {
+            return false;
+        }
+        return !localTime.toLocalTime().isBefore(WORKING_HOURS_START)
+                && localTime.toLocalTime().isBefore(WORKING_HOURS_END);
+    }
+
     @Override
     public String toString() {
-        ZoneOffset currentUtcOffSet = ZoneId.systemDefault().getRules().getOffset(Instant.now());
-        ZoneOffset timezoneUtcOffSet = ZoneOffset.ofHours(Integer.valueOf(timezone));
+        // The local offset is kept up to date by the shared clock, so displaying a timezone does no zone lookup.
+        ZoneOffset currentUtcOffSet = LocalClock.getDefaultClock().getLocalOffset();
 
         // Seconds to Hours
-        int difference = (currentUtcOffSet.getTotalSeconds() - timezoneUtcOffSet.getTotalSeconds()) / 3600;
+        int difference = (currentUtcOffSet.getTotalSeconds() - offset.getTotalSeconds()) / 3600;
 
         if (difference == 0) {
             return "same time as you";
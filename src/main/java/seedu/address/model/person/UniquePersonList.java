@@ -3,11 +3,18 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ModifiableObservableListBase;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -19,21 +26,27 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * as to ensure that the person with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * Every person's position is indexed by name, so looking up, replacing and removing a person takes constant time
+ * apart from shifting the list, and the person found is compared by reference before any deep comparison.
+ * The contents are also kept in a {@code PersistentList}, so that a snapshot of the list can be taken in constant time
+ * and restored later, with consecutive snapshots sharing most of their structure.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final PersonObservableList internalList = new PersonObservableList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Integer> positions = new HashMap<>();
+    private PersistentList<Person> snapshot = PersistentList.empty();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return positions.containsKey(toCheck.getName());
     }
 
     /**
@@ -45,7 +58,9 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        positions.put(toAdd.getName(), internalList.size());
         internalList.add(toAdd);
+        snapshot = snapshot.add(toAdd);
     }
 
     /**
@@ -56,16 +71,15 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new PersonNotFoundException();
-        }
-
+        int index = indexOf(target);
         if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
             throw new DuplicatePersonException();
         }
 
+        positions.remove(target.getName());
+        positions.put(editedPerson.getName(), index);
         internalList.set(index, editedPerson);
+        snapshot = snapshot.set(index, editedPerson);
     }
 
     /**
@@ -74,14 +88,21 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new PersonNotFoundException();
+        int index = indexOf(toRemove);
+        internalList.remove(index);
+        snapshot = snapshot.remove(index);
+        positions.remove(toRemove.getName());
+        for (int i = index; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getName(), i);
         }
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        snapshot = snapshot.withAll(replacement.internalList);
+        positions.clear();
+        positions.putAll(replacement.positions);
     }
 
     /**
@@ -90,11 +111,135 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Map<Name, Integer> replacementPositions = indexPositions(persons);
+        if (replacementPositions.size() != persons.size()) {
             throw new DuplicatePersonException();
         }
 
         internalList.setAll(persons);
+        snapshot = snapshot.withAll(persons);
+        positions.clear();
+        positions.putAll(replacementPositions);
+    }
+
+    /**
+     * Returns the current contents of the list, which later changes to the list do not affect.
+     */
+    public PersistentList<Person> getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Replaces the contents of this list with a snapshot previously returned by {@link #getSnapshot()}.
+     */
+    public void restore(PersistentList<Person> snapshot) {
+        requireNonNull(snapshot);
+        List<Person> persons = snapshot.toList();
+        internalList.setAll(persons);
+        this.snapshot = snapshot;
+        positions.clear();
+        positions.putAll(indexPositions(persons));
+    }
+
+    /**
+     * Applies all the changes in {@code batch} to the list. If any change is invalid, none of them are applied.
+     * The listeners are notified of all the changes at once, however many persons are changed. Each person replaced
+     * or removed is changed in place, and the persons added are appended, so a batch that only adds persons, such as a
+     * chunk of an address book being loaded, takes time proportional to its size.
+     *
+     * @throws DuplicatePersonException if a person added or edited has the same identity as another person
+     * @throws PersonNotFoundException if a person replaced or removed is not in the list
+     */
+    public void applyBatch(PersonBatch batch) {
+        requireNonNull(batch);
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        // The changes are first checked against an overlay of the positions and persons they touch, so that an invalid
+        // change leaves the list untouched. Persons added take the positions after the end of the list, and the
+        // persons removed are left as null.
+        int size = internalList.size();
+        List<Person> appended = new ArrayList<>();
+        Map<Name, Integer> changedPositions = new HashMap<>();
+        Map<Integer, Person> changedPersons = new HashMap<>();
+
+        for (PersonBatch.Change change : batch.getChanges()) {
+            if (change.isAddition()) {
+                if (getPosition(change.person.getName(), changedPositions) != null) {
+                    throw new DuplicatePersonException();
+                }
+                changedPositions.put(change.person.getName(), size + appended.size());
+                appended.add(change.person);
+                continue;
+            }
+
+            Integer index = getPosition(change.target.getName(), changedPositions);
+            if (index == null || !getPerson(index, changedPersons, appended).equals(change.target)) {
+                throw new PersonNotFoundException();
+            }
+            if (!change.isRemoval() && !change.target.isSamePerson(change.person)
+                    && getPosition(change.person.getName(), changedPositions) != null) {
+                throw new DuplicatePersonException();
+            }
+
+            changedPositions.put(change.target.getName(), null);
+            if (!change.isRemoval()) {
+                changedPositions.put(change.person.getName(), index);
+            }
+            changedPersons.put(index, change.person);
+        }
+
+        internalList.changeAtOnce(() -> applyChanges(size, appended, changedPositions, changedPersons));
+    }
+
+    /**
+     * Applies the changes of a batch that have been checked by {@link #applyBatch(PersonBatch)}.
+     *
+     * @param size             Size of the list before the batch
+     * @param appended         Persons added by the batch, with null for those removed again by the batch
+     * @param changedPositions Changed positions keyed by name, with null for the persons removed
+     * @param changedPersons   Persons at the changed positions, with null for the persons removed
+     */
+    private void applyChanges(int size, List<Person> appended, Map<Name, Integer> changedPositions,
+                              Map<Integer, Person> changedPersons) {
+        List<Integer> removedIndices = new ArrayList<>();
+        changedPersons.forEach((index, person) -> {
+            if (index >= size) {
+                appended.set(index - size, person);
+            } else if (person == null) {
+                removedIndices.add(index);
+            } else {
+                internalList.set(index, person);
+                snapshot = snapshot.set(index, person);
+            }
+        });
+        changedPositions.forEach((name, index) -> {
+            if (index == null) {
+                positions.remove(name);
+            } else if (index < size) {
+                positions.put(name, index);
+            }
+        });
+
+        removedIndices.sort(Collections.reverseOrder());
+        for (int index : removedIndices) {
+            internalList.remove(index);
+            snapshot = snapshot.remove(index);
+        }
+
+        // Every person from the first one removed onwards, or else from the first one appended, has a new position
+        int firstMovedIndex = removedIndices.isEmpty()
+                ? internalList.size()
+                : removedIndices.get(removedIndices.size() - 1);
+        appended.removeIf(Objects::isNull);
+        internalList.addAll(appended);
+        for (Person person : appended) {
+            snapshot = snapshot.add(person);
+        }
+        for (int i = firstMovedIndex; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getName(), i);
+        }
     }
 
     /**
@@ -106,7 +251,7 @@ public class UniquePersonList implements Iterable<Person> {
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -122,16 +267,91 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of {@code person} in the list.
+     * The person at the indexed position is usually {@code person} itself, in which case {@code Person#equals}
+     * returns without comparing any field.
+     *
+     * @throws PersonNotFoundException if no person in the list equals {@code person}
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private int indexOf(Person person) {
+        Integer index = positions.get(person.getName());
+        if (index == null || !internalList.get(index).equals(person)) {
+            throw new PersonNotFoundException();
+        }
+        return index;
+    }
+
+    /**
+     * Returns the position of the person named {@code name}, given the positions changed by a batch so far, in which
+     * a null position marks a person removed.
+     */
+    private Integer getPosition(Name name, Map<Name, Integer> changedPositions) {
+        return changedPositions.containsKey(name) ? changedPositions.get(name) : positions.get(name);
+    }
+
+    /**
+     * Returns the person at {@code index}, given the persons changed and appended by a batch so far.
+     */
+    private Person getPerson(int index, Map<Integer, Person> changedPersons, List<Person> appended) {
+        if (changedPersons.containsKey(index)) {
+            return changedPersons.get(index);
+        }
+        return index < internalList.size() ? internalList.get(index) : appended.get(index - internalList.size());
+    }
+
+    /**
+     * Returns the positions of {@code persons} keyed by name.
+     * The result has fewer entries than {@code persons} if some persons are not unique.
+     */
+    private static Map<Name, Integer> indexPositions(List<Person> persons) {
+        Map<Name, Integer> positions = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            positions.put(persons.get(i).getName(), i);
+        }
+        return positions;
+    }
+
+    /**
+     * An observable list of persons that can notify its listeners of several changes at once.
+     */
+    private static class PersonObservableList extends ModifiableObservableListBase<Person> {
+        private final List<Person> persons = new ArrayList<>();
+
+        /**
+         * Makes {@code changes} to the list, and then notifies the listeners of all of them in a single change.
+         */
+        void changeAtOnce(Runnable changes) {
+            beginChange();
+            try {
+                changes.run();
+            } finally {
+                endChange();
             }
         }
-        return true;
+
+        @Override
+        public Person get(int index) {
+            return persons.get(index);
+        }
+
+        @Override
+        public int size() {
+            return persons.size();
+        }
+
+        @Override
+        protected void doAdd(int index, Person element) {
+            persons.add(index, element);
+        }
+
+        @Override
+        protected Person doSet(int index, Person element) {
+            return persons.set(index, element);
+        }
+
+        @Override
+        protected Person doRemove(int index) {
+            return persons.remove(index);
+        }
     }
 }
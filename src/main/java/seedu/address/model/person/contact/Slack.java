@@ -3,6 +3,8 @@ package seedu.address.model.person.contact;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's Slack account in the contact book.
  * Guarantees: immutable; is valid as declared in {@link #isValidSlack(String)}
@@ -13,6 +15,7 @@ public class Slack extends Contact {
             + "1. Only contains lower case, number and underscore\n"
             + "2. The identifier should be between 1 and 20 characters in length";
     public static final String VALIDATION_REGEX = "^[a-z0-9-_]{1,20}$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
     private static final String SLACK_LINK_PREFIX = "https://slack.com/app_redirect?channel=";
     private static final ContactType CONTACT_TYPE = ContactType.SLACK;
 
@@ -31,7 +34,7 @@ public class Slack extends Contact {
      * Returns true if a given string is a valid slack channel name.
      */
     public static boolean isValidSlack(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
 }
@@ -3,6 +3,8 @@ package seedu.address.model.person.contact;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's telegram in the contact book.
  * Guarantees: immutable; is valid as declared in {@link #isValidTelegram(String)}
@@ -22,6 +24,7 @@ public class Telegram extends Contact {
      */
     public static final String VALIDATION_REGEX = "^@(?=.{5,32}$)(?!.*__)[A-Za-z][A-Za-z0-9_]*[A-Za-z0-9]$";
     public static final String TELEGRAM_LINK_PREFIX = "https://t.me/";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     private static final ContactType CONTACT_TYPE = ContactType.TELEGRAM;
 
@@ -40,7 +43,7 @@ public class Telegram extends Contact {
      * Returns true if a given string is a valid telegram username.
      */
     public static boolean isValidTelegram(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -3,16 +3,21 @@ package seedu.address.model.person.github;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.regex.Pattern;
 
+import seedu.address.github.AvatarStore;
+import seedu.address.github.RepoInfo;
 import seedu.address.github.UserInfoWrapper;
 import seedu.address.github.UserReposWrapper;
-import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.contact.Email;
@@ -31,6 +36,7 @@ public class User {
             + "4. Username can have a maximum of 39 characters";
     private static final String BASE_GITHUB_URL = "https://github.com/";
     private static final String VALIDATION_REGEX = "^[a-zA-Z\\d](?:[a-zA-Z\\d]|-(?=[a-zA-Z\\d])){0,38}$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
     private final String username;
     private final String url;
     private final Name name;
@@ -40,12 +46,27 @@ public class User {
     private final List<Repo> repoList = new ArrayList<>();
 
     /**
-     * Constructs a GitHub's user
+     * Constructs a GitHub's user. The user's avatar is expected to have been downloaded beforehand.
      *
      * @param username Username corresponding to user to be added
      */
     public User(String username, UserInfoWrapper userInfoWrapper, UserReposWrapper userReposWrapper) {
-        requireAllNonNull(username, userInfoWrapper, userReposWrapper);
+        this(username, userInfoWrapper, userReposWrapper, Collections.emptyList());
+    }
+
+    /**
+     * Constructs a GitHub's user from an incremental refresh. The repositories in {@code userReposWrapper} are
+     * those updated since the last refresh, and replace their earlier versions in {@code knownRepos}. Known
+     * repositories that should have been received but were not are no longer on GitHub, and are dropped, as are
+     * all of them if {@code userReposWrapper} is truncated.
+     * The user's avatar is expected to have been downloaded beforehand.
+     *
+     * @param username   Username corresponding to user to be refreshed
+     * @param knownRepos Repositories of the user as of the last refresh
+     */
+    public User(String username, UserInfoWrapper userInfoWrapper, UserReposWrapper userReposWrapper,
+                List<Repo> knownRepos) {
+        requireAllNonNull(username, userInfoWrapper, userReposWrapper, knownRepos);
         this.username = userInfoWrapper.getUsername();
         this.url = userInfoWrapper.getUrl();
         this.name = new Name(userInfoWrapper.getName().orElse(this.username));
@@ -53,9 +74,8 @@ public class User {
         this.address =
             userInfoWrapper.getLocation().isPresent() ? new Address(userInfoWrapper.getLocation().get()) : null;
 
-        userInfoWrapper.downloadAvatar();
-        updateRepoList(userReposWrapper);
-        this.avatarImageFilePath = getAvatarPathIfExists(userInfoWrapper.getAvatarImageFilePath());
+        updateRepoList(userReposWrapper, knownRepos);
+        this.avatarImageFilePath = userInfoWrapper.getAvatarImageFilePath().orElse(null);
     }
 
     /**
@@ -70,26 +90,14 @@ public class User {
         this.repoList.addAll(repoList);
         this.email = null;
         this.address = null;
-        this.avatarImageFilePath = getAvatarFilePathFromUsername(username);
+        this.avatarImageFilePath = AvatarStore.getDefaultStore().getAvatarPath(username).orElse(null);
     }
 
     /**
      * Returns true if a given string is a valid GitHub's username
      */
     public static boolean isValidUsername(String test) {
-        return test.matches(VALIDATION_REGEX);
-    }
-
-    private Path getAvatarFilePathFromUsername(String username) {
-        String imageFileName = username + ".png";
-        UserPrefs userPrefs = new UserPrefs();
-        Path avatarImageFilePath =
-            Paths.get(userPrefs.getAddressBookFilePath().getParent().toString(), "images", imageFileName);
-        return getAvatarPathIfExists(avatarImageFilePath);
-    }
-
-    private Path getAvatarPathIfExists(Path avatarImageFilePath) {
-        return avatarImageFilePath.toFile().exists() ? avatarImageFilePath : null;
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     public Name getName() {
@@ -120,15 +128,32 @@ public class User {
         return Optional.ofNullable(avatarImageFilePath);
     }
 
-    private void updateRepoList(UserReposWrapper userReposWrapper) {
-        for (int repoId : getRepoIds(userReposWrapper)) {
-            repoList.add(new Repo(
-                userReposWrapper.getRepoName(repoId),
-                userReposWrapper.getRepoUrl(repoId),
-                userReposWrapper.getDescription(repoId).orElse(null),
-                userReposWrapper.getLastUpdated(repoId)
+    private void updateRepoList(UserReposWrapper userReposWrapper, List<Repo> knownRepos) {
+        Map<String, Repo> reposByUrl = new LinkedHashMap<>();
+        for (Repo repo : knownRepos) {
+            if (!userReposWrapper.isTruncated() && !userReposWrapper.coversUpdatesAfter(repo.getLastUpdated())) {
+                reposByUrl.put(repo.getRepoUrl(), repo);
+            }
+        }
+        for (RepoInfo repo : userReposWrapper.getRepos()) {
+            reposByUrl.put(repo.getUrl(), new Repo(
+                repo.getName(),
+                repo.getUrl(),
+                repo.getDescription().orElse(null),
+                repo.getLastUpdated()
             ));
         }
+
+        repoList.addAll(reposByUrl.values());
+        repoList.sort(Comparator.comparing(Repo::getLastUpdated).reversed());
+    }
+
+    /**
+     * Returns the time of the latest update among this user's repositories, which marks how far the repositories
+     * are known to be up to date.
+     */
+    public Optional<LocalDateTime> getReposLastUpdated() {
+        return repoList.stream().map(Repo::getLastUpdated).max(Comparator.naturalOrder());
     }
 
     public ArrayList<Integer> getRepoIds(UserReposWrapper userReposWrapper) {
@@ -31,8 +31,8 @@ public class SampleDataUtil {
                     new Pair<>(ContactType.PHONE, "87438807"),
                     new Pair<>(ContactType.EMAIL, "alexyeoh@example.com")
                 ),
-                new Role("Product Manager"),
-                new Timezone("+8"),
+                Role.of("Product Manager"),
+                Timezone.of("+8"),
                 null
             ),
             new Person(new Name("Bernice Yu"),
@@ -42,8 +42,8 @@ public class SampleDataUtil {
                     new Pair<>(ContactType.PHONE, "99272758"),
                     new Pair<>(ContactType.EMAIL, "berniceyu@example.com")
                 ),
-                new Role("Software Engineer"),
-                new Timezone("+8"),
+                Role.of("Software Engineer"),
+                Timezone.of("+8"),
                 null
             ),
             new Person(new Name("Charlotte Oliveiro"),
@@ -53,8 +53,8 @@ public class SampleDataUtil {
                     new Pair<>(ContactType.PHONE, "93210283"),
                     new Pair<>(ContactType.EMAIL, "charlotte@example.com")
                 ),
-                new Role("Developer"),
-                new Timezone("+8"),
+                Role.of("Developer"),
+                Timezone.of("+8"),
                 null
             ),
             new Person(new Name("David Li"),
@@ -64,8 +64,8 @@ public class SampleDataUtil {
                     new Pair<>(ContactType.PHONE, "91031282"),
                     new Pair<>(ContactType.EMAIL, "lidavid@example.com")
                 ),
-                new Role("Lead Developer"),
-                new Timezone("+8"),
+                Role.of("Lead Developer"),
+                Timezone.of("+8"),
                 null
             ),
             new Person(new Name("Irfan Ibrahim"),
@@ -75,8 +75,8 @@ public class SampleDataUtil {
                     new Pair<>(ContactType.PHONE, "92492021"),
                     new Pair<>(ContactType.EMAIL, "irfan@example.com")
                 ),
-                new Role("Senior Developer"),
-                new Timezone("+8"),
+                Role.of("Senior Developer"),
+                Timezone.of("+8"),
                 null
             ),
             new Person(new Name("Roy Balakrishnan"),
@@ -86,8 +86,8 @@ public class SampleDataUtil {
                     new Pair<>(ContactType.PHONE, "92624417"),
                     new Pair<>(ContactType.EMAIL, "royb@example.com")
                 ),
-                new Role("Consultant"),
-                new Timezone("+8"),
+                Role.of("Consultant"),
+                Timezone.of("+8"),
                 null
             )
         };
@@ -106,7 +106,7 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-            .map(Tag::new)
+            .map(Tag::of)
             .collect(Collectors.toSet());
     }
 
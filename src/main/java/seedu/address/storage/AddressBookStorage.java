@@ -2,10 +2,13 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * Represents a storage for {@link seedu.address.model.AddressBook}.
@@ -30,6 +33,17 @@ public interface AddressBookStorage {
      */
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException;
 
+    /**
+     * Reads the persons of the address book in chunks of at most {@code chunkSize} persons, passing each chunk to
+     * {@code chunkConsumer} as soon as it has been read, along with the total number of persons.
+     *   Returns false if storage file is not found.
+     * @throws DataConversionException if the data in storage is not in the expected format. Chunks before the
+     *     error may already have been passed on.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    boolean readAddressBook(int chunkSize, BiConsumer<List<Person>, Integer> chunkConsumer)
+            throws DataConversionException, IOException;
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
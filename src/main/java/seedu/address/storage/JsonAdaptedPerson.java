@@ -1,10 +1,12 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -15,7 +17,6 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.github.exceptions.NetworkConnectionException;
 import seedu.address.github.exceptions.UserInvalidException;
 import seedu.address.logic.parser.ParserUtil;
-import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
@@ -84,12 +85,32 @@ class JsonAdaptedPerson {
             .collect(Collectors.toList()));
     }
 
+    /**
+     * Returns this person's GitHub user as it was stored, before being refreshed.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted GitHub user.
+     */
+    public Optional<User> getStoredGithubUser() throws IllegalValueException {
+        return githubUser == null ? Optional.empty() : Optional.of(githubUser.toModelType());
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
+        return toModelType(Collections.emptyMap());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
+     * The GitHub user is taken from {@code refreshedUsers} if it was already fetched in bulk, and fetched on its
+     * own otherwise.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     */
+    public Person toModelType(Map<String, User> refreshedUsers) throws IllegalValueException {
         final List<Tag> personTags = new ArrayList<>();
         for (JsonAdaptedTag tag : tagged) {
             personTags.add(tag.toModelType());
@@ -119,20 +140,23 @@ class JsonAdaptedPerson {
         if (role != null && !Role.isValidRole(role)) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Role.class.getSimpleName()));
         }
-        final Role modelRole = role != null ? new Role(role) : null;
+        final Role modelRole = role != null ? Role.of(role) : null;
 
         if (timezone != null && !Timezone.isValidTimezone(timezone)) {
             throw new IllegalValueException(
                 String.format(MISSING_FIELD_MESSAGE_FORMAT, Timezone.class.getSimpleName()));
         }
-        final Timezone modelTimezone = timezone != null ? new Timezone(timezone) : null;
+        final Timezone modelTimezone = timezone != null ? Timezone.of(timezone) : null;
 
         User modelGithubUser = null;
         if (githubUser != null) {
             modelGithubUser = githubUser.toModelType();
             try {
-                modelGithubUser = ParserUtil.parseGithubUser(modelGithubUser.getUsername());
-            } catch (UserInvalidException | ParseException e) {
+                User refreshedUser = refreshedUsers.get(modelGithubUser.getUsername());
+                modelGithubUser = refreshedUser != null
+                    ? refreshedUser
+                    : ParserUtil.refreshGithubUser(modelGithubUser);
+            } catch (UserInvalidException e) {
                 throw new IllegalValueException(
                     String.format("GitHub username %s is invalid! Please provide a valid username.",
                         modelGithubUser.getUsername()));
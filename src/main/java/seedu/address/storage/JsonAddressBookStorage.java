@@ -1,10 +1,14 @@
 package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -13,6 +17,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
@@ -45,17 +50,55 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
+        StorageEvent event = new StorageEvent();
+        event.begin();
+        Optional<ReadOnlyAddressBook> addressBook = Optional.empty();
+        try {
+            Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
+                    filePath, JsonSerializableAddressBook.class);
+            if (!jsonAddressBook.isPresent()) {
+                return Optional.empty();
+            }
+
+            try {
+                addressBook = Optional.of(jsonAddressBook.get().toModelType());
+                return addressBook;
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+                throw new DataConversionException(ive);
+            }
+        } finally {
+            commit(event, StorageEvent.READ, filePath, addressBook.map(book -> book.getPersonList().size()).orElse(0));
         }
+    }
 
+    @Override
+    public boolean readAddressBook(int chunkSize, BiConsumer<List<Person>, Integer> chunkConsumer)
+            throws DataConversionException {
+        checkArgument(chunkSize > 0, "Chunk size must be positive");
+        requireNonNull(chunkConsumer);
+
+        StorageEvent event = new StorageEvent();
+        event.begin();
+        int personCount = 0;
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataConversionException(ive);
+            Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
+                    filePath, JsonSerializableAddressBook.class);
+            if (!jsonAddressBook.isPresent()) {
+                return false;
+            }
+
+            personCount = jsonAddressBook.get().getPersonCount();
+            int totalPersons = personCount;
+            try {
+                jsonAddressBook.get().toModelType(chunkSize, chunk -> chunkConsumer.accept(chunk, totalPersons));
+                return true;
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+                throw new DataConversionException(ive);
+            }
+        } finally {
+            commit(event, StorageEvent.READ, filePath, personCount);
         }
     }
 
@@ -73,8 +116,34 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        StorageEvent event = new StorageEvent();
+        event.begin();
+        try {
+            FileUtil.createIfMissing(filePath);
+            JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        } finally {
+            commit(event, StorageEvent.SAVE, filePath, addressBook.getPersonList().size());
+        }
+    }
+
+    /**
+     * Ends {@code event} and commits it if it is being recorded.
+     * The size of the file is only looked up for an event that will be recorded.
+     */
+    private static void commit(StorageEvent event, String operation, Path filePath, int personCount) {
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.operation = operation;
+        event.path = filePath.toString();
+        event.persons = personCount;
+        try {
+            event.bytes = Files.size(filePath);
+        } catch (IOException e) {
+            event.bytes = -1;
+        }
+        event.commit();
     }
 
 }
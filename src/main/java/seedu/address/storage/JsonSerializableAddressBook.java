@@ -1,7 +1,13 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -9,9 +15,12 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.parser.ParserUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.github.User;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -21,6 +30,12 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
+    /** Persons in a part of a chunk no larger than this are converted on one thread. */
+    static final int SEQUENTIAL_THRESHOLD = 16;
+
+    // Converting a person may wait on a GitHub request, so the common pool is not used to avoid blocking its threads.
+    private static final ForkJoinPool CONVERSION_POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
@@ -47,14 +62,116 @@ class JsonSerializableAddressBook {
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        toModelType(Math.max(1, persons.size()), chunk -> chunk.forEach(addressBook::addPerson));
+        return addressBook;
+    }
+
+    /**
+     * Converts this address book into the model's {@code Person} objects, passing them to {@code chunkConsumer}
+     * in chunks of at most {@code chunkSize} persons as soon as each chunk is converted.
+     * The GitHub users of a chunk are refreshed together, before the persons of the chunk are converted in parallel.
+     * Duplicate persons are then looked for in one pass over the converted chunk.
+     *
+     * @throws IllegalValueException if there were any data constraints violated. Chunks before the one with the
+     *     violation have already been passed on.
+     */
+    public void toModelType(int chunkSize, Consumer<List<Person>> chunkConsumer) throws IllegalValueException {
+        Set<Name> names = new HashSet<>();
+        for (int start = 0; start < persons.size(); start += chunkSize) {
+            List<JsonAdaptedPerson> chunk = persons.subList(start, Math.min(start + chunkSize, persons.size()));
+
+            List<User> storedUsers = new ArrayList<>();
+            for (JsonAdaptedPerson jsonAdaptedPerson : chunk) {
+                jsonAdaptedPerson.getStoredGithubUser().ifPresent(storedUsers::add);
+            }
+            Map<String, User> refreshedUsers = ParserUtil.refreshGithubUsers(storedUsers);
+
+            List<Person> convertedChunk = convert(chunk, refreshedUsers);
+            for (Person person : convertedChunk) {
+                if (!names.add(person.getName())) {
+                    throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+                }
             }
-            addressBook.addPerson(person);
+            chunkConsumer.accept(convertedChunk);
+        }
+    }
+
+    /**
+     * Converts {@code chunk} on the conversion pool, keeping the order of the persons.
+     */
+    private static List<Person> convert(List<JsonAdaptedPerson> chunk, Map<String, User> refreshedUsers)
+            throws IllegalValueException {
+        ConversionTask task = new ConversionTask(chunk, refreshedUsers);
+        if (chunk.size() <= SEQUENTIAL_THRESHOLD) {
+            return task.convertSequentially();
+        }
+        try {
+            return CONVERSION_POOL.invoke(task);
+        } catch (UncheckedIllegalValueException e) {
+            throw e.getCause();
         }
-        return addressBook;
     }
 
+    public int getPersonCount() {
+        return persons.size();
+    }
+
+    List<JsonAdaptedPerson> getPersons() {
+        return persons;
+    }
+
+    /**
+     * Converts a part of a chunk, splitting it in halves until the parts are small enough to convert on one thread.
+     */
+    private static class ConversionTask extends RecursiveTask<List<Person>> {
+        private final List<JsonAdaptedPerson> persons;
+        private final Map<String, User> refreshedUsers;
+
+        ConversionTask(List<JsonAdaptedPerson> persons, Map<String, User> refreshedUsers) {
+            this.persons = persons;
+            this.refreshedUsers = refreshedUsers;
+        }
+
+        @Override
+        protected List<Person> compute() {
+            if (persons.size() <= SEQUENTIAL_THRESHOLD) {
+                try {
+                    return convertSequentially();
+                } catch (IllegalValueException e) {
+                    throw new UncheckedIllegalValueException(e);
+                }
+            }
+
+            int middle = persons.size() / 2;
+            ConversionTask firstHalf = new ConversionTask(persons.subList(0, middle), refreshedUsers);
+            ConversionTask secondHalf = new ConversionTask(persons.subList(middle, persons.size()), refreshedUsers);
+            secondHalf.fork();
+            List<Person> converted = new ArrayList<>(persons.size());
+            converted.addAll(firstHalf.compute());
+            converted.addAll(secondHalf.join());
+            return converted;
+        }
+
+        List<Person> convertSequentially() throws IllegalValueException {
+            List<Person> converted = new ArrayList<>(persons.size());
+            for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
+                converted.add(jsonAdaptedPerson.toModelType(refreshedUsers));
+            }
+            return converted;
+        }
+    }
+
+    /**
+     * Carries an {@code IllegalValueException} out of a {@code ConversionTask}, which cannot throw checked exceptions.
+     */
+    private static class UncheckedIllegalValueException extends RuntimeException {
+        UncheckedIllegalValueException(IllegalValueException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized IllegalValueException getCause() {
+            return (IllegalValueException) super.getCause();
+        }
+    }
 }
@@ -0,0 +1,384 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored in a directory of json files on the hard disk, with the persons spread
+ * over shard files by the hash of their names, and a manifest recording how many shards there are.
+ * Changes to the person list of the address book last saved are tracked as they are made, so that a save only
+ * rewrites the shards with persons that changed. Each shard is replaced atomically, and the manifest is written last.
+ * The order of the persons is kept within a shard but not across shards.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+
+    /** The least number of shards a directory is created with. */
+    static final int MIN_SHARD_COUNT = 16;
+
+    /** The number of persons per shard aimed for when the shards are split, which happens at twice as many. */
+    static final int TARGET_SHARD_SIZE = 64;
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private final Path directory;
+    private final ListChangeListener<Person> changeListener = this::markChangedShards;
+
+    // The persons in each shard of the tracked list, or null if they are not known, as before anything was read or
+    // saved. Shards whose persons differ from those in their files are marked in dirtyShards.
+    private List<Set<Person>> shards;
+    private final BitSet dirtyShards = new BitSet();
+    private int shardCount;
+    private int savedShardCount;
+    private ObservableList<Person> trackedPersons;
+
+    public ShardedAddressBookStorage(Path directory) {
+        this.directory = requireNonNull(directory);
+    }
+
+    public Path getAddressBookFilePath() {
+        return directory;
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        Optional<JsonSerializableAddressBook> jsonAddressBook = readShards();
+        if (jsonAddressBook.isEmpty()) {
+            return Optional.empty();
+        }
+
+        AddressBook addressBook = convert(jsonAddressBook.get());
+        resetShards(addressBook.getPersonList());
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, but without affecting which shards later saves rewrite.
+     *
+     * @param directory location of the data. Cannot be null.
+     * @throws DataConversionException if the files are not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path directory) throws DataConversionException {
+        requireNonNull(directory);
+        if (directory.equals(this.directory)) {
+            return readAddressBook();
+        }
+        return new ShardedAddressBookStorage(directory).readAddressBook();
+    }
+
+    @Override
+    public synchronized boolean readAddressBook(int chunkSize, BiConsumer<List<Person>, Integer> chunkConsumer)
+            throws DataConversionException {
+        checkArgument(chunkSize > 0, "Chunk size must be positive");
+        requireNonNull(chunkConsumer);
+
+        Optional<JsonSerializableAddressBook> jsonAddressBook = readShards();
+        if (jsonAddressBook.isEmpty()) {
+            return false;
+        }
+
+        int totalPersons = jsonAddressBook.get().getPersonCount();
+        List<Person> persons = new ArrayList<>(totalPersons);
+        try {
+            jsonAddressBook.get().toModelType(chunkSize, chunk -> {
+                persons.addAll(chunk);
+                chunkConsumer.accept(chunk, totalPersons);
+            });
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directory + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        resetShards(persons);
+        return true;
+    }
+
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        StorageEvent event = new StorageEvent();
+        event.begin();
+        long bytesWritten = 0;
+        try {
+            track(addressBook.getPersonList());
+            resizeIfFull(addressBook.getPersonList());
+            bytesWritten = writeDirtyShards();
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = StorageEvent.SAVE;
+                event.path = directory.toString();
+                event.persons = addressBook.getPersonList().size();
+                event.bytes = bytesWritten;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}. Saving to another directory writes every shard.
+     *
+     * @param directory location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path directory) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(directory);
+        if (directory.equals(this.directory)) {
+            saveAddressBook(addressBook);
+            return;
+        }
+        new ShardedAddressBookStorage(directory).saveAddressBook(addressBook);
+    }
+
+    /**
+     * Starts tracking the changes to {@code persons}, if it is not already tracked.
+     * The shards whose persons differ from those last read or saved are marked as changed.
+     */
+    private void track(ObservableList<Person> persons) {
+        if (persons == trackedPersons) {
+            return;
+        }
+        stopTracking();
+        if (shardCount == 0) {
+            shardCount = getShardCount(persons.size());
+        }
+
+        List<Set<Person>> previousShards = shards;
+        shards = groupIntoShards(persons, shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            if (previousShards == null || !previousShards.get(i).equals(shards.get(i))) {
+                dirtyShards.set(i);
+            }
+        }
+        trackedPersons = persons;
+        persons.addListener(changeListener);
+    }
+
+    private synchronized void markChangedShards(ListChangeListener.Change<? extends Person> change) {
+        // A person moved within the list, or put back by replacing the whole list as undo does, is both removed and
+        // added, which leaves its shard unchanged.
+        Set<Person> removed = new HashSet<>();
+        Set<Person> added = new LinkedHashSet<>();
+        while (change.next()) {
+            removed.addAll(change.getRemoved());
+            added.addAll(change.getAddedSubList());
+        }
+
+        for (Person person : removed) {
+            if (!added.remove(person)) {
+                int shard = getShard(person, shardCount);
+                shards.get(shard).remove(person);
+                dirtyShards.set(shard);
+            }
+        }
+        for (Person person : added) {
+            int shard = getShard(person, shardCount);
+            if (shards.get(shard).add(person)) {
+                dirtyShards.set(shard);
+            }
+        }
+    }
+
+    /**
+     * Spreads the persons over more shards once there are twice as many persons as aimed for in each shard,
+     * so that the shards rewritten by a save stay about as small however large the address book grows.
+     */
+    private void resizeIfFull(List<Person> persons) {
+        if (persons.size() <= 2 * TARGET_SHARD_SIZE * shardCount) {
+            return;
+        }
+        shardCount = getShardCount(persons.size());
+        shards = groupIntoShards(persons, shardCount);
+        dirtyShards.set(0, shardCount);
+        logger.info("Spreading " + persons.size() + " persons over " + shardCount + " shards in " + directory);
+    }
+
+    /**
+     * Rewrites the shards marked as changed, and then the manifest.
+     *
+     * @return Number of bytes written
+     */
+    private long writeDirtyShards() throws IOException {
+        boolean isResized = savedShardCount != shardCount;
+        if (dirtyShards.isEmpty() && !isResized) {
+            return 0;
+        }
+
+        Files.createDirectories(directory);
+        long bytesWritten = 0;
+        for (int shard = dirtyShards.nextSetBit(0); shard >= 0; shard = dirtyShards.nextSetBit(shard + 1)) {
+            List<JsonAdaptedPerson> persons = shards.get(shard).stream()
+                    .map(JsonAdaptedPerson::new)
+                    .collect(Collectors.toList());
+            Path shardFile = getShardFile(directory, shard, shardCount);
+            bytesWritten += writeAtomically(new JsonSerializableAddressBook(persons), shardFile);
+            dirtyShards.clear(shard);
+        }
+
+        ShardManifest manifest = new ShardManifest();
+        manifest.shardCount = shardCount;
+        bytesWritten += writeAtomically(manifest, directory.resolve(MANIFEST_FILE_NAME));
+
+        if (isResized) {
+            int oldShardCount = savedShardCount;
+            savedShardCount = shardCount;
+            deleteShards(oldShardCount);
+        }
+        return bytesWritten;
+    }
+
+    private <T> long writeAtomically(T jsonFile, Path filePath) throws IOException {
+        Path tempFile = Files.createTempFile(directory, filePath.getFileName().toString(), ".tmp");
+        try {
+            JsonUtil.saveJsonFile(jsonFile, tempFile);
+            long size = Files.size(tempFile);
+            Files.move(tempFile, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return size;
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private void deleteShards(int oldShardCount) {
+        if (oldShardCount == 0) {
+            return;
+        }
+        try (DirectoryStream<Path> oldShards = Files.newDirectoryStream(directory, "*-of-" + oldShardCount + ".json")) {
+            for (Path oldShard : oldShards) {
+                Files.deleteIfExists(oldShard);
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to remove the shards split up in " + directory + ": " + e);
+        }
+    }
+
+    /**
+     * Reads the persons of every shard listed in the manifest.
+     * Returns {@code Optional.empty()} if there is no manifest.
+     *
+     * @throws DataConversionException if the manifest is invalid or a shard listed in it is missing
+     */
+    private Optional<JsonSerializableAddressBook> readShards() throws DataConversionException {
+        Optional<ShardManifest> manifest = JsonUtil.readJsonFile(directory.resolve(MANIFEST_FILE_NAME),
+                ShardManifest.class);
+        if (manifest.isEmpty()) {
+            return Optional.empty();
+        }
+        int manifestShardCount = manifest.get().shardCount;
+        if (manifestShardCount <= 0) {
+            throw new DataConversionException(new IllegalValueException("Invalid shard count in " + directory));
+        }
+
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int shard = 0; shard < manifestShardCount; shard++) {
+            Path shardFile = getShardFile(directory, shard, manifestShardCount);
+            // Every shard is written before the manifest listing it, so a missing shard means its persons are lost
+            Optional<JsonSerializableAddressBook> jsonShard = JsonUtil.readJsonFile(shardFile,
+                    JsonSerializableAddressBook.class);
+            if (jsonShard.isEmpty()) {
+                throw new DataConversionException(new IllegalValueException("Missing shard " + shardFile));
+            }
+            persons.addAll(jsonShard.get().getPersons());
+        }
+
+        // The persons read may be added to the tracked list, which must not be taken for changes to them
+        stopTracking();
+        shards = null;
+        shardCount = manifestShardCount;
+        savedShardCount = manifestShardCount;
+        return Optional.of(new JsonSerializableAddressBook(persons));
+    }
+
+    private AddressBook convert(JsonSerializableAddressBook jsonAddressBook) throws DataConversionException {
+        try {
+            return jsonAddressBook.toModelType();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directory + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Records {@code persons} as the contents of the shard files, just read, with no list being tracked.
+     */
+    private void resetShards(List<Person> persons) {
+        stopTracking();
+        shards = groupIntoShards(persons, shardCount);
+        dirtyShards.clear();
+    }
+
+    private void stopTracking() {
+        if (trackedPersons != null) {
+            trackedPersons.removeListener(changeListener);
+            trackedPersons = null;
+        }
+    }
+
+    private static List<Set<Person>> groupIntoShards(List<Person> persons, int shardCount) {
+        List<Set<Person>> shards = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new LinkedHashSet<>());
+        }
+        for (Person person : persons) {
+            shards.get(getShard(person, shardCount)).add(person);
+        }
+        return shards;
+    }
+
+    /**
+     * Returns the shard that {@code person} is stored in, out of {@code shardCount} shards.
+     * The hash of a {@code String} is the same on every JVM, so a person stays in the same shard between runs.
+     */
+    static int getShard(Person person, int shardCount) {
+        return Math.floorMod(person.getName().fullName.hashCode(), shardCount);
+    }
+
+    /**
+     * Returns the number of shards, a power of two, to spread {@code personCount} persons over.
+     */
+    static int getShardCount(int personCount) {
+        int shardCount = MIN_SHARD_COUNT;
+        while (shardCount * TARGET_SHARD_SIZE < personCount) {
+            shardCount *= 2;
+        }
+        return shardCount;
+    }
+
+    static Path getShardFile(Path directory, int shard, int shardCount) {
+        return directory.resolve(shard + "-of-" + shardCount + ".json");
+    }
+
+    /**
+     * The manifest as it is saved in {@link #MANIFEST_FILE_NAME}.
+     */
+    private static class ShardManifest {
+        private int shardCount;
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.address.storage;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event covering one read or save of the address book file.
+ */
+@Name("seedu.address.Storage")
+@Label("Address Book Storage")
+@Category({"GithubContact", "Storage"})
+@Description("A read or save of the address book data file")
+class StorageEvent extends Event {
+    static final String READ = "read";
+    static final String SAVE = "save";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Path")
+    String path;
+
+    @Label("File Size")
+    @DataAmount
+    long bytes;
+
+    @Label("Persons")
+    int persons;
+}
@@ -1,11 +1,15 @@
 package seedu.address.ui;
 
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import javafx.event.Event;
 import javafx.event.EventHandler;
 import javafx.event.EventType;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -20,18 +24,32 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final WordCompleter wordCompleter;
+
+    // The completions being cycled through by pressing Tab again, and the text as of the last completion.
+    private List<String> cycledCompletions;
+    private int cycledIndex;
+    private String textAfterCompletion;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code WordCompleter}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, WordCompleter wordCompleter) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.wordCompleter = wordCompleter;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode().equals(KeyCode.TAB)) {
+                completeWord();
+                event.consume();
+            }
+        });
     }
 
     public void focus() {
@@ -64,6 +82,74 @@ public class CommandBox extends UiPart<Region> {
         }
     }
 
+    /**
+     * Completes the word before the caret.
+     * A single completion is filled in whole, and several are filled in as far as they have in common. Pressing Tab
+     * again once they have nothing more in common cycles through them.
+     */
+    private void completeWord() {
+        String text = commandTextField.getText();
+        int caretPosition = commandTextField.getCaretPosition();
+        String textBeforeCaret = text.substring(0, caretPosition);
+        int wordStart = getWordStart(textBeforeCaret);
+
+        if (cycledCompletions != null && text.equals(textAfterCompletion)) {
+            cycledIndex = (cycledIndex + 1) % cycledCompletions.size();
+            replaceWord(wordStart, caretPosition, cycledCompletions.get(cycledIndex));
+            return;
+        }
+
+        cycledCompletions = null;
+        List<String> completions = wordCompleter.getCompletions(textBeforeCaret);
+        if (completions.isEmpty()) {
+            return;
+        }
+        if (completions.size() == 1) {
+            replaceWord(wordStart, caretPosition, completions.get(0) + " ");
+            return;
+        }
+
+        String commonPrefix = getCommonPrefix(completions);
+        if (commonPrefix.length() > caretPosition - wordStart) {
+            replaceWord(wordStart, caretPosition, commonPrefix);
+        } else {
+            cycledCompletions = completions;
+            cycledIndex = 0;
+            replaceWord(wordStart, caretPosition, completions.get(0));
+        }
+    }
+
+    private void replaceWord(int wordStart, int wordEnd, String replacement) {
+        commandTextField.replaceText(wordStart, wordEnd, replacement);
+        textAfterCompletion = commandTextField.getText();
+    }
+
+    private static int getWordStart(String textBeforeCaret) {
+        int wordStart = textBeforeCaret.length();
+        while (wordStart > 0 && !Character.isWhitespace(textBeforeCaret.charAt(wordStart - 1))) {
+            wordStart--;
+        }
+        return wordStart;
+    }
+
+    /**
+     * Returns the longest prefix, ignoring case, of all of {@code completions}, as it is in the first of them.
+     */
+    private static String getCommonPrefix(List<String> completions) {
+        String first = completions.get(0);
+        int length = first.length();
+        for (String completion : completions) {
+            length = Math.min(length, completion.length());
+            for (int i = 0; i < length; i++) {
+                if (Character.toLowerCase(completion.charAt(i)) != Character.toLowerCase(first.charAt(i))) {
+                    length = i;
+                    break;
+                }
+            }
+        }
+        return first.substring(0, length);
+    }
+
     /**
      * Sets the command box style to use the default style.
      */
@@ -97,4 +183,17 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that completes the word being typed.
+     */
+    @FunctionalInterface
+    public interface WordCompleter {
+        /**
+         * Returns the completions of the last word of {@code textBeforeCaret}, each to replace the whole word.
+         *
+         * @see seedu.address.logic.Logic#getCompletions(String)
+         */
+        List<String> getCompletions(String textBeforeCaret);
+    }
+
 }
@@ -1,7 +1,6 @@
 package seedu.address.ui;
 
 import java.awt.Desktop;
-import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -12,10 +11,10 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
+import javafx.application.Platform;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
@@ -41,6 +40,7 @@ import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.paint.ImagePattern;
 import javafx.scene.shape.Circle;
+import seedu.address.commons.core.LocalClock;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.contact.Contact;
@@ -56,6 +56,9 @@ public class DetailPanel extends MainPanel {
 
     private static final String FXML = "DetailPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(DetailPanel.class);
+    private final DetailPrefetcher prefetcher;
+    private final Image placeholderImage = new Image(
+            Objects.requireNonNull(getClass().getResourceAsStream("/images/user_placeholder.png")));
 
     @FXML
     private Circle profileImageContainer;
@@ -91,9 +94,11 @@ public class DetailPanel extends MainPanel {
      * Initialises the DetailPanel.
      *
      * @param person The person whose contact details are to be displayed.
+     * @param prefetcher Prefetcher holding details of persons that may be shown, to be used where available.
      */
-    public DetailPanel(SimpleObjectProperty<Person> person) {
+    public DetailPanel(SimpleObjectProperty<Person> person, DetailPrefetcher prefetcher) {
         super(FXML);
+        this.prefetcher = prefetcher;
 
         // Add change listener so when person change, we can get update detail directly.
         person.addListener(new ChangeListener<>() {
@@ -102,6 +107,16 @@ public class DetailPanel extends MainPanel {
                 updatePersonDetail(newPerson);
             }
         });
+        // The panel is only built when first shown, by which time a person may already be selected.
+        if (person.get() != null) {
+            updatePersonDetail(person.get());
+        }
+
+        LocalClock.getDefaultClock().addListener(offset -> Platform.runLater(() -> {
+            if (person.get() != null) {
+                setInformation(person.get());
+            }
+        }));
 
         githubRepoListView.addEventHandler(KeyEvent.KEY_PRESSED, event -> {
             if (event.getCode().equals(KeyCode.ENTER)) {
@@ -155,20 +170,13 @@ public class DetailPanel extends MainPanel {
     private void updatePersonDetail(Person person) {
         nameLabel.setText(person.getName().toString());
 
-        AtomicReference<Image> avatarImage =
-            new AtomicReference<>(new Image(
-                Objects.requireNonNull(
-                    this.getClass().getResourceAsStream("/images/user_placeholder.png")
-                )));
-
-        person.getGithubUser().ifPresent(u -> {
-            if (u.getAvatarImageFilePath().isPresent()) {
-                File avatarImageFile = u.getAvatarImageFilePath().get().toFile();
-                avatarImage.set(new Image(avatarImageFile.toURI().toString()));
-            }
-        });
+        Image avatarImage = person.getGithubUser()
+                .flatMap(User::getAvatarImageFilePath)
+                .map(avatarPath -> prefetcher.getAvatar(avatarPath)
+                        .orElseGet(() -> new Image(avatarPath.toUri().toString())))
+                .orElse(placeholderImage);
 
-        profileImageContainer.setFill(new ImagePattern(avatarImage.get()));
+        profileImageContainer.setFill(new ImagePattern(avatarImage));
 
         setInformation(person);
         setTags(person.getTags());
@@ -290,7 +298,10 @@ public class DetailPanel extends MainPanel {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new GithubRepoCard(repo).getRoot());
+                GithubRepoCard card = prefetcher.getLastUpdatedText(repo)
+                        .map(lastUpdatedText -> new GithubRepoCard(repo, lastUpdatedText))
+                        .orElseGet(() -> new GithubRepoCard(repo));
+                setGraphic(card.getRoot());
             }
         }
     }
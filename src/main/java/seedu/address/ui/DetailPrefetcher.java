@@ -0,0 +1,161 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import org.ocpsoft.prettytime.PrettyTime;
+
+import javafx.scene.image.Image;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.github.Repo;
+import seedu.address.model.person.github.User;
+
+/**
+ * Prepares what the detail panel shows for the persons the user is likely to open next, such as those visible in
+ * the person list, so that opening one of them does not have to wait for its avatar to be decoded.
+ * The work is done from a low priority background thread, and is cancelled for persons that scroll out of view
+ * before their turn comes.
+ */
+public class DetailPrefetcher {
+    private static final int AVATAR_CACHE_SIZE = 128;
+    private static final int LAST_UPDATED_CACHE_SIZE = 2048;
+    // Texts such as "2 hours ago" are only reused while they are unlikely to have changed.
+    private static final long LAST_UPDATED_LIFETIME_NANOS = Duration.ofMinutes(1).toNanos();
+    private static final Logger logger = LogsCenter.getLogger(DetailPrefetcher.class);
+
+    private final ExecutorService worker;
+    private final Map<Path, Image> avatars = Collections.synchronizedMap(new LruMap<>(AVATAR_CACHE_SIZE));
+    private final Map<Repo, LastUpdatedText> lastUpdatedTexts =
+            Collections.synchronizedMap(new LruMap<>(LAST_UPDATED_CACHE_SIZE));
+    private final Map<Person, Future<?>> pendingPersons = new ConcurrentHashMap<>();
+
+    // Only used by the worker thread, as PrettyTime is not safe to share between threads.
+    private final PrettyTime prettyTime = new PrettyTime();
+
+    /**
+     * Creates a prefetcher that works from its own low priority daemon thread.
+     */
+    public DetailPrefetcher() {
+        this(Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "detail-prefetcher");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates a prefetcher that submits its work to {@code worker}, which should run one task at a time.
+     */
+    DetailPrefetcher(ExecutorService worker) {
+        this.worker = requireNonNull(worker);
+    }
+
+    /**
+     * Prefetches the details of {@code persons}, most wanted first, and cancels prefetching those not among them.
+     * Should be called from the JavaFX Application Thread.
+     */
+    public void prefetch(List<Person> persons) {
+        Iterator<Map.Entry<Person, Future<?>>> pending = pendingPersons.entrySet().iterator();
+        while (pending.hasNext()) {
+            Map.Entry<Person, Future<?>> entry = pending.next();
+            if (!persons.contains(entry.getKey())) {
+                entry.getValue().cancel(false);
+                pending.remove();
+            }
+        }
+
+        for (Person person : persons) {
+            if (!pendingPersons.containsKey(person) && !isPrefetched(person)) {
+                pendingPersons.put(person, worker.submit(() -> prefetchPerson(person)));
+            }
+        }
+    }
+
+    /**
+     * Returns the decoded avatar in {@code avatarPath}, if it has been prefetched.
+     */
+    public Optional<Image> getAvatar(Path avatarPath) {
+        return Optional.ofNullable(avatars.get(avatarPath));
+    }
+
+    /**
+     * Returns how long ago {@code repo} was updated, as shown on its card, if it has been prefetched recently.
+     */
+    public Optional<String> getLastUpdatedText(Repo repo) {
+        LastUpdatedText text = lastUpdatedTexts.get(repo);
+        return text == null || text.isStale() ? Optional.empty() : Optional.of(text.text);
+    }
+
+    private boolean isPrefetched(Person person) {
+        Optional<User> user = person.getGithubUser();
+        if (user.isEmpty()) {
+            return true;
+        }
+        return user.get().getAvatarImageFilePath().map(avatars::containsKey).orElse(true)
+                && user.get().getRepoList().stream().allMatch(repo -> getLastUpdatedText(repo).isPresent());
+    }
+
+    private void prefetchPerson(Person person) {
+        try {
+            person.getGithubUser().ifPresent(user -> {
+                user.getAvatarImageFilePath()
+                        .filter(avatarPath -> !avatars.containsKey(avatarPath))
+                        .ifPresent(avatarPath -> avatars.put(avatarPath, new Image(avatarPath.toUri().toString())));
+                for (Repo repo : user.getRepoList()) {
+                    if (getLastUpdatedText(repo).isEmpty()) {
+                        lastUpdatedTexts.put(repo, new LastUpdatedText(prettyTime.format(repo.getLastUpdated())));
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            logger.fine("Failed to prefetch details of " + person.getName() + ": " + e);
+        } finally {
+            pendingPersons.remove(person);
+        }
+    }
+
+    /**
+     * A map that evicts the least recently used entry once it holds more than {@code capacity} entries.
+     */
+    private static class LruMap<K, V> extends LinkedHashMap<K, V> {
+        private final int capacity;
+
+        LruMap(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > capacity;
+        }
+    }
+
+    private static class LastUpdatedText {
+        private final String text;
+        private final long createdNanos = System.nanoTime();
+
+        LastUpdatedText(String text) {
+            this.text = text;
+        }
+
+        boolean isStale() {
+            return System.nanoTime() - createdNanos > LAST_UPDATED_LIFETIME_NANOS;
+        }
+    }
+}
@@ -37,13 +37,20 @@ public class GithubRepoCard extends UiPart<Region> {
      * Creates a {@code GithubRepoCard} with the given {@code repo}.
      */
     public GithubRepoCard(Repo repo) {
+        this(repo, new PrettyTime().format(repo.getLastUpdated()));
+    }
+
+    /**
+     * Creates a {@code GithubRepoCard} with the given {@code repo}, showing {@code lastUpdatedText} as how long ago
+     * it was updated.
+     */
+    public GithubRepoCard(Repo repo, String lastUpdatedText) {
         super(FXML);
         this.repo = repo;
         nameLabel.setText(repo.getRepoName());
         setLabelVisibility(descriptionLabel, repo.getDescription().isPresent());
         repo.getDescription().ifPresent(text -> descriptionLabel.setText(text));
-        PrettyTime p = new PrettyTime();
-        lastUpdatedLabel.setText(p.format(repo.getLastUpdated()));
+        lastUpdatedLabel.setText(lastUpdatedText);
 
         Alert a = new Alert(Alert.AlertType.ERROR);
         nameLabel.setOnAction(e -> {
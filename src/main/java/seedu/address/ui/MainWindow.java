@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import java.util.ArrayDeque;
+import java.util.Queue;
 import java.util.Stack;
 import java.util.logging.Logger;
 
@@ -11,6 +13,7 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StallDetector;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -29,16 +32,20 @@ public class MainWindow extends UiPart<Stage> {
 
     private final Stage primaryStage;
     private final Logic logic;
-    private final HelpWindow helpWindow;
-    private final HelpPanel helpPanel;
-    private final DetailHelpPanel detailHelpPanel;
+    private final StallDetector stallDetector;
     private final Stack<MainPanelName> mainPanelHistory = new Stack<>();
+    private final Queue<String> deferredCommands = new ArrayDeque<>();
+    private final DetailPrefetcher detailPrefetcher = new DetailPrefetcher();
     // Independent Ui parts residing in this Ui container
     private CommandBox commandBox;
     private PersonListPanel personListPanel;
-    private DetailPanel detailPanel;
     private ResultDisplay resultDisplay;
     private MainPanelName currentMainPanel;
+
+    // Ui parts that are only built when first shown, as each of them loads its own FXML file
+    private HelpPanel helpPanel;
+    private DetailHelpPanel detailHelpPanel;
+    private DetailPanel detailPanel;
     @FXML
     private StackPane commandBoxPlaceholder;
 
@@ -56,21 +63,18 @@ public class MainWindow extends UiPart<Stage> {
 
     /**
      * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Commands entered are passed on to {@code stallDetector}, so that stalls can be traced to them.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, Logic logic, StallDetector stallDetector) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.stallDetector = stallDetector;
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
-
-        helpWindow = new HelpWindow();
-
-        helpPanel = new HelpPanel();
-        detailHelpPanel = new DetailHelpPanel();
     }
 
     public Stage getPrimaryStage() {
@@ -81,23 +85,73 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getSortedFilteredPersonList(), this::selectPerson);
+        personListPanel = new PersonListPanel(logic.getSortedFilteredPersonList(), this::selectPerson,
+                detailPrefetcher);
 
         currentMainPanel = MainPanelName.List;
         mainPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
-        detailPanel = new DetailPanel(logic.getSelectedPerson());
-
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath(), logic.getLoadProgress());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        commandBox = new CommandBox(this::executeCommand);
+        commandBox = new CommandBox(this::executeCommand, logic::getCompletions);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
         setupUserInteraction();
+
+        logic.getLoadProgress().addListener((observable, oldProgress, newProgress) -> {
+            if (newProgress.isDone()) {
+                runDeferredCommands();
+            }
+        });
+    }
+
+    private HelpPanel getHelpPanel() {
+        if (helpPanel == null) {
+            helpPanel = new HelpPanel();
+        }
+        return helpPanel;
+    }
+
+    private DetailHelpPanel getDetailHelpPanel() {
+        if (detailHelpPanel == null) {
+            detailHelpPanel = new DetailHelpPanel();
+        }
+        return detailHelpPanel;
+    }
+
+    /**
+     * Returns the detail panel, building it and setting up its key handling the first time it is needed.
+     */
+    private DetailPanel getDetailPanel() {
+        if (detailPanel != null) {
+            return detailPanel;
+        }
+        detailPanel = new DetailPanel(logic.getSelectedPerson(), detailPrefetcher);
+
+        detailPanel.addEventHandler(KeyEvent.KEY_PRESSED, event -> {
+            int selectedIndex = detailPanel.getSelectedRepoIndex();
+            boolean isFirstPersonSelected = selectedIndex <= 0;
+            if (isFirstPersonSelected && event.getCode().equals(KeyCode.UP)) {
+                detailPanel.clearSelectedRepo();
+                commandBox.focus();
+            }
+
+            if (event.getCode().equals(KeyCode.ESCAPE)) {
+                handleBack();
+            }
+        });
+
+        detailPanel.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            // Ignore tab navigation, use arrow keys to navigate instead
+            if (event.getCode().equals(KeyCode.TAB)) {
+                event.consume();
+            }
+        });
+        return detailPanel;
     }
 
     /**
@@ -136,13 +190,13 @@ public class MainWindow extends UiPart<Stage> {
             panelToSwitch = personListPanel;
             break;
         case Help:
-            panelToSwitch = helpPanel;
+            panelToSwitch = getHelpPanel();
             break;
         case Detail:
-            panelToSwitch = detailPanel;
+            panelToSwitch = getDetailPanel();
             break;
         case DetailHelp:
-            panelToSwitch = detailHelpPanel;
+            panelToSwitch = getDetailHelpPanel();
             break;
         default:
             panelToSwitch = personListPanel;
@@ -182,26 +236,6 @@ public class MainWindow extends UiPart<Stage> {
             }
         });
 
-        detailPanel.addEventHandler(KeyEvent.KEY_PRESSED, event -> {
-            int selectedIndex = detailPanel.getSelectedRepoIndex();
-            boolean isFirstPersonSelected = selectedIndex <= 0;
-            if (isFirstPersonSelected && event.getCode().equals(KeyCode.UP)) {
-                detailPanel.clearSelectedRepo();
-                commandBox.focus();
-            }
-
-            if (event.getCode().equals(KeyCode.ESCAPE)) {
-                handleBack();
-            }
-        });
-
-        detailPanel.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
-            // Ignore tab navigation, use arrow keys to navigate instead
-            if (event.getCode().equals(KeyCode.TAB)) {
-                event.consume();
-            }
-        });
-
         commandBox.addEventHandler(KeyEvent.KEY_PRESSED, event -> {
             if (currentMainPanel.equals(MainPanelName.List)) {
                 boolean notEmpty = logic.getSortedFilteredPersonList().size() > 0;
@@ -215,7 +249,7 @@ public class MainWindow extends UiPart<Stage> {
                         .orElse(false);
 
                 if (notEmpty && event.getCode().equals(KeyCode.DOWN)) {
-                    detailPanel.focus();
+                    getDetailPanel().focus();
                 }
             }
         });
@@ -229,7 +263,7 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Opens the help window or focuses on it if it's already opened.
+     * Switches to the help panel for the current panel.
      */
     @FXML
     public void handleHelp() {
@@ -252,7 +286,6 @@ public class MainWindow extends UiPart<Stage> {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
         logic.setGuiSettings(guiSettings);
-        helpWindow.hide();
         primaryStage.hide();
     }
 
@@ -279,11 +312,16 @@ public class MainWindow extends UiPart<Stage> {
      * @see seedu.address.logic.Logic#execute(String, MainPanelName)
      */
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
+        stallDetector.recordCommand(commandText);
         try {
             CommandResult commandResult = logic.execute(commandText, this.currentMainPanel);
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
+            if (commandResult.isDeferred()) {
+                deferredCommands.add(commandText);
+            }
+
             if (commandResult.isShowHelp()) {
                 handleHelp();
             }
@@ -304,6 +342,21 @@ public class MainWindow extends UiPart<Stage> {
         }
     }
 
+    /**
+     * Runs the commands that were entered while the address book was being loaded, in the order they were entered.
+     * A command that fails does not stop the ones after it.
+     */
+    private void runDeferredCommands() {
+        while (!deferredCommands.isEmpty()) {
+            String commandText = deferredCommands.remove();
+            try {
+                executeCommand(commandText);
+            } catch (CommandException | ParseException e) {
+                // already shown to the user by executeCommand
+            }
+        }
+    }
+
     private void selectPerson(Person person) {
         logic.setSelectedPerson(person);
         switchMainPanel(MainPanelName.Detail, true);
@@ -0,0 +1,132 @@
+package seedu.address.ui;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A view of the first pages of a source list, so that a list view only holds the rows it has been scrolled to.
+ * Items keep their index in the source list, and changes beyond the pages shown are not reported.
+ */
+class PagedList<E> extends TransformationList<E, E> {
+    private final int pageSize;
+    private final List<E> shown;
+    private int pageCount = 1;
+    private int sourceSize;
+
+    /**
+     * Creates a {@code PagedList} showing the first {@code pageSize} items of {@code source}.
+     */
+    PagedList(ObservableList<E> source, int pageSize) {
+        super(source);
+        assert pageSize > 0;
+        this.pageSize = pageSize;
+        this.shown = new ArrayList<>(source.subList(0, getShownSize()));
+        this.sourceSize = source.size();
+    }
+
+    /**
+     * Returns true if the source list has items beyond the pages shown.
+     */
+    boolean hasMorePages() {
+        return getSource().size() > size();
+    }
+
+    /**
+     * Shows the next page of the source list, if there is one.
+     */
+    void loadNextPage() {
+        if (!hasMorePages()) {
+            return;
+        }
+        int oldSize = size();
+        pageCount++;
+        refreshShown();
+        beginChange();
+        nextAdd(oldSize, size());
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return shown.get(index);
+    }
+
+    @Override
+    public int size() {
+        return shown.size();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        return index;
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        return index < size() ? index : -1;
+    }
+
+    /**
+     * Reports the range of shown items that differs from the new start of the source list, followed by the items
+     * that moved into or out of the pages shown as a result.
+     * Items are compared by identity, as the source list replaces a person with an edited copy.
+     */
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends E> change) {
+        List<E> oldShown = new ArrayList<>(shown);
+        int sizeChange = getSource().size() - sourceSize;
+        sourceSize = getSource().size();
+        refreshShown();
+
+        int start = 0;
+        while (start < oldShown.size() && start < shown.size() && oldShown.get(start) == shown.get(start)) {
+            start++;
+        }
+
+        // Items after the changed range have moved by the change in size of the source list
+        int oldEnd = Math.min(oldShown.size(), shown.size() - sizeChange);
+        if (oldEnd < start || oldEnd + sizeChange < start) {
+            oldEnd = oldShown.size();
+            sizeChange = shown.size() - oldShown.size();
+        }
+        while (oldEnd > start && oldEnd + sizeChange > start
+                && oldShown.get(oldEnd - 1) == shown.get(oldEnd - 1 + sizeChange)) {
+            oldEnd--;
+        }
+        int newEnd = oldEnd + sizeChange;
+
+        beginChange();
+        List<E> removed = oldShown.subList(start, oldEnd);
+        if (removed.isEmpty() && start < newEnd) {
+            nextAdd(start, newEnd);
+        } else if (!removed.isEmpty() && start == newEnd) {
+            nextRemove(start, removed);
+        } else if (!removed.isEmpty()) {
+            nextReplace(start, newEnd, removed);
+        }
+
+        int movedSize = oldShown.size() + sizeChange;
+        if (movedSize > shown.size()) {
+            nextRemove(shown.size(), oldShown.subList(oldShown.size() - (movedSize - shown.size()), oldShown.size()));
+        } else if (movedSize < shown.size()) {
+            nextAdd(movedSize, shown.size());
+        }
+        endChange();
+    }
+
+    private void refreshShown() {
+        shown.clear();
+        shown.addAll(getSource().subList(0, getShownSize()));
+    }
+
+    private int getShownSize() {
+        return Math.min(getSource().size(), pageCount * pageSize);
+    }
+}
@@ -1,20 +1,27 @@
 package seedu.address.ui;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.event.Event;
 import javafx.event.EventHandler;
 import javafx.event.EventType;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
+import javafx.scene.control.IndexedCell;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.control.SelectionModel;
+import javafx.scene.control.skin.VirtualFlow;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.Region;
+import seedu.address.commons.core.LocalClock;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Person;
 
@@ -23,18 +30,35 @@ import seedu.address.model.person.Person;
  */
 public class PersonListPanel extends MainPanel {
     private static final String FXML = "PersonListPanel.fxml";
+    /** Persons this many rows above and below the selected one are prefetched, as they are likely opened next. */
+    private static final int PREFETCHED_NEIGHBOURS = 3;
+    /** Persons are added to the list view this many at a time, as the last one loaded is scrolled into view. */
+    private static final int PAGE_SIZE = 100;
     private final Logger logger = LogsCenter.getLogger(PersonListPanel.class);
+    private final DetailPrefetcher prefetcher;
+    private final PagedList<Person> pagedPersonList;
+    private boolean isPrefetchScheduled;
+    private boolean isNextPageScheduled;
 
     @FXML
     private ListView<Person> personListView;
 
     /**
      * Creates a {@code PersonListPanel} with the given {@code ObservableList}.
+     * The details of the persons in view and near the selected one are given to {@code prefetcher} as they change.
      */
-    public PersonListPanel(ObservableList<Person> personList, DetailPanelSwitcher switcher) {
+    public PersonListPanel(ObservableList<Person> personList, DetailPanelSwitcher switcher,
+                           DetailPrefetcher prefetcher) {
         super(FXML);
-        personListView.setItems(personList);
+        this.prefetcher = prefetcher;
+        this.pagedPersonList = new PagedList<>(personList, PAGE_SIZE);
+        personListView.setItems(pagedPersonList);
         personListView.setCellFactory(listView -> new PersonListViewCell());
+        personListView.getSelectionModel().selectedIndexProperty()
+                .addListener((unused, oldIndex, newIndex) -> schedulePrefetch());
+
+        // Time differences shown on the cards depend on the local offset, so redraw the visible cards when it changes.
+        LocalClock.getDefaultClock().addListener(offset -> Platform.runLater(personListView::refresh));
 
         personListView.addEventHandler(KeyEvent.KEY_PRESSED, event -> {
             if (event.getCode().equals(KeyCode.ENTER)) {
@@ -75,6 +99,71 @@ public class PersonListPanel extends MainPanel {
         return personListView.getSelectionModel().getSelectedItem();
     }
 
+    /**
+     * Prefetches the persons in view once the current layout pass is done, so that scrolling through many cells
+     * only prefetches once.
+     */
+    private void schedulePrefetch() {
+        if (isPrefetchScheduled) {
+            return;
+        }
+        isPrefetchScheduled = true;
+        Platform.runLater(() -> {
+            isPrefetchScheduled = false;
+            prefetcher.prefetch(getPersonsToPrefetch());
+        });
+    }
+
+    /**
+     * Shows the next page of persons once the current layout pass is done, as the list view cannot change its items
+     * while laying out its cells.
+     */
+    private void scheduleNextPage() {
+        if (isNextPageScheduled || !pagedPersonList.hasMorePages()) {
+            return;
+        }
+        isNextPageScheduled = true;
+        Platform.runLater(() -> {
+            isNextPageScheduled = false;
+            pagedPersonList.loadNextPage();
+        });
+    }
+
+    /**
+     * Returns the selected person and its neighbours, nearest first, followed by the other persons in view.
+     */
+    private List<Person> getPersonsToPrefetch() {
+        List<Person> persons = personListView.getItems();
+        List<Person> personsToPrefetch = new ArrayList<>();
+        int selectedIndex = personListView.getSelectionModel().getSelectedIndex();
+        if (selectedIndex >= 0) {
+            for (int distance = 0; distance <= PREFETCHED_NEIGHBOURS; distance++) {
+                addPersonAt(persons, selectedIndex + distance, personsToPrefetch);
+                addPersonAt(persons, selectedIndex - distance, personsToPrefetch);
+            }
+        }
+
+        // The flow laying out the cells is only created along with the list view's skin
+        Node flowNode = personListView.lookup(".virtual-flow");
+        if (flowNode instanceof VirtualFlow) {
+            VirtualFlow<?> flow = (VirtualFlow<?>) flowNode;
+            IndexedCell<?> firstCell = flow.getFirstVisibleCell();
+            IndexedCell<?> lastCell = flow.getLastVisibleCell();
+            if (firstCell != null && lastCell != null) {
+                for (int i = firstCell.getIndex(); i <= lastCell.getIndex(); i++) {
+                    addPersonAt(persons, i, personsToPrefetch);
+                }
+            }
+        }
+        return personsToPrefetch;
+    }
+
+    private static void addPersonAt(List<Person> persons, int index, List<Person> personsToPrefetch) {
+        if (index >= 0 && index < persons.size() && !personsToPrefetch.contains(persons.get(index))) {
+            personsToPrefetch.add(persons.get(index));
+        }
+    }
+
     public <T extends Event> void addEventHandler(EventType<T> eventType, EventHandler<? super T> eventHandler) {
         personListView.addEventHandler(eventType, eventHandler);
     }
@@ -110,7 +199,12 @@ public class PersonListPanel extends MainPanel {
                 setText(null);
             } else {
                 setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                if (getIndex() == pagedPersonList.size() - 1) {
+                    scheduleNextPage();
+                }
             }
+            // Cells are updated as they scroll into view
+            schedulePrefetch();
         }
     }
 
@@ -3,9 +3,11 @@ package seedu.address.ui;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import javafx.beans.property.SimpleObjectProperty;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import seedu.address.logic.LoadProgress;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -18,11 +20,22 @@ public class StatusBarFooter extends UiPart<Region> {
     private Label saveLocationStatus;
 
     /**
-     * Creates a {@code StatusBarFooter} with the given {@code Path}.
+     * Creates a {@code StatusBarFooter} with the given {@code Path}, which shows how many contacts have been loaded
+     * instead until {@code loadProgress} is done.
      */
-    public StatusBarFooter(Path saveLocation) {
+    public StatusBarFooter(Path saveLocation, SimpleObjectProperty<LoadProgress> loadProgress) {
         super(FXML);
-        saveLocationStatus.setText("Saved at: " + Paths.get(".").resolve(saveLocation).toString());
+        showStatus(saveLocation, loadProgress.get());
+        loadProgress.addListener((observable, oldProgress, newProgress) -> showStatus(saveLocation, newProgress));
+    }
+
+    private void showStatus(Path saveLocation, LoadProgress progress) {
+        if (progress.isDone()) {
+            saveLocationStatus.setText("Saved at: " + Paths.get(".").resolve(saveLocation).toString());
+        } else {
+            saveLocationStatus.setText("Loading contacts: " + progress.getLoadedCount() + "/"
+                    + progress.getTotalCount());
+        }
     }
 
 }
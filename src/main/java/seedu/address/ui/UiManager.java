@@ -3,12 +3,15 @@ package seedu.address.ui;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
+import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
 import javafx.scene.image.Image;
 import javafx.stage.Stage;
 import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StallDetector;
+import seedu.address.commons.core.StartupProfiler;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 
@@ -39,10 +42,17 @@ public class UiManager implements Ui {
         //Set the application icon.
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
+        // start is called on the JavaFX Application Thread, which is the thread to watch
+        StallDetector stallDetector = new StallDetector(Thread.currentThread(), Platform::runLater,
+                StallDetector.DEFAULT_THRESHOLD);
+        stallDetector.start();
+
+        StartupProfiler profiler = StartupProfiler.getDefaultProfiler();
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
-            mainWindow.show(); //This should be called before creating other UI parts
-            mainWindow.fillInnerParts();
+            mainWindow = profiler.time("main window", () -> new MainWindow(primaryStage, logic, stallDetector));
+            profiler.time("show", mainWindow::show); //This should be called before creating other UI parts
+            profiler.time("fill inner parts", mainWindow::fillInnerParts);
+            finishStartupOnFirstFrame(primaryStage.getScene(), profiler);
 
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
@@ -50,6 +60,21 @@ public class UiManager implements Ui {
         }
     }
 
+    /**
+     * Finishes {@code profiler} once {@code scene} has been laid out for the first time, when the first frame with
+     * the filled in main window is about to be shown.
+     */
+    private static void finishStartupOnFirstFrame(Scene scene, StartupProfiler profiler) {
+        scene.addPostLayoutPulseListener(new Runnable() {
+            @Override
+            public void run() {
+                profiler.finish();
+                // The listeners are being iterated over during the pulse, so this one is removed after it.
+                Platform.runLater(() -> scene.removePostLayoutPulseListener(this));
+            }
+        });
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -7,6 +7,7 @@ import java.net.URL;
 
 import javafx.fxml.FXMLLoader;
 import seedu.address.MainApp;
+import seedu.address.commons.core.StartupProfiler;
 
 /**
  * Represents a distinct part of the UI. e.g. Windows, dialogs, panels, status bars, etc.
@@ -17,6 +18,8 @@ public abstract class UiPart<T> {
     /** Resource folder where FXML files are stored. */
     public static final String FXML_FILE_FOLDER = "/view/";
 
+    private static final StartupProfiler profiler = StartupProfiler.getDefaultProfiler();
+
     private final FXMLLoader fxmlLoader = new FXMLLoader();
 
     /**
@@ -60,6 +63,7 @@ public abstract class UiPart<T> {
 
     /**
      * Loads the object hierarchy from a FXML document.
+     * Loads during startup are timed by the {@link StartupProfiler}.
      * @param location Location of the FXML document.
      * @param root Specifies the root of the object hierarchy.
      */
@@ -68,13 +72,23 @@ public abstract class UiPart<T> {
         fxmlLoader.setLocation(location);
         fxmlLoader.setController(this);
         fxmlLoader.setRoot(root);
+        long startTime = System.nanoTime();
         try {
             fxmlLoader.load();
         } catch (IOException e) {
             throw new AssertionError(e);
+        } finally {
+            if (!profiler.isFinished()) {
+                profiler.recordSince("fxml " + getFileName(location), startTime);
+            }
         }
     }
 
+    private static String getFileName(URL location) {
+        String path = location.getPath();
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+
     /**
      * Returns the FXML file URL for the specified FXML file name within {@link #FXML_FILE_FOLDER}.
      */
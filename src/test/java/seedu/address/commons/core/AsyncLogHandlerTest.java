@@ -0,0 +1,146 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.AsyncLogHandler.OverflowPolicy;
+
+public class AsyncLogHandlerTest {
+    private final RecordingHandler recorder = new RecordingHandler();
+
+    @Test
+    public void close_recordsInBuffer_writtenInOrder() {
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(recorder), 16, OverflowPolicy.DROP);
+        recorder.release();
+        handler.publish(record(Level.INFO, "first"));
+        handler.publish(record(Level.INFO, "second"));
+        handler.close();
+
+        assertEquals(List.of("first", "second"), recorder.getMessages());
+        assertTrue(recorder.isClosed);
+    }
+
+    @Test
+    public void publish_bufferFullWithDropPolicy_dropsAndReports() throws Exception {
+        AsyncLogHandler handler = fillBuffer(OverflowPolicy.DROP);
+        handler.publish(record(Level.INFO, "dropped"));
+        assertEquals(1, handler.getDroppedCount());
+
+        recorder.release();
+        handler.close();
+        assertEquals(List.of("blocking", "Log buffer was full, dropped 1 log records", "queued 1", "queued 2"),
+            recorder.getMessages());
+    }
+
+    @Test
+    public void publish_bufferFullWithSamplePolicy_keepsWarnings() throws Exception {
+        AsyncLogHandler handler = fillBuffer(OverflowPolicy.SAMPLE);
+        Thread publisher = new Thread(() -> {
+            handler.publish(record(Level.INFO, "sampled"));
+            handler.publish(record(Level.WARNING, "warning"));
+        });
+        publisher.start();
+        awaitWaiting(publisher);
+
+        // the records after the sampled one are dropped while the buffer stays full
+        for (int i = 1; i < AsyncLogHandler.SAMPLE_RATE; i++) {
+            handler.publish(record(Level.INFO, "dropped"));
+        }
+        assertEquals(AsyncLogHandler.SAMPLE_RATE - 1, handler.getDroppedCount());
+
+        recorder.release();
+        publisher.join();
+        handler.close();
+
+        List<String> messages = recorder.getMessages();
+        assertTrue(messages.contains("sampled"));
+        assertTrue(messages.contains("warning"));
+        assertFalse(messages.contains("dropped"));
+    }
+
+    @Test
+    public void publish_bufferFullWithBlockPolicy_waitsForSpace() throws Exception {
+        AsyncLogHandler handler = fillBuffer(OverflowPolicy.BLOCK);
+        Thread publisher = new Thread(() -> handler.publish(record(Level.INFO, "waited")));
+        publisher.start();
+        awaitWaiting(publisher);
+        recorder.release();
+        publisher.join();
+        handler.close();
+
+        assertEquals(0, handler.getDroppedCount());
+        assertEquals(List.of("blocking", "queued 1", "queued 2", "waited"), recorder.getMessages());
+    }
+
+    /**
+     * Returns a handler with a buffer of two records that is full, with the writer thread stuck writing a record.
+     */
+    private AsyncLogHandler fillBuffer(OverflowPolicy overflowPolicy) throws InterruptedException {
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(recorder), 2, overflowPolicy);
+        handler.publish(record(Level.INFO, "blocking"));
+        assertTrue(recorder.started.await(5, TimeUnit.SECONDS));
+        handler.publish(record(Level.INFO, "queued 1"));
+        handler.publish(record(Level.INFO, "queued 2"));
+        return handler;
+    }
+
+    private static void awaitWaiting(Thread thread) throws InterruptedException {
+        while (thread.getState() != Thread.State.WAITING) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static LogRecord record(Level level, String message) {
+        return new LogRecord(level, message);
+    }
+
+    /**
+     * A handler that records the messages it is given, and holds up the writer until it is released.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<LogRecord> records = new CopyOnWriteArrayList<>();
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+        private volatile boolean isClosed;
+
+        void release() {
+            released.countDown();
+        }
+
+        List<String> getMessages() {
+            return records.stream().map(LogRecord::getMessage).collect(Collectors.toList());
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            started.countDown();
+            try {
+                released.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            records.add(record);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class LocalClockTest {
+    private static final ZoneId LONDON = ZoneId.of("Europe/London");
+
+    // Daylight saving time in London started at 1am UTC on 27 March 2022.
+    private static final Instant BEFORE_DAYLIGHT_SAVING = Instant.parse("2022-03-27T00:59:00Z");
+    private static final Instant AFTER_DAYLIGHT_SAVING = Instant.parse("2022-03-27T01:00:00Z");
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new LocalClock(null));
+    }
+
+    @Test
+    public void refresh_offsetChanged_notifiesListeners() {
+        SettableClock clock = new SettableClock(BEFORE_DAYLIGHT_SAVING);
+        LocalClock localClock = new LocalClock(clock);
+        List<ZoneOffset> notified = new ArrayList<>();
+        localClock.addListener(notified::add);
+        assertEquals(ZoneOffset.UTC, localClock.getLocalOffset());
+
+        clock.instant = AFTER_DAYLIGHT_SAVING;
+        localClock.refresh();
+        assertEquals(ZoneOffset.ofHours(1), localClock.getLocalOffset());
+        assertEquals(List.of(ZoneOffset.ofHours(1)), notified);
+    }
+
+    @Test
+    public void refresh_offsetUnchanged_listenersNotNotified() {
+        SettableClock clock = new SettableClock(AFTER_DAYLIGHT_SAVING);
+        LocalClock localClock = new LocalClock(clock);
+        List<ZoneOffset> notified = new ArrayList<>();
+        localClock.addListener(notified::add);
+
+        clock.instant = AFTER_DAYLIGHT_SAVING.plusSeconds(60);
+        localClock.refresh();
+        assertEquals(List.of(), notified);
+    }
+
+    @Test
+    public void refresh_listenerThrows_otherListenersNotified() {
+        SettableClock clock = new SettableClock(BEFORE_DAYLIGHT_SAVING);
+        LocalClock localClock = new LocalClock(clock);
+        List<ZoneOffset> notified = new ArrayList<>();
+        localClock.addListener(offset -> {
+            throw new IllegalStateException();
+        });
+        localClock.addListener(notified::add);
+
+        clock.instant = AFTER_DAYLIGHT_SAVING;
+        localClock.refresh();
+        assertEquals(List.of(ZoneOffset.ofHours(1)), notified);
+    }
+
+    @Test
+    public void getDefaultClock_returnsSameClock() {
+        assertSame(LocalClock.getDefaultClock(), LocalClock.getDefaultClock());
+    }
+
+    /**
+     * A clock in London whose time can be moved by the test.
+     */
+    private static class SettableClock extends Clock {
+        private Instant instant;
+
+        SettableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return LONDON;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+
+public class PerformanceStatsTest {
+    @TempDir
+    public Path temporaryFolder;
+
+    private final PerformanceStats stats = new PerformanceStats();
+
+    @Test
+    public void recordNanos_recordedUnderName() {
+        stats.recordNanos("command.add.parse", 2_000_000);
+        stats.recordNanos("command.add.parse", 4_000_000);
+
+        assertEquals(2, stats.getTimings("command.add.parse").getCount());
+        assertEquals(0, stats.getTimings("command.delete.parse").getCount());
+    }
+
+    @Test
+    public void increment_addsToCounter() {
+        stats.increment("github.bytes", 100);
+        stats.increment("github.bytes", 20);
+
+        assertEquals(120, stats.getCount("github.bytes"));
+        assertEquals(0, stats.getCount("github.requests"));
+    }
+
+    @Test
+    public void getReport_listsTimingsAndCounters() {
+        stats.recordNanos("command.add.parse", 2_000_000);
+        stats.increment("github.requests", 3);
+
+        String report = stats.getReport();
+        assertTrue(report.contains("command.add.parse"));
+        assertTrue(report.contains("2.00"));
+        assertTrue(report.contains("github.requests"));
+    }
+
+    @Test
+    public void dump_writesReportToFile() throws Exception {
+        Path file = temporaryFolder.resolve("data").resolve("stats.txt");
+        stats.increment("github.requests", 3);
+        stats.dump(file);
+
+        assertTrue(FileUtil.readFromFile(file).contains("github.requests"));
+    }
+}
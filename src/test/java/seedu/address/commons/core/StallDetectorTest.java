@@ -0,0 +1,86 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class StallDetectorTest {
+    private static final Duration THRESHOLD = Duration.ofMillis(20);
+
+    private final List<Runnable> pulses = new ArrayList<>();
+    private final List<String> reports = new ArrayList<>();
+    private final CountDownLatch released = new CountDownLatch(1);
+    private Thread watchedThread;
+    private StallDetector detector;
+
+    @BeforeEach
+    public void setUp() {
+        watchedThread = new Thread(this::stuckInLongTask, "watched");
+        watchedThread.setDaemon(true);
+        watchedThread.start();
+        detector = new StallDetector(watchedThread, pulses::add, THRESHOLD, reports::add);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        released.countDown();
+    }
+
+    @Test
+    public void check_pulseAnsweredInTime_noReport() {
+        detector.check();
+        assertEquals(1, pulses.size());
+
+        pulses.get(0).run();
+        detector.check();
+        detector.check();
+        assertEquals(2, pulses.size());
+        assertTrue(reports.isEmpty());
+    }
+
+    @Test
+    public void check_pulseLate_reportsStackAndLastCommand() throws InterruptedException {
+        detector.recordCommand("find alex");
+        detector.check();
+        Thread.sleep(THRESHOLD.toMillis() * 2);
+        detector.check();
+        detector.check();
+
+        // no new pulse is sent while the stall goes on, and it is only reported once over
+        assertEquals(1, pulses.size());
+        assertTrue(reports.isEmpty());
+
+        pulses.get(0).run();
+        detector.check();
+        assertEquals(1, reports.size());
+        String report = reports.get(0);
+        assertTrue(report.startsWith("watched stall lasted "));
+        assertTrue(report.contains("last command: find alex"));
+        assertTrue(report.contains("2 of 2 samples"));
+        assertTrue(report.contains("stuckInLongTask"));
+    }
+
+    @Test
+    public void check_watchedThreadEnded_stopsChecking() throws InterruptedException {
+        released.countDown();
+        watchedThread.join();
+        detector.check();
+        assertTrue(pulses.isEmpty());
+    }
+
+    private void stuckInLongTask() {
+        try {
+            released.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
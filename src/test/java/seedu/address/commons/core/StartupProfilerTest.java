@@ -0,0 +1,50 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+
+public class StartupProfilerTest {
+    @TempDir
+    public Path temporaryFolder;
+
+    private final StartupProfiler profiler = new StartupProfiler(System.nanoTime());
+
+    @Test
+    public void getReport_nestedPhases_indentedUnderEnclosingPhase() {
+        int result = profiler.time("init", () -> {
+            profiler.time("config", () -> { });
+            return profiler.time("storage read", () -> 1);
+        });
+        assertEquals(1, result);
+
+        String[] lines = profiler.getReport().split(System.lineSeparator());
+        assertEquals(4, lines.length);
+        assertTrue(lines[1].endsWith(" init"));
+        assertTrue(lines[2].endsWith("   config"));
+        assertTrue(lines[3].endsWith("   storage read"));
+    }
+
+    @Test
+    public void time_afterFinish_runsWithoutRecording() throws Exception {
+        Path reportFile = temporaryFolder.resolve("startup.txt");
+        profiler.setReportFile(reportFile);
+        profiler.time("init", () -> { });
+        profiler.finish();
+        assertTrue(profiler.isFinished());
+
+        String report = FileUtil.readFromFile(reportFile);
+        assertTrue(report.startsWith("First frame shown "));
+        assertTrue(report.contains(" init"));
+
+        assertEquals("late", profiler.time("late phase", () -> "late"));
+        assertFalse(profiler.getReport().contains("late phase"));
+    }
+}
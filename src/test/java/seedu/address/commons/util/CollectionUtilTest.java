@@ -1,14 +1,17 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -82,6 +85,28 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void toCompactSet() {
+        // null elements
+        assertThrows(NullPointerException.class, () -> CollectionUtil.toCompactSet(Arrays.asList("a", null)));
+
+        assertEquals(Set.of(), CollectionUtil.toCompactSet(List.of()));
+        assertEquals(Set.of("a"), CollectionUtil.toCompactSet(List.of("a")));
+
+        // duplicates removed, iteration order kept
+        Set<String> set = CollectionUtil.toCompactSet(List.of("c", "a", "b", "a"));
+        assertEquals(Set.of("a", "b", "c"), set);
+        assertEquals(Set.of("a", "b", "c").hashCode(), set.hashCode());
+        assertEquals(List.of("c", "a", "b"), new ArrayList<>(set));
+        assertTrue(set.contains("b"));
+        assertFalse(set.contains("d"));
+
+        // immutable
+        assertThrows(UnsupportedOperationException.class, () -> set.add("d"));
+        assertThrows(UnsupportedOperationException.class, () -> set.remove("a"));
+        assertThrows(UnsupportedOperationException.class, () -> set.remove("d"));
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
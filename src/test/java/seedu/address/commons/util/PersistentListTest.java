@@ -0,0 +1,84 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void updates_leaveOriginalUnchanged() {
+        PersistentList<String> original = PersistentList.<String>empty().add("a").add("b").add("c");
+        PersistentList<String> updated = original.set(1, "x").remove(0).add(0, "y");
+
+        assertEquals(List.of("a", "b", "c"), original.toList());
+        assertEquals(List.of("y", "x", "c"), updated.toList());
+    }
+
+    @Test
+    public void randomUpdates_matchArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(3);
+            if (operation == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.add(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.set(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.remove(index);
+            }
+        }
+
+        assertEquals(expected, actual.toList());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.<String>empty().add("a");
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(-1));
+    }
+
+    @Test
+    public void countNodesSince_countsOnlyNodesNotShared() {
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 1024; i++) {
+            values.add(i);
+        }
+        PersistentList<Integer> base = PersistentList.<Integer>empty().withAll(values);
+        assertEquals(1024, base.countNodesSince(PersistentList.empty()));
+        assertEquals(0, base.countNodesSince(base));
+
+        // only the path from the root to the replaced element is copied
+        PersistentList<Integer> updated = base.set(500, -1);
+        int copied = updated.countNodesSince(base);
+        assertTrue(copied > 0 && copied <= 11);
+    }
+
+    @Test
+    public void equals() {
+        PersistentList<String> list = PersistentList.<String>empty().add("a").add("b");
+
+        assertEquals(list, PersistentList.<String>empty().withAll(List.of("a", "b")));
+        assertEquals(list.hashCode(), List.of("a", "b").hashCode());
+        assertTrue(!list.equals(list.remove(0)));
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PrefixTrieTest {
+    private final PrefixTrie trie = new PrefixTrie();
+
+    @Test
+    public void getCompletions_sharedPrefixes_alphabeticalIgnoringCase() {
+        trie.add("Alice");
+        trie.add("alex");
+        trie.add("Al");
+        trie.add("Bob");
+
+        assertEquals(List.of("Al", "alex", "Alice"), trie.getCompletions("AL", 10));
+        assertEquals(List.of("alex"), trie.getCompletions("ale", 10));
+        assertEquals(List.of("Al", "alex"), trie.getCompletions("a", 2));
+        assertEquals(List.of("Al", "alex", "Alice", "Bob"), trie.getCompletions("", 10));
+        assertEquals(List.of(), trie.getCompletions("alz", 10));
+        assertEquals(List.of(), trie.getCompletions("alicey", 10));
+    }
+
+    @Test
+    public void remove_termAddedTwice_keptUntilRemovedTwice() {
+        trie.add("friends");
+        trie.add("friends");
+        trie.add("frisbee");
+
+        trie.remove("friends");
+        assertEquals(List.of("friends", "frisbee"), trie.getCompletions("fri", 10));
+
+        trie.remove("FRIENDS");
+        assertEquals(List.of("frisbee"), trie.getCompletions("fri", 10));
+        assertEquals(1, trie.size());
+
+        trie.remove("missing");
+        trie.remove("fris");
+        assertEquals(1, trie.size());
+    }
+
+    @Test
+    public void remove_innerTerm_longerTermsStillFound() {
+        trie.add("Al");
+        trie.add("Alex");
+        trie.add("Alice");
+
+        trie.remove("Al");
+        assertEquals(List.of("Alex", "Alice"), trie.getCompletions("a", 10));
+
+        trie.remove("Alice");
+        assertEquals(List.of("Alex"), trie.getCompletions("al", 10));
+        trie.add("Alice");
+        assertEquals(List.of("Alex", "Alice"), trie.getCompletions("al", 10));
+    }
+}
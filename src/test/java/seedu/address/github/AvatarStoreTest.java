@@ -0,0 +1,76 @@
+package seedu.address.github;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class AvatarStoreTest {
+    private static final byte[] IMAGE = {1, 2, 3};
+    private static final byte[] OTHER_IMAGE = {4, 5, 6};
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void put_sameImage_storedOnce() throws Exception {
+        AvatarStore store = new AvatarStore(temporaryFolder);
+        Path alicePath = store.put("alice", IMAGE);
+        Path bobPath = store.put("bob", IMAGE);
+
+        assertEquals(alicePath, bobPath);
+        assertEquals(Optional.of(alicePath), store.getAvatarPath("bob"));
+        assertArrayEquals(IMAGE, Files.readAllBytes(alicePath));
+        assertEquals(Optional.empty(), store.getAvatarPath("carol"));
+    }
+
+    @Test
+    public void removeOrphansAsync_unusedUsers_removedAndIndexSaved() throws Exception {
+        AvatarStore store = new AvatarStore(temporaryFolder);
+        Path sharedPath = store.put("alice", IMAGE);
+        store.put("bob", IMAGE);
+        Path carolPath = store.put("carol", OTHER_IMAGE);
+
+        store.removeOrphansAsync(Arrays.asList("bob")).get();
+        assertEquals(Optional.empty(), store.getAvatarPath("alice"));
+        assertTrue(Files.exists(sharedPath));
+        assertFalse(Files.exists(carolPath));
+
+        AvatarStore reopenedStore = new AvatarStore(temporaryFolder);
+        assertEquals(Optional.of(sharedPath), reopenedStore.getAvatarPath("bob"));
+        assertEquals(Optional.empty(), reopenedStore.getAvatarPath("carol"));
+    }
+
+    @Test
+    public void removeOrphans_userSavedAfterUsernamesTaken_kept() throws Exception {
+        AvatarStore store = new AvatarStore(temporaryFolder);
+        store.put("alice", IMAGE);
+        // the usernames in use are taken here, after the first avatar was saved and before the second one
+        Path davePath = store.put("dave", OTHER_IMAGE);
+
+        store.removeOrphans(Collections.emptySet(), 1);
+        assertEquals(Optional.empty(), store.getAvatarPath("alice"));
+        assertEquals(Optional.of(davePath), store.getAvatarPath("dave"));
+        assertTrue(Files.exists(davePath));
+    }
+
+    @Test
+    public void constructor_avatarsSavedByUsername_movedIntoStore() throws Exception {
+        Path oldAvatar = temporaryFolder.resolve("alice.png");
+        Files.write(oldAvatar, IMAGE);
+
+        AvatarStore store = new AvatarStore(temporaryFolder);
+        assertFalse(Files.exists(oldAvatar));
+        assertEquals(Optional.of(temporaryFolder.resolve(AvatarStore.hash(IMAGE) + ".png")),
+                store.getAvatarPath("alice"));
+    }
+}
@@ -0,0 +1,166 @@
+package seedu.address.github;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.github.exceptions.NetworkConnectionException;
+import seedu.address.github.exceptions.UserInvalidException;
+
+public class GithubGraphqlApiTest {
+
+    private static final String TOKEN = "test-token";
+    private static final String MISSING_USER = "ghost";
+    private static final Pattern ALIASED_USER = Pattern.compile("(u\\d+): user\\(login: \\\\\"([^\\\\]+)\\\\\"\\)");
+
+    private final List<String> receivedBodies = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> receivedTokens = Collections.synchronizedList(new ArrayList<>());
+    private HttpServer server;
+    private String endpoint;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/graphql", this::respond);
+        server.start();
+        endpoint = "http://localhost:" + server.getAddress().getPort() + "/graphql";
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void constructor_invalidBatchSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+            new GithubGraphqlApi(new GithubHttpClient(), endpoint, TOKEN, 0));
+    }
+
+    @Test
+    public void createQuery_aliasesEachUser() {
+        String query = GithubGraphqlApi.createQuery(Arrays.asList("alice", "bob"));
+        assertTrue(query.startsWith("query { u0: user(login: \"alice\") { ...UserFields } "
+            + "u1: user(login: \"bob\") { ...UserFields } }"));
+        assertTrue(query.contains("fragment UserFields on User"));
+    }
+
+    @Test
+    public void getUsersAsync_splitsIntoBatches() {
+        GithubGraphqlApi api = new GithubGraphqlApi(new GithubHttpClient(), endpoint, TOKEN, 2);
+        List<String> usernames = Arrays.asList("alice", "bob", "carl", "daniel", "elle");
+
+        Map<String, UserData> users = GithubHttpClient.await(api.getUsersAsync(usernames));
+
+        assertEquals(3, receivedBodies.size());
+        assertEquals(usernames, new ArrayList<>(users.keySet()));
+        assertTrue(receivedTokens.stream().allMatch(("Bearer " + TOKEN)::equals));
+    }
+
+    @Test
+    public void getUsersAsync_mapsResponseToUserData() {
+        GithubGraphqlApi api = new GithubGraphqlApi(new GithubHttpClient(), endpoint, TOKEN, 10);
+
+        UserData alice = GithubHttpClient.await(api.getUsersAsync(Arrays.asList("alice"))).get("alice");
+
+        assertEquals(new UserInfo("alice", "Name of alice", null, "Singapore",
+            "https://avatars.example.com/alice", "https://github.com/alice"), alice.getUserInfo());
+        assertEquals(Arrays.asList(new RepoInfo(7, "alice-repo", "https://github.com/alice/alice-repo", null,
+            LocalDateTime.of(2022, 10, 1, 12, 0))), alice.getRepos());
+    }
+
+    @Test
+    public void getUsersAsync_missingUser_leftOut() {
+        GithubGraphqlApi api = new GithubGraphqlApi(new GithubHttpClient(), endpoint, TOKEN, 10);
+
+        Map<String, UserData> users = GithubHttpClient.await(api.getUsersAsync(Arrays.asList("alice", MISSING_USER)));
+
+        assertTrue(users.containsKey("alice"));
+        assertFalse(users.containsKey(MISSING_USER));
+    }
+
+    @Test
+    public void getUsersAsync_duplicateUsernames_requestedOnce() {
+        GithubGraphqlApi api = new GithubGraphqlApi(new GithubHttpClient(), endpoint, TOKEN, 10);
+
+        GithubHttpClient.await(api.getUsersAsync(Arrays.asList("alice", "alice")));
+
+        assertEquals(1, receivedBodies.size());
+        assertFalse(receivedBodies.get(0).contains("u1:"));
+    }
+
+    @Test
+    public void getUsersAsync_invalidUsername_throwsUserInvalidException() {
+        GithubGraphqlApi api = new GithubGraphqlApi(new GithubHttpClient(), endpoint, TOKEN, 10);
+        assertThrows(UserInvalidException.class, () -> api.getUsersAsync(Arrays.asList("not a username")));
+    }
+
+    @Test
+    public void getUsersAsync_serverError_throwsNetworkConnectionException() {
+        server.removeContext("/graphql");
+        server.createContext("/graphql", exchange -> {
+            exchange.sendResponseHeaders(502, -1);
+            exchange.close();
+        });
+        GithubGraphqlApi api = new GithubGraphqlApi(new GithubHttpClient(), endpoint, TOKEN, 10);
+
+        assertThrows(NetworkConnectionException.class, () ->
+            GithubHttpClient.await(api.getUsersAsync(Arrays.asList("alice"))));
+    }
+
+    /**
+     * Answers every aliased sub-query in the request like GitHub would.
+     */
+    private void respond(HttpExchange exchange) throws IOException {
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        receivedBodies.add(body);
+        receivedTokens.add(exchange.getRequestHeaders().getFirst("Authorization"));
+
+        StringBuilder data = new StringBuilder();
+        Matcher matcher = ALIASED_USER.matcher(body);
+        while (matcher.find()) {
+            if (data.length() > 0) {
+                data.append(',');
+            }
+            data.append('"').append(matcher.group(1)).append("\":").append(toUserJson(matcher.group(2)));
+        }
+
+        byte[] response = ("{\"data\":{" + data + "}}").getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, response.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(response);
+        }
+    }
+
+    private static String toUserJson(String login) {
+        if (login.equals(MISSING_USER)) {
+            return "null";
+        }
+        return "{\"login\":\"" + login + "\",\"name\":\"Name of " + login + "\",\"email\":\"\","
+            + "\"location\":\"Singapore\",\"avatarUrl\":\"https://avatars.example.com/" + login + "\","
+            + "\"url\":\"https://github.com/" + login + "\",\"repositories\":{\"nodes\":[{\"databaseId\":7,"
+            + "\"name\":\"" + login + "-repo\",\"url\":\"https://github.com/" + login + "/" + login + "-repo\","
+            + "\"description\":null,\"updatedAt\":\"2022-10-01T12:00:00Z\"}]}}";
+    }
+}
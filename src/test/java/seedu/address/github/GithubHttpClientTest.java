@@ -0,0 +1,170 @@
+package seedu.address.github;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import seedu.address.github.exceptions.NetworkConnectionException;
+import seedu.address.github.exceptions.UserInvalidException;
+
+public class GithubHttpClientTest {
+    private static final byte[] BODY = "{}".getBytes(StandardCharsets.UTF_8);
+    private static final int CONCURRENT_STREAMS = 12;
+    private static final String ROUTE = "/status/{status}";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final GithubHttpClient client = new GithubHttpClient();
+    private final ExecutorService serverExecutor = Executors.newCachedThreadPool();
+    private final CountDownLatch streamsStarted = new CountDownLatch(CONCURRENT_STREAMS);
+    private HttpServer server;
+    private String endpoint;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/status/", this::respond);
+        server.createContext("/repos", this::respondInParts);
+        server.createContext("/chunked", this::respondChunked);
+        server.setExecutor(serverExecutor);
+        server.start();
+        endpoint = "http://localhost:" + server.getAddress().getPort() + "/status/";
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    public void getBytes_success_returnsBody() {
+        assertArrayEquals(BODY, GithubHttpClient.await(client.getBytes(endpoint + 200, ROUTE)));
+    }
+
+    @Test
+    public void getBytes_notFound_throwsUserInvalidException() {
+        assertThrows(UserInvalidException.class, "User does not exist. Please provide an existing GitHub username.", ()
+            -> GithubHttpClient.await(client.getBytes(endpoint + 404, ROUTE)));
+    }
+
+    @Test
+    public void getBytes_forbidden_throwsNetworkConnectionException() {
+        assertThrows(NetworkConnectionException.class, "Unable to get user from GitHub as too many calls have been "
+            + "made. Please wait a while before trying this request again.", ()
+            -> GithubHttpClient.await(client.getBytes(endpoint + 403, ROUTE)));
+    }
+
+    @Test
+    public void getStream_serverError_throwsNetworkConnectionException() {
+        assertThrows(NetworkConnectionException.class, "GitHub responded with status 503, unable to get results.", ()
+            -> GithubHttpClient.await(client.getStream(endpoint + 503, ROUTE, GithubResponseParser::parseRepos)));
+    }
+
+    @Test
+    public void getStream_moreStreamsThanWorkerThreads_parsedOnParseThreads() throws Exception {
+        String url = "http://localhost:" + server.getAddress().getPort() + "/repos";
+        Set<String> parsingThreads = ConcurrentHashMap.newKeySet();
+        List<CompletableFuture<List<RepoInfo>>> responses = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_STREAMS; i++) {
+            responses.add(client.getStream(url, ROUTE, stream -> {
+                parsingThreads.add(Thread.currentThread().getName());
+                return GithubResponseParser.parseRepos(stream);
+            }));
+        }
+
+        CompletableFuture.allOf(responses.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+        for (CompletableFuture<List<RepoInfo>> response : responses) {
+            assertEquals(List.of(), response.join());
+        }
+        // Parsing blocks until the bytes are delivered, so it is kept off the threads the HTTP client delivers them on
+        assertTrue(parsingThreads.stream().allMatch(name -> name.startsWith("github-parse-")));
+    }
+
+    @Test
+    public void getStream_bodyWithoutLength_eventRecordedWithBytesRead() throws Exception {
+        Path recordingFile = temporaryFolder.resolve("recording.jfr");
+        String url = "http://localhost:" + server.getAddress().getPort() + "/chunked";
+        try (Recording recording = new Recording()) {
+            recording.enable("seedu.address.GithubRequest").withThreshold(Duration.ZERO);
+            recording.start();
+            GithubHttpClient.await(client.getStream(url, ROUTE, GithubResponseParser::parseRepos));
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile).stream()
+                .filter(event -> event.getEventType().getName().equals("seedu.address.GithubRequest"))
+                .collect(Collectors.toList());
+        assertEquals(1, events.size());
+        assertEquals(ROUTE, events.get(0).getString("route"));
+        assertEquals(200, events.get(0).getInt("status"));
+        assertEquals(2, events.get(0).getLong("bytes"));
+    }
+
+    private void respond(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        int status = Integer.parseInt(path.substring(path.lastIndexOf('/') + 1));
+        exchange.sendResponseHeaders(status, BODY.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(BODY);
+        }
+    }
+
+    /**
+     * Sends an empty array without giving the length of the response.
+     */
+    private void respondChunked(HttpExchange exchange) throws IOException {
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write("[]".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Sends the start of an empty array, and only ends it once every concurrent stream has started.
+     */
+    private void respondInParts(HttpExchange exchange) throws IOException {
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write('[');
+            out.flush();
+            streamsStarted.countDown();
+            streamsStarted.await(10, TimeUnit.SECONDS);
+            out.write(']');
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
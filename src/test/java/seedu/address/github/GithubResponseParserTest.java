@@ -0,0 +1,73 @@
+package seedu.address.github;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.github.exceptions.ResponseParseException;
+
+public class GithubResponseParserTest {
+
+    private static final String USER_JSON = "{\"login\":\"octocat\",\"id\":583231,"
+        + "\"avatar_url\":\"https://avatars.githubusercontent.com/u/583231?v=4\","
+        + "\"html_url\":\"https://github.com/octocat\",\"plan\":{\"name\":\"free\",\"space\":1},"
+        + "\"name\":\"The Octocat\",\"email\":null,\"location\":\"San Francisco\",\"hireable\":null}";
+
+    private static final String REPOS_JSON = "[{\"id\":1296269,\"name\":\"Hello-World\","
+        + "\"owner\":{\"login\":\"octocat\",\"html_url\":\"https://github.com/octocat\"},"
+        + "\"html_url\":\"https://github.com/octocat/Hello-World\",\"description\":\"My first repo\","
+        + "\"topics\":[\"a\",\"b\"],\"updated_at\":\"2011-01-26T19:14:43Z\"},"
+        + "{\"id\":2,\"name\":\"empty\",\"html_url\":\"https://github.com/octocat/empty\","
+        + "\"description\":null,\"updated_at\":\"2020-05-01T00:00:00+08:00\"}]";
+
+    @Test
+    public void parseUserInfo_validResponse_extractsUsedFields() {
+        UserInfo expected = new UserInfo("octocat", "The Octocat", null, "San Francisco",
+            "https://avatars.githubusercontent.com/u/583231?v=4", "https://github.com/octocat");
+        assertEquals(expected, GithubResponseParser.parseUserInfo(toStream(USER_JSON)));
+    }
+
+    @Test
+    public void parseUserInfo_missingLogin_throwsResponseParseException() {
+        assertThrows(ResponseParseException.class, () ->
+            GithubResponseParser.parseUserInfo(toStream("{\"name\":\"x\",\"avatar_url\":\"a\",\"html_url\":\"b\"}")));
+    }
+
+    @Test
+    public void parseUserInfo_invalidJson_throwsResponseParseException() {
+        assertThrows(ResponseParseException.class, () -> GithubResponseParser.parseUserInfo(toStream("[1, 2")));
+    }
+
+    @Test
+    public void parseRepos_validResponse_extractsUsedFields() {
+        List<RepoInfo> repos = GithubResponseParser.parseRepos(toStream(REPOS_JSON));
+
+        assertEquals(2, repos.size());
+        assertEquals(new RepoInfo(1296269, "Hello-World", "https://github.com/octocat/Hello-World",
+            "My first repo", LocalDateTime.of(2011, 1, 26, 19, 14, 43)), repos.get(0));
+        assertTrue(repos.get(1).getDescription().isEmpty());
+        assertEquals(LocalDateTime.of(2020, 5, 1, 0, 0), repos.get(1).getLastUpdated());
+    }
+
+    @Test
+    public void parseRepos_emptyArray_returnsEmptyList() {
+        assertTrue(GithubResponseParser.parseRepos(toStream("[]")).isEmpty());
+    }
+
+    @Test
+    public void parseRepos_notAnArray_throwsResponseParseException() {
+        assertThrows(ResponseParseException.class, () -> GithubResponseParser.parseRepos(toStream(USER_JSON)));
+    }
+
+    private static InputStream toStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
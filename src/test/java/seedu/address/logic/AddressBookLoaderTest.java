@@ -0,0 +1,91 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookLoaderTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(new AddressBook(), new UserPrefs());
+    private final List<Runnable> pendingUpdates = new ArrayList<>();
+
+    @Test
+    public void load_validFile_personsAddedThroughUpdates() throws Exception {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        storage.saveAddressBook(typicalAddressBook);
+        AddressBookLoader loader = new AddressBookLoader(storage, model, pendingUpdates::add);
+
+        loader.load();
+        // nothing is changed until the updates are run on the model's thread
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+        assertFalse(loader.getProgress().get().isDone());
+
+        List<LoadProgress> progresses = new ArrayList<>();
+        loader.getProgress().addListener((observable, oldProgress, newProgress) -> progresses.add(newProgress));
+        pendingUpdates.forEach(Runnable::run);
+
+        int totalCount = typicalAddressBook.getPersonList().size();
+        assertEquals(List.of(new LoadProgress(totalCount, totalCount, false), LoadProgress.done(totalCount)),
+                progresses);
+        assertEquals(typicalAddressBook.getPersonList(), new ArrayList<Person>(model.getAddressBook().getPersonList()));
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void load_manyChunks_eachChunkAppendedInOneChange() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        int totalCount = AddressBookLoader.CHUNK_SIZE * 2 + 1;
+        for (int i = 0; i < totalCount; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).build());
+        }
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        storage.saveAddressBook(addressBook);
+
+        List<Integer> appendedCounts = new ArrayList<>();
+        model.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                assertFalse(change.wasRemoved());
+                assertEquals(change.getList().size(), change.getTo());
+                appendedCounts.add(change.getAddedSize());
+            }
+        });
+        new AddressBookLoader(storage, model, Runnable::run).load();
+
+        assertEquals(List.of(AddressBookLoader.CHUNK_SIZE, AddressBookLoader.CHUNK_SIZE, 1), appendedCounts);
+        assertEquals(addressBook.getPersonList(), new ArrayList<Person>(model.getAddressBook().getPersonList()));
+    }
+
+    @Test
+    public void load_invalidFile_emptyAddressBook() {
+        JsonAddressBookStorage storage =
+                new JsonAddressBookStorage(TEST_DATA_FOLDER.resolve("invalidAndValidPersonAddressBook.json"));
+        AddressBookLoader loader = new AddressBookLoader(storage, model, Runnable::run);
+
+        loader.load();
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+        assertEquals(LoadProgress.done(0), loader.getProgress().get());
+    }
+}
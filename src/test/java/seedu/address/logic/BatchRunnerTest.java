@@ -0,0 +1,120 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.Comparator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+
+public class BatchRunnerTest {
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private Storage storage;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new StorageManager(new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+            new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+    }
+
+    @Test
+    public void constructor_negativeCheckpointInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchRunner(model, storage, -1));
+    }
+
+    @Test
+    public void run_blankLinesAndComments_skipped() throws Exception {
+        int size = model.getAddressBook().getPersonList().size();
+        BatchRunner.Statistics statistics = run(new BatchRunner(model, storage, 0),
+            "# remove the first contact", "", "   ", "delete 1");
+
+        assertEquals(1, statistics.getCommandsRun());
+        assertEquals(0, statistics.getCommandsFailed());
+        assertEquals(1, statistics.getSaves());
+        ReadOnlyAddressBook saved = storage.readAddressBook().get();
+        assertEquals(size - 1, saved.getPersonList().size());
+    }
+
+    @Test
+    public void run_failingCommand_reportedAndSkipped() throws Exception {
+        BatchRunner.Statistics statistics = run(new BatchRunner(model, storage, 0),
+            "delete 1", "delete 99", "unknowncommand", "delete 1");
+
+        assertEquals(4, statistics.getCommandsRun());
+        assertEquals(2, statistics.getCommandsFailed());
+        assertEquals(1, statistics.getSaves());
+        String report = output.toString();
+        assertTrue(report.contains("Line 2: "));
+        assertTrue(report.contains("Line 3: "));
+    }
+
+    @Test
+    public void run_unexpectedException_reportedAndEarlierCommandsSaved() throws Exception {
+        Model failingModel = new ModelManager(getTypicalAddressBook(), new UserPrefs()) {
+            @Override
+            public void sortPersonList(Comparator<Person> comparator) {
+                throw new IllegalArgumentException("unexpected");
+            }
+        };
+        int size = failingModel.getAddressBook().getPersonList().size();
+        BatchRunner.Statistics statistics = run(new BatchRunner(failingModel, storage, 0),
+            "delete 1", "sort n/", "delete 1");
+
+        assertEquals(3, statistics.getCommandsRun());
+        assertEquals(1, statistics.getCommandsFailed());
+        assertTrue(output.toString().contains("Line 2: "));
+        assertEquals(size - 2, storage.readAddressBook().get().getPersonList().size());
+    }
+
+    @Test
+    public void run_checkpointInterval_savesAtCheckpointsAndEnd() throws Exception {
+        BatchRunner.Statistics statistics = run(new BatchRunner(model, storage, 2),
+            "delete 1", "delete 1", "delete 1");
+        assertEquals(2, statistics.getSaves());
+    }
+
+    @Test
+    public void run_noSuccessfulCommand_notSaved() throws Exception {
+        BatchRunner.Statistics statistics = run(new BatchRunner(model, storage, 0), "delete 99");
+        assertEquals(0, statistics.getSaves());
+        assertTrue(storage.readAddressBook().isEmpty());
+    }
+
+    @Test
+    public void run_exitCommand_stopsScript() throws Exception {
+        int size = model.getAddressBook().getPersonList().size();
+        BatchRunner.Statistics statistics = run(new BatchRunner(model, storage, 0),
+            "delete 1", "exit", "delete 1");
+
+        assertEquals(2, statistics.getCommandsRun());
+        assertEquals(size - 1, storage.readAddressBook().get().getPersonList().size());
+    }
+
+    private BatchRunner.Statistics run(BatchRunner batchRunner, String... lines) throws Exception {
+        BufferedReader commands = new BufferedReader(new StringReader(String.join("\n", lines)));
+        return batchRunner.run(commands, new PrintStream(output, true));
+    }
+}
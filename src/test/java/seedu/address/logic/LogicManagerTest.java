@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -10,14 +12,24 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javafx.beans.property.SimpleObjectProperty;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import seedu.address.commons.core.PerformanceStats;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ResetCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -67,6 +79,60 @@ public class LogicManagerTest {
         assertCommandSuccess(resetCommand, ResetCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_validCommand_timingsRecorded() throws Exception {
+        PerformanceStats stats = PerformanceStats.getDefaultStats();
+        long parseCount = stats.getTimings("command.reset.parse").getCount();
+        long saveCount = stats.getTimings("command.reset.save").getCount();
+
+        logic.execute(ResetCommand.COMMAND_WORD, MainPanelName.List);
+        assertEquals(parseCount + 1, stats.getTimings("command.reset.parse").getCount());
+        assertEquals(saveCount + 1, stats.getTimings("command.reset.save").getCount());
+        assertEquals("command.reset", LogicManager.getStatsName(new ResetCommand()));
+    }
+
+    @Test
+    public void execute_validCommand_commandEventRecorded() throws Exception {
+        Path recordingFile = temporaryFolder.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("seedu.address.Command");
+            recording.start();
+            logic.execute(ResetCommand.COMMAND_WORD, MainPanelName.List);
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile).stream()
+                .filter(event -> event.getEventType().getName().equals("seedu.address.Command"))
+                .collect(Collectors.toList());
+        assertEquals(1, events.size());
+        assertEquals(ResetCommand.COMMAND_WORD, events.get(0).getString("commandWord"));
+        assertEquals(MainPanelName.List.toString(), events.get(0).getString("panel"));
+        assertTrue(events.get(0).getBoolean("succeeded"));
+    }
+
+    @Test
+    public void execute_whileLoading_deferredWithoutSaving() throws Exception {
+        SimpleObjectProperty<LoadProgress> loadProgress = new SimpleObjectProperty<>(new LoadProgress(0, 10, false));
+        Path addressBookPath = temporaryFolder.resolve("loadingAddressBook.json");
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(addressBookPath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("loadingUserPrefs.json")));
+        logic = new LogicManager(model, storage, loadProgress);
+
+        CommandResult result = logic.execute(ResetCommand.COMMAND_WORD, MainPanelName.List);
+        assertTrue(result.isDeferred());
+        assertEquals(String.format(LogicManager.MESSAGE_COMMAND_DEFERRED, ResetCommand.COMMAND_WORD),
+                result.getFeedbackToUser());
+
+        // commands that do not need the address book are run, but nothing is saved
+        assertFalse(logic.execute(HelpCommand.COMMAND_WORD, MainPanelName.List).isDeferred());
+        assertFalse(Files.exists(addressBookPath));
+
+        loadProgress.set(LoadProgress.done(0));
+        assertFalse(logic.execute(ResetCommand.COMMAND_WORD, MainPanelName.List).isDeferred());
+        assertTrue(Files.exists(addressBookPath));
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         // Setup LogicManager with JsonAddressBookIoExceptionThrowingStub
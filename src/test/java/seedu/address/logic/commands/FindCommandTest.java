@@ -1,12 +1,21 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.List;
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.IndexedField;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
@@ -66,6 +75,24 @@ public class FindCommandTest {
         //assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_fieldValues_personsWithEveryValueFound() {
+        FindCommand command = new FindCommand(Map.of(IndexedField.TAG, List.of("FRIENDS")));
+        expectedModel.filterPersonList(person -> List.of(ALICE, BENSON, DANIEL).contains(person));
+        assertCommandSuccess(command, model, String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3), expectedModel);
+
+        command = new FindCommand(Map.of(IndexedField.TAG, List.of("friends", "owesMoney"),
+                IndexedField.ROLE, List.of("product manager")));
+        expectedModel.filterPersonList(BENSON::equals);
+        assertCommandSuccess(command, model, String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1), expectedModel);
+        assertEquals(List.of(BENSON), model.getSortedFilteredPersonList());
+
+        command = new FindCommand(Map.of(IndexedField.TAG, List.of("friends"),
+                IndexedField.NAME, List.of("Carl Kurz")));
+        expectedModel.filterPersonList(unused -> false);
+        assertCommandSuccess(command, model, String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0), expectedModel);
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
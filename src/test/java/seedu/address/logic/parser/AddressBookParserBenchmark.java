@@ -0,0 +1,185 @@
+package seedu.address.logic.parser;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BackCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.DeleteAttributeCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.DetailHelpCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.ResetCommand;
+import seedu.address.logic.commands.SetCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.WorkingCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.ui.MainPanelName;
+
+/**
+ * Measures how long {@link AddressBookParser} takes to parse a script of commands, against the regex and linear
+ * search it used to dispatch commands with, which is kept below as {@link ListDispatchParser}.
+ * Run with {@code gradlew parserBenchmark}.
+ */
+public class AddressBookParserBenchmark {
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 20;
+    private static final int SCRIPT_REPEATS = 2_000;
+
+    private static final List<String> SCRIPT_LINES = Arrays.asList(
+            "add n/Alice Pauline p/94351253 e/alice@example.com a/123, Jurong West Ave 6 t/friends",
+            "find Alice Bob",
+            "sort n/",
+            "working",
+            "delete 3",
+            "undo",
+            "redo",
+            "stats",
+            "unknowncommand 1",
+            "exit");
+    private static final List<String> DETAIL_SCRIPT_LINES = Arrays.asList(
+            "set p/91234567 e/bob@example.com",
+            "delete p/",
+            "help",
+            "back");
+
+    /**
+     * Runs the benchmark and prints the mean time taken to parse a command by each parser.
+     */
+    public static void main(String[] args) {
+        AddressBookParser parser = new AddressBookParser();
+        ListDispatchParser listDispatchParser = new ListDispatchParser();
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            runScript(parser::parseCommand);
+            runScript(listDispatchParser::parseCommand);
+        }
+
+        long tableNanos = 0;
+        long listNanos = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            tableNanos += runScript(parser::parseCommand);
+            listNanos += runScript(listDispatchParser::parseCommand);
+        }
+
+        int commandsParsed = MEASURED_ROUNDS * SCRIPT_REPEATS * (SCRIPT_LINES.size() + DETAIL_SCRIPT_LINES.size());
+        System.out.printf("dispatch table: %.1f ns/command%n", (double) tableNanos / commandsParsed);
+        System.out.printf("command list:   %.1f ns/command%n", (double) listNanos / commandsParsed);
+    }
+
+    private static long runScript(CommandParser parser) {
+        int checksum = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < SCRIPT_REPEATS; i++) {
+            checksum += parseAll(parser, SCRIPT_LINES, MainPanelName.List);
+            checksum += parseAll(parser, DETAIL_SCRIPT_LINES, MainPanelName.Detail);
+        }
+        long elapsed = System.nanoTime() - start;
+        if (checksum == 0) {
+            // keeps the parsed commands from being optimised away
+            System.out.print("");
+        }
+        return elapsed;
+    }
+
+    private static int parseAll(CommandParser parser, List<String> lines, MainPanelName mainPanelName) {
+        int checksum = 0;
+        for (String line : lines) {
+            try {
+                checksum += parser.parseCommand(line, mainPanelName).getClass().hashCode();
+            } catch (ParseException e) {
+                checksum += e.getMessage().length();
+            }
+        }
+        return checksum;
+    }
+
+    @FunctionalInterface
+    private interface CommandParser {
+        Command parseCommand(String userInput, MainPanelName mainPanelName) throws ParseException;
+    }
+
+    /**
+     * Dispatches commands as {@link AddressBookParser} used to, matching the input against a regex and comparing its
+     * command word with every available command, creating a new parser for each command.
+     */
+    private static class ListDispatchParser {
+        private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+
+        private static final List<CommandFactory> AVAILABLE_COMMANDS = Arrays.asList(
+                new CommandFactory(AddCommand.COMMAND_WORD, AddCommand::canExecuteAt,
+                    args -> new AddCommandParser().parse(args)),
+                new CommandFactory(DeleteCommand.COMMAND_WORD, DeleteCommand::canExecuteAt,
+                    args -> new DeleteCommandParser().parse(args)),
+                new CommandFactory(DeleteAttributeCommand.COMMAND_WORD, DeleteAttributeCommand::canExecuteAt,
+                    args -> new DeleteAttributeCommandParser().parse(args)),
+                new CommandFactory(FindCommand.COMMAND_WORD, FindCommand::canExecuteAt,
+                    args -> new FindCommandParser().parse(args)),
+                new CommandFactory(HelpCommand.COMMAND_WORD, HelpCommand::canExecuteAt,
+                    args -> new HelpCommandParser().parse(args)),
+                new CommandFactory(DetailHelpCommand.COMMAND_WORD, DetailHelpCommand::canExecuteAt,
+                    args -> new DetailHelpCommandParser().parse(args)),
+                new CommandFactory(SetCommand.COMMAND_WORD, SetCommand::canExecuteAt,
+                    args -> new SetCommandParser().parse(args)),
+                new CommandFactory(SortCommand.COMMAND_WORD, SortCommand::canExecuteAt,
+                    args -> new SortCommandParser().parse(args)),
+                new CommandFactory(ClearCommand.COMMAND_WORD, ClearCommand::canExecuteAt, args -> new ClearCommand()),
+                new CommandFactory(ResetCommand.COMMAND_WORD, ResetCommand::canExecuteAt, args -> new ResetCommand()),
+                new CommandFactory(WorkingCommand.COMMAND_WORD, WorkingCommand::canExecuteAt,
+                    args -> new WorkingCommand()),
+                new CommandFactory(UndoCommand.COMMAND_WORD, UndoCommand::canExecuteAt, args -> new UndoCommand()),
+                new CommandFactory(RedoCommand.COMMAND_WORD, RedoCommand::canExecuteAt, args -> new RedoCommand()),
+                new CommandFactory(StatsCommand.COMMAND_WORD, StatsCommand::canExecuteAt, args -> new StatsCommand()),
+                new CommandFactory(BackCommand.COMMAND_WORD, BackCommand::canExecuteAt, args -> new BackCommand()),
+                new CommandFactory(ExitCommand.COMMAND_WORD, ExitCommand::canExecuteAt, args -> new ExitCommand()));
+
+        Command parseCommand(String userInput, MainPanelName mainPanelName) throws ParseException {
+            final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
+            if (!matcher.matches()) {
+                throw new ParseException("Invalid command format");
+            }
+
+            final String commandWord = matcher.group("commandWord");
+            final String arguments = matcher.group("arguments");
+
+            boolean belongsToOtherPanel = false;
+            for (CommandFactory commandFactory : AVAILABLE_COMMANDS) {
+                if (commandFactory.commandWord.equals(commandWord)) {
+                    if (commandFactory.canExecute.apply(mainPanelName)) {
+                        return commandFactory.builder.build(arguments);
+                    } else {
+                        belongsToOtherPanel = true;
+                    }
+                }
+            }
+            throw new ParseException(belongsToOtherPanel ? "Unknown command at panel" : "Unknown command");
+        }
+    }
+
+    private static class CommandFactory {
+        private final String commandWord;
+        private final Function<MainPanelName, Boolean> canExecute;
+        private final CommandBuilder builder;
+
+        CommandFactory(String commandWord, Function<MainPanelName, Boolean> canExecute, CommandBuilder builder) {
+            this.commandWord = commandWord;
+            this.canExecute = canExecute;
+            this.builder = builder;
+        }
+    }
+
+    @FunctionalInterface
+    private interface CommandBuilder {
+        Command build(String args) throws ParseException;
+    }
+}
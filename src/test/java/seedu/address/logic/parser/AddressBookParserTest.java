@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND_AT_PANEL;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
@@ -12,13 +13,17 @@ import org.junit.jupiter.api.Test;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.BackCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.DeleteAttributeCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.ResetCommand;
 import seedu.address.logic.commands.SetCommand;
 import seedu.address.logic.commands.SetCommand.SetPersonDescriptor;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.WorkingCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonMatchesKeywordsPredicate;
@@ -87,6 +92,20 @@ public class AddressBookParserTest {
         ) instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_undoRedo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD, MainPanelName.List) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD, MainPanelName.List) instanceof RedoCommand);
+    }
+
+    @Test
+    public void parseCommand_working() throws Exception {
+        assertTrue(parser.parseCommand(WorkingCommand.COMMAND_WORD,
+                        MainPanelName.List) instanceof WorkingCommand);
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND_AT_PANEL, () ->
+                parser.parseCommand(WorkingCommand.COMMAND_WORD, MainPanelName.Detail));
+    }
+
     @Test
     public void parseCommand_reset() throws Exception {
         assertTrue(parser.parseCommand(ResetCommand.COMMAND_WORD,
@@ -105,10 +124,22 @@ public class AddressBookParserTest {
         assertEquals(new SetCommand(descriptor), command);
     }
 
+    @Test
+    public void parseCommand_sameCommandWordAtDifferentPanels() throws Exception {
+        assertTrue(parser.parseCommand(DeleteCommand.COMMAND_WORD + "\t1",
+                        MainPanelName.List) instanceof DeleteCommand);
+        assertTrue(parser.parseCommand(DeleteCommand.COMMAND_WORD + " phone",
+                        MainPanelName.Detail) instanceof DeleteAttributeCommand);
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND_AT_PANEL, () ->
+                parser.parseCommand(DeleteCommand.COMMAND_WORD + " 1", MainPanelName.Help));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
             -> parser.parseCommand("", MainPanelName.List));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
+            -> parser.parseCommand(FindCommand.COMMAND_WORD + " Alice\nBob", MainPanelName.List));
     }
 
     @Test
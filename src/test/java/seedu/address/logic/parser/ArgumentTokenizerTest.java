@@ -156,6 +156,30 @@ public class ArgumentTokenizerTest {
         assertArgumentPresent(argMultimap, namePrefix, "test1", "test2", "test3", "test4");
     }
 
+    @Test
+    public void tokenize_aliasesSharingStart_longestRecognized() {
+        Prefix telegramPrefix = new Prefix("telegram/", "tele/");
+        Prefix tagPrefix = new Prefix("tag/", "t/");
+        String argsString = " tele/@alice t/friends telegram/@bob tag/colleagues tel/ t/";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, tagPrefix, telegramPrefix);
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, telegramPrefix, "@alice", "@bob");
+        assertArgumentPresent(argMultimap, tagPrefix, "friends", "colleagues tel/", "");
+    }
+
+    @Test
+    public void tokenize_manyRepeatedArguments_allValuesInOrder() {
+        StringBuilder argsString = new StringBuilder("preamble");
+        String[] expectedValues = new String[1000];
+        for (int i = 0; i < expectedValues.length; i++) {
+            expectedValues[i] = "tag" + i;
+            argsString.append(" p/").append(expectedValues[i]);
+        }
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString.toString(), pSlash);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, pSlash, expectedValues);
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -0,0 +1,50 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.TypicalPersons;
+
+public class CommandCompleterTest {
+    private final Model model = new ModelManager(TypicalPersons.getTypicalAddressBook(), new UserPrefs());
+    private final CommandCompleter completer = new CommandCompleter(model);
+
+    @Test
+    public void getCompletions_prefixedWord_completedToValuesOfPrefix() {
+        assertEquals(List.of("t/friends"), completer.getCompletions("add n/Zed t/fr"));
+        assertEquals(List.of("tag/owesMoney"), completer.getCompletions("add n/Zed tag/o"));
+        assertEquals(List.of("n/Meier", "n/Meyer"), completer.getCompletions("add n/Me"));
+    }
+
+    @Test
+    public void getCompletions_laterWordOfArgument_completedToValuesOfItsPrefix() {
+        assertEquals(List.of("Engineer"), completer.getCompletions("set r/Software E"));
+        assertEquals(List.of(), completer.getCompletions("add a/wall str"));
+    }
+
+    @Test
+    public void getCompletions_findKeyword_completedToAnyValue() {
+        assertEquals(List.of("Fiona", "friends"), completer.getCompletions("find f"));
+        assertEquals(List.of("Manager", "Meier", "Meyer"), completer.getCompletions("find alice m"));
+    }
+
+    @Test
+    public void getCompletions_commandWordOrEmptyWord_noCompletions() {
+        assertEquals(List.of(), completer.getCompletions("fi"));
+        assertEquals(List.of(), completer.getCompletions("find "));
+        assertEquals(List.of(), completer.getCompletions(""));
+    }
+
+    @Test
+    public void getCompletions_personDeleted_valuesNoLongerCompleted() {
+        model.deletePerson(TypicalPersons.BENSON);
+        assertEquals(List.of(), completer.getCompletions("add n/Zed t/o"));
+        assertEquals(List.of("n/Meier", "n/Meyer"), completer.getCompletions("add n/Me"));
+    }
+}
@@ -4,9 +4,13 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.List;
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.IndexedField;
 import seedu.address.model.person.PersonMatchesKeywordsPredicate;
 
 public class FindCommandParserTest {
@@ -29,4 +33,23 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, "Alice Bob", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fieldValues_returnsFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(Map.of(
+                IndexedField.TAG, List.of("friends", "colleagues"),
+                IndexedField.ROLE, List.of("Software Engineer")));
+        assertParseSuccess(parser, " t/friends role/Software Engineer tag/colleagues", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidFieldValues_throwsParseException() {
+        // keywords together with field values
+        assertParseFailure(parser, "Alice t/friends", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindCommand.MESSAGE_USAGE));
+
+        // empty field value
+        assertParseFailure(parser, " t/friends gh/", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindCommand.MESSAGE_USAGE));
+    }
+
 }
@@ -16,6 +16,8 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSucces
 import static seedu.address.model.person.PersonComparators.ADDRESS_COMPARATOR;
 import static seedu.address.model.person.PersonComparators.NAME_COMPARATOR;
 import static seedu.address.model.person.PersonComparators.ROLE_COMPARATOR;
+import static seedu.address.model.person.PersonComparators.chainComparators;
+import static seedu.address.model.person.PersonComparators.reverseComparator;
 
 import java.util.Arrays;
 import java.util.List;
@@ -71,12 +73,34 @@ public class SortCommandParserTest {
 
         assertParseSuccess(parser,
                 " " + PREFIX_ROLE.toString().replace("/", ""), // Remove the trailing slash
-                new SortCommand(ROLE_COMPARATOR)
+                new SortCommand(chainComparators(List.of(ROLE_COMPARATOR)))
         );
 
         assertParseSuccess(parser,
                 " " + PREFIX_ADDRESS.toString().replace("/", ""), // Remove the trailing slash
-                new SortCommand(ADDRESS_COMPARATOR)
+                new SortCommand(chainComparators(List.of(ADDRESS_COMPARATOR)))
         );
+
+        assertParseSuccess(parser, " name/desc", new SortCommand(reverseComparator(NAME_COMPARATOR)));
+        assertParseSuccess(parser, " n/ desc", new SortCommand(reverseComparator(NAME_COMPARATOR)));
+    }
+
+    @Test
+    public void parse_multipleFields_sortedInGivenOrder() {
+        assertParseSuccess(parser, " role name",
+                new SortCommand(chainComparators(List.of(ROLE_COMPARATOR, NAME_COMPARATOR))));
+
+        assertParseSuccess(parser, " address/desc r",
+                new SortCommand(chainComparators(List.of(reverseComparator(ADDRESS_COMPARATOR), ROLE_COMPARATOR))));
+
+        assertParseSuccess(parser, " role desc name",
+                new SortCommand(chainComparators(List.of(reverseComparator(ROLE_COMPARATOR), NAME_COMPARATOR))));
+    }
+
+    @Test
+    public void parse_repeatedField_failure() {
+        assertParseFailure(parser, " role name role/desc", String.format(
+                MESSAGE_INVALID_COMMAND_FORMAT,
+                SortCommand.MESSAGE_USAGE));
     }
 }
@@ -0,0 +1,85 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.AddressBookHistory.BYTES_PER_NODE;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.person.Person;
+
+public class AddressBookHistoryTest {
+    private final PersistentList<Person> empty = PersistentList.empty();
+    private final PersistentList<Person> withAlice = empty.add(ALICE);
+    private final PersistentList<Person> withBenson = withAlice.add(BENSON);
+    private final PersistentList<Person> withCarl = withBenson.add(CARL);
+
+    @Test
+    public void undoRedo_movesBetweenVersions() {
+        AddressBookHistory history = new AddressBookHistory(empty);
+        assertFalse(history.canUndo());
+        assertThrows(IllegalArgumentException.class, history::undo);
+
+        history.commit(withAlice);
+        history.commit(withBenson);
+        assertSame(withAlice, history.undo());
+        assertSame(empty, history.undo());
+        assertFalse(history.canUndo());
+        assertSame(withAlice, history.redo());
+        assertTrue(history.canRedo());
+    }
+
+    @Test
+    public void commit_unchangedSnapshot_notRecorded() {
+        AddressBookHistory history = new AddressBookHistory(empty);
+        assertTrue(history.commit(withAlice));
+        assertFalse(history.commit(withAlice));
+        assertEquals(2, history.getVersionCount());
+    }
+
+    @Test
+    public void commit_afterUndo_discardsRedo() {
+        AddressBookHistory history = new AddressBookHistory(empty);
+        history.commit(withAlice);
+        history.commit(withBenson);
+        history.undo();
+
+        history.commit(withAlice.add(CARL));
+        assertFalse(history.canRedo());
+        assertEquals(3, history.getVersionCount());
+    }
+
+    @Test
+    public void commit_tooManyVersions_oldestDropped() {
+        AddressBookHistory history = new AddressBookHistory(empty, 2, Long.MAX_VALUE);
+        history.commit(withAlice);
+        history.commit(withBenson);
+
+        assertEquals(2, history.getVersionCount());
+        assertSame(withAlice, history.undo());
+        assertFalse(history.canUndo());
+        // the oldest version now holds all of its nodes
+        assertEquals(withAlice.size() * BYTES_PER_NODE + withBenson.countNodesSince(withAlice) * BYTES_PER_NODE,
+            history.getRetainedBytes());
+    }
+
+    @Test
+    public void commit_tooMuchMemory_oldestDropped() {
+        AddressBookHistory history = new AddressBookHistory(empty, 100, 4 * BYTES_PER_NODE);
+        history.commit(withAlice);
+        history.commit(withBenson);
+        history.commit(withCarl);
+
+        // only the newest version is small enough to be kept
+        assertEquals(1, history.getVersionCount());
+        assertEquals(withCarl.size() * BYTES_PER_NODE, history.getRetainedBytes());
+        assertFalse(history.canUndo());
+    }
+}
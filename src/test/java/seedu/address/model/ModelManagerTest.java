@@ -12,15 +12,19 @@ import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Instant;
 import java.util.Iterator;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonBatch;
 import seedu.address.model.person.PersonMatchesKeywordsPredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 public class ModelManagerTest {
 
     private ModelManager modelManager = new ModelManager();
@@ -105,6 +109,80 @@ public class ModelManagerTest {
         assertSorted(modelManager.getSortedFilteredPersonList());
     }
 
+    @Test
+    public void applyPersonBatch_additions_showsAllPersons() {
+        modelManager.addPerson(ALICE);
+        modelManager.filterPersonList(unused -> false);
+        modelManager.applyPersonBatch(new PersonBatch().add(BENSON).add(CARL));
+        assertEquals(3, modelManager.getSortedFilteredPersonList().size());
+    }
+
+    @Test
+    public void applyPersonBatch_selectedPersonEdited_selectionFollowsEdit() {
+        modelManager.addPerson(ALICE);
+        modelManager.setSelectedPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress("wall street").build();
+        Person renamedAlice = new PersonBuilder(editedAlice).withName("Alice Tan").build();
+        modelManager.applyPersonBatch(new PersonBatch().setPerson(ALICE, editedAlice)
+            .setPerson(editedAlice, renamedAlice));
+        assertEquals(renamedAlice, modelManager.getSelectedPerson().get());
+    }
+
+    @Test
+    public void getPersonsInWorkingHours_followsChangesToPersons() {
+        // 10am on a Monday at +8, and 9pm on the Sunday before at -5
+        Instant instant = Instant.parse("2022-10-17T02:00:00Z");
+        Person bobInNewYork = new PersonBuilder().withName("Bob").withTimezone("-5").build();
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(bobInNewYork);
+        modelManager.addPerson(CARL); // no timezone
+        assertEquals(List.of(ALICE), modelManager.getPersonsInWorkingHours(instant));
+
+        Person aliceInNewYork = new PersonBuilder(ALICE).withTimezone("-5").build();
+        modelManager.setPerson(ALICE, aliceInNewYork);
+        assertEquals(List.of(), modelManager.getPersonsInWorkingHours(instant));
+
+        // 10am on the Monday at -5
+        Instant later = Instant.parse("2022-10-17T15:00:00Z");
+        modelManager.deletePerson(bobInNewYork);
+        assertEquals(List.of(aliceInNewYork), modelManager.getPersonsInWorkingHours(later));
+
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).build());
+        assertEquals(List.of(), modelManager.getPersonsInWorkingHours(later));
+    }
+
+    @Test
+    public void getPersonsInWorkingHours_followsPersonBatch() {
+        // 10am on a Monday at +8
+        Instant instant = Instant.parse("2022-10-17T02:00:00Z");
+        Person bob = new PersonBuilder().withName("Bob").withTimezone("+8").build();
+        Person aliceInNewYork = new PersonBuilder(ALICE).withTimezone("-5").build();
+        modelManager.addPerson(ALICE);
+        modelManager.applyPersonBatch(new PersonBatch().add(bob).setPerson(ALICE, aliceInNewYork)
+            .add(CARL).remove(CARL));
+        assertEquals(List.of(bob), modelManager.getPersonsInWorkingHours(instant));
+
+        modelManager.applyPersonBatch(new PersonBatch().remove(bob).add(bob));
+        assertEquals(List.of(bob), modelManager.getPersonsInWorkingHours(instant));
+    }
+
+    @Test
+    public void getPersonsWith_followsChangesToPersons() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        assertEquals(List.of(ALICE, BENSON), modelManager.getPersonsWith(IndexedField.TAG, "Friends"));
+        assertEquals(List.of(BENSON), modelManager.getPersonsWith(IndexedField.NAME, "benson meier"));
+
+        Person editedAlice = new PersonBuilder(ALICE).withTags().withRole("Product Manager").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(List.of(BENSON), modelManager.getPersonsWith(IndexedField.TAG, "friends"));
+        assertEquals(List.of(BENSON, editedAlice), modelManager.getPersonsWith(IndexedField.ROLE, "product manager"));
+
+        modelManager.applyPersonBatch(new PersonBatch().remove(BENSON).add(CARL));
+        assertEquals(List.of(), modelManager.getPersonsWith(IndexedField.TAG, "friends"));
+        assertEquals(List.of(CARL), modelManager.getPersonsWith(IndexedField.NAME, "Carl Kurz"));
+    }
+
     private void assertSorted(ObservableList<Person> list) {
         Iterator<Person> iterator = list.iterator();
         Person prev = null;
@@ -0,0 +1,59 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.person.PersonComparators.ADDRESS_COMPARATOR;
+import static seedu.address.model.person.PersonComparators.NAME_COMPARATOR;
+import static seedu.address.model.person.PersonComparators.ROLE_COMPARATOR;
+import static seedu.address.model.person.PersonComparators.chainComparators;
+import static seedu.address.model.person.PersonComparators.reverseComparator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonComparatorsTest {
+    private final Person amyEngineer = new PersonBuilder().withName("amy").withRole("Engineer").build();
+    private final Person bobEngineer = new PersonBuilder().withName("Bob").withRole("engineer").build();
+    private final Person carlManager = new PersonBuilder().withName("Carl").withRole("Manager").build();
+    private final Person danNoRole = new PersonBuilder().withName("Dan").build();
+
+    @Test
+    public void nameComparator_ignoresCase() {
+        assertTrue(NAME_COMPARATOR.compare(amyEngineer, bobEngineer) < 0);
+        assertTrue(NAME_COMPARATOR.compare(bobEngineer, carlManager) < 0);
+    }
+
+    @Test
+    public void roleComparator_missingRole_sortedLast() {
+        assertTrue(ROLE_COMPARATOR.compare(carlManager, danNoRole) < 0);
+        assertTrue(reverseComparator(ROLE_COMPARATOR).compare(danNoRole, carlManager) < 0);
+    }
+
+    @Test
+    public void chainComparators_tiesBrokenByNextComparator() {
+        List<Person> persons = new ArrayList<>(List.of(danNoRole, bobEngineer, carlManager, amyEngineer));
+        persons.sort(chainComparators(List.of(reverseComparator(ROLE_COMPARATOR), reverseComparator(NAME_COMPARATOR))));
+        assertEquals(List.of(danNoRole, carlManager, bobEngineer, amyEngineer), persons);
+
+        // remaining ties broken by name
+        persons.sort(chainComparators(List.of(ROLE_COMPARATOR)));
+        assertEquals(List.of(amyEngineer, bobEngineer, carlManager, danNoRole), persons);
+    }
+
+    @Test
+    public void equals() {
+        assertEquals(reverseComparator(ADDRESS_COMPARATOR), reverseComparator(ADDRESS_COMPARATOR));
+        assertNotEquals(reverseComparator(ADDRESS_COMPARATOR), reverseComparator(ROLE_COMPARATOR));
+
+        assertEquals(chainComparators(List.of(ROLE_COMPARATOR, ADDRESS_COMPARATOR)),
+            chainComparators(List.of(ROLE_COMPARATOR, ADDRESS_COMPARATOR)));
+        assertNotEquals(chainComparators(List.of(ROLE_COMPARATOR, ADDRESS_COMPARATOR)),
+            chainComparators(List.of(ADDRESS_COMPARATOR, ROLE_COMPARATOR)));
+        assertEquals(NAME_COMPARATOR, chainComparators(List.of(NAME_COMPARATOR)));
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonMatchesKeywordsPredicateTest {
+
+    @Test
+    public void test_similarOrContainedValue_returnsTrue() {
+        // similar name
+        assertTrue(new PersonMatchesKeywordsPredicate("Alise").test(new PersonBuilder().withName("Alice").build()));
+
+        // keywords contained in a much longer address
+        assertTrue(new PersonMatchesKeywordsPredicate("jurong").test(new PersonBuilder().withName("Bob")
+                .withAddress("123, Jurong West Ave 6, #08-111").build()));
+    }
+
+    @Test
+    public void test_sharedTagsAndRoles_sameResultForEveryPerson() {
+        PersonMatchesKeywordsPredicate predicate = new PersonMatchesKeywordsPredicate("frends");
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice").withTags("friends").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Bob").withTags("colleagues", "friends").build()));
+        assertFalse(predicate.test(new PersonBuilder().withName("Carl").withTags("colleagues").build()));
+
+        predicate = new PersonMatchesKeywordsPredicate("engineer");
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice").withRole("Software Engineer").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Bob").withRole("Software Engineer").build()));
+        assertFalse(predicate.test(new PersonBuilder().withName("Carl").withRole("Product Manager").build()));
+    }
+}
@@ -1,11 +1,17 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.Instant;
+import java.time.ZoneOffset;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.LocalClock;
+
 public class TimezoneTest {
 
     @Test
@@ -34,4 +40,28 @@ public class TimezoneTest {
         assertTrue(Timezone.isValidTimezone("+18")); // boundary value
         assertTrue(Timezone.isValidTimezone("-18")); // boundary value
     }
+
+    @Test
+    public void isWorkingHoursAt() {
+        Timezone singapore = new Timezone("+8");
+
+        // Monday
+        assertTrue(singapore.isWorkingHoursAt(Instant.parse("2022-10-17T01:00:00Z"))); // 9am, boundary value
+        assertTrue(singapore.isWorkingHoursAt(Instant.parse("2022-10-17T09:59:00Z"))); // 5.59pm
+        assertFalse(singapore.isWorkingHoursAt(Instant.parse("2022-10-17T00:59:00Z"))); // 8.59am
+        assertFalse(singapore.isWorkingHoursAt(Instant.parse("2022-10-17T10:00:00Z"))); // 6pm, boundary value
+
+        // Saturday
+        assertFalse(singapore.isWorkingHoursAt(Instant.parse("2022-10-15T04:00:00Z")));
+    }
+
+    @Test
+    public void toString_comparedWithLocalOffset() {
+        ZoneOffset localOffset = LocalClock.getDefaultClock().getLocalOffset();
+        int localHours = localOffset.getTotalSeconds() / 3600;
+        assertEquals("same time as you", new Timezone(String.format("%+d", localHours)).toString());
+        if (localHours > -18) {
+            assertEquals("1 hour behind", new Timezone(String.format("%+d", localHours - 1)).toString());
+        }
+    }
 }
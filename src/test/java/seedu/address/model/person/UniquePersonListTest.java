@@ -8,13 +8,18 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -127,6 +132,47 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_personBeforeOthers_othersStillFound() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+
+        Person editedCarl = new PersonBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(CARL, editedCarl);
+        uniquePersonList.remove(BOB);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(editedCarl);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void remove_samePersonWithDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_oldIdentityFreed() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void iterator_remove_throwsUnsupportedOperationException() {
+        uniquePersonList.add(ALICE);
+        Iterator<Person> iterator = uniquePersonList.iterator();
+        iterator.next();
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +208,118 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void applyBatch_nullBatch_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.applyBatch(null));
+    }
+
+    @Test
+    public void applyBatch_validChanges_appliedInOrder() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(CARL);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.applyBatch(new PersonBatch()
+            .add(BOB)
+            .setPerson(ALICE, editedAlice)
+            .remove(CARL)
+            .add(CARL));
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(editedAlice);
+        expectedUniquePersonList.add(BOB);
+        expectedUniquePersonList.add(CARL);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void applyBatch_editToNewIdentity_success() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.applyBatch(new PersonBatch().setPerson(ALICE, BOB).add(ALICE));
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(BOB);
+        expectedUniquePersonList.add(ALICE);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void applyBatch_singleChangeNotification() {
+        int[] notifications = {0};
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+            notifications[0]++);
+        uniquePersonList.applyBatch(new PersonBatch().add(ALICE).add(BOB).add(CARL).remove(BOB));
+        assertEquals(1, notifications[0]);
+    }
+
+    @Test
+    public void applyBatch_editsRemovalsAndAdditions_singleChangeNotification() {
+        uniquePersonList.setPersons(List.of(ALICE, BOB, CARL));
+        int[] notifications = {0};
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+            notifications[0]++);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        Person editedCarl = new PersonBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.applyBatch(new PersonBatch()
+            .setPerson(ALICE, editedAlice).remove(BOB).setPerson(CARL, editedCarl).add(DANIEL));
+
+        assertEquals(1, notifications[0]);
+        assertEquals(List.of(editedAlice, editedCarl, DANIEL), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void applyBatch_onlyAdditions_appendedInOneAddChange() {
+        uniquePersonList.add(ALICE);
+        List<List<? extends Person>> added = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                assertFalse(change.wasRemoved());
+                added.add(change.getAddedSubList());
+            }
+        });
+        uniquePersonList.applyBatch(new PersonBatch().add(BOB).add(CARL));
+        assertEquals(List.of(List.of(BOB, CARL)), added);
+    }
+
+    @Test
+    public void applyBatch_removalThenEdit_snapshotAndPositionsUpdated() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        Person editedCarl = new PersonBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.applyBatch(new PersonBatch().remove(BOB).setPerson(CARL, editedCarl));
+
+        assertEquals(List.of(ALICE, editedCarl), uniquePersonList.getSnapshot().toList());
+        uniquePersonList.remove(editedCarl);
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void applyBatch_duplicatePerson_throwsDuplicatePersonExceptionAndListUnchanged() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () ->
+            uniquePersonList.applyBatch(new PersonBatch().add(BOB).add(ALICE)));
+        assertThrows(DuplicatePersonException.class, () ->
+            uniquePersonList.applyBatch(new PersonBatch().add(BOB).setPerson(ALICE, BOB)));
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(ALICE);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void applyBatch_personNotInList_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () ->
+            uniquePersonList.applyBatch(new PersonBatch().remove(BOB)));
+        assertThrows(PersonNotFoundException.class, () ->
+            uniquePersonList.applyBatch(new PersonBatch().remove(ALICE).setPerson(ALICE, BOB)));
+
+        // same identity but different fields
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () ->
+            uniquePersonList.applyBatch(new PersonBatch().remove(editedAlice)));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,81 @@
+package seedu.address.model.person.github;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.github.GithubHttpClient;
+import seedu.address.github.RepoInfo;
+import seedu.address.github.UserInfo;
+import seedu.address.github.UserInfoWrapper;
+import seedu.address.github.UserReposWrapper;
+
+public class UserTest {
+
+    private static final String USERNAME = "octocat";
+    private static final LocalDateTime OLD = LocalDateTime.of(2020, 1, 1, 0, 0);
+    private static final LocalDateTime NEWER = LocalDateTime.of(2021, 1, 1, 0, 0);
+    private static final LocalDateTime NEWEST = LocalDateTime.of(2022, 1, 1, 0, 0);
+
+    private final GithubHttpClient client = new GithubHttpClient();
+    private final UserInfoWrapper userInfoWrapper = UserInfoWrapper.of(new UserInfo(USERNAME, null, null, null,
+        "https://avatars.example.com/octocat", "https://github.com/octocat"), client);
+
+    @Test
+    public void getReposLastUpdated() {
+        assertFalse(new User(USERNAME, Collections.emptyList()).getReposLastUpdated().isPresent());
+
+        User user = new User(USERNAME, Arrays.asList(repo("a", OLD), repo("b", NEWEST), repo("c", NEWER)));
+        assertEquals(Optional.of(NEWEST), user.getReposLastUpdated());
+    }
+
+    @Test
+    public void constructor_knownRepos_mergesUpdatedRepos() {
+        List<Repo> knownRepos = Arrays.asList(repo("a", OLD), repo("b", OLD));
+        UserReposWrapper updatedRepos = UserReposWrapper.of(USERNAME, Arrays.asList(
+            new RepoInfo(1, "b", url("b"), "changed", NEWER),
+            new RepoInfo(2, "c", url("c"), null, NEWEST)), client);
+
+        User user = new User(USERNAME, userInfoWrapper, updatedRepos, knownRepos);
+
+        assertEquals(Arrays.asList(repo("c", NEWEST), new Repo("b", url("b"), "changed", NEWER), repo("a", OLD)),
+            user.getRepoList());
+    }
+
+    @Test
+    public void constructor_knownRepoNotReceived_dropped() {
+        // "gone" was updated after the oldest repository received, so it would have been received if it still existed
+        List<Repo> knownRepos = Arrays.asList(repo("gone", NEWEST), repo("a", OLD));
+        UserReposWrapper updatedRepos = UserReposWrapper.of(USERNAME, Arrays.asList(
+            new RepoInfo(3, "renamed", url("renamed"), null, NEWEST.plusDays(1)),
+            new RepoInfo(2, "c", url("c"), null, NEWER)), client);
+
+        User user = new User(USERNAME, userInfoWrapper, updatedRepos, knownRepos);
+
+        assertEquals(Arrays.asList(repo("renamed", NEWEST.plusDays(1)), repo("c", NEWER), repo("a", OLD)),
+            user.getRepoList());
+    }
+
+    @Test
+    public void constructor_noUpdatedRepos_keepsKnownRepos() {
+        List<Repo> knownRepos = Arrays.asList(repo("a", NEWER), repo("b", OLD));
+        UserReposWrapper noUpdatedRepos = UserReposWrapper.of(USERNAME, Collections.emptyList(), client);
+
+        assertEquals(knownRepos, new User(USERNAME, userInfoWrapper, noUpdatedRepos, knownRepos).getRepoList());
+    }
+
+    private static Repo repo(String name, LocalDateTime lastUpdated) {
+        return new Repo(name, url(name), null, lastUpdated);
+    }
+
+    private static String url(String name) {
+        return "https://github.com/" + USERNAME + "/" + name;
+    }
+}
@@ -2,6 +2,8 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -11,6 +13,8 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -18,6 +22,7 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -60,6 +65,32 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataConversionException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
     }
 
+    @Test
+    public void readAddressBook_inChunks_chunksInOrder() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        List<Person> readBack = new ArrayList<>();
+        List<Integer> chunkSizes = new ArrayList<>();
+        int totalCount = original.getPersonList().size();
+        assertTrue(jsonAddressBookStorage.readAddressBook(3, (chunk, total) -> {
+            assertEquals(totalCount, (int) total);
+            chunkSizes.add(chunk.size());
+            readBack.addAll(chunk);
+        }));
+        assertEquals(original.getPersonList(), readBack);
+        assertEquals(List.of(3, 3, 1), chunkSizes);
+    }
+
+    @Test
+    public void readAddressBook_inChunksMissingFile_returnsFalse() throws Exception {
+        JsonAddressBookStorage jsonAddressBookStorage =
+                new JsonAddressBookStorage(TEST_DATA_FOLDER.resolve("NonExistentFile.json"));
+        assertFalse(jsonAddressBookStorage.readAddressBook(3, (chunk, total) -> fail()));
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
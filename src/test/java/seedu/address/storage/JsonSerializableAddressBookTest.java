@@ -5,12 +5,16 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -44,4 +48,30 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_chunkConvertedInParallel_orderKept() throws Exception {
+        AddressBook manyPersons = new AddressBook();
+        for (int i = 0; i < JsonSerializableAddressBook.SEQUENTIAL_THRESHOLD * 5; i++) {
+            manyPersons.addPerson(new PersonBuilder().withName("Person " + i).build());
+        }
+
+        List<List<Person>> chunks = new ArrayList<>();
+        new JsonSerializableAddressBook(manyPersons).toModelType(Integer.MAX_VALUE, chunks::add);
+        assertEquals(1, chunks.size());
+        assertEquals(manyPersons.getPersonList(), chunks.get(0));
+    }
+
+    @Test
+    public void toModelType_duplicatePersonsInDifferentParts_throwsIllegalValueException() {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        Person duplicated = new PersonBuilder().withName("Duplicated").build();
+        persons.add(new JsonAdaptedPerson(duplicated));
+        for (int i = 0; i < JsonSerializableAddressBook.SEQUENTIAL_THRESHOLD * 2; i++) {
+            persons.add(new JsonAdaptedPerson(new PersonBuilder().withName("Person " + i).build()));
+        }
+        persons.add(new JsonAdaptedPerson(duplicated));
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                new JsonSerializableAddressBook(persons)::toModelType);
+    }
 }
@@ -0,0 +1,114 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ShardedAddressBookStorageTest {
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAndSaveAddressBook_allPersons_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(testFolder);
+        assertFalse(storage.readAddressBook().isPresent());
+
+        storage.saveAddressBook(original);
+        assertSamePersons(original, new ShardedAddressBookStorage(testFolder).readAddressBook().get());
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertSamePersons(original, new ShardedAddressBookStorage(testFolder).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_personChanged_onlyItsShardRewritten() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(testFolder);
+        storage.saveAddressBook(addressBook);
+        deleteShardFiles();
+
+        Person editedAlice = new PersonBuilder(ALICE).withAddress("Clementi").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        storage.saveAddressBook(addressBook);
+        int shardCount = ShardedAddressBookStorage.getShardCount(addressBook.getPersonList().size());
+        assertEquals(List.of(ShardedAddressBookStorage.getShardFile(testFolder,
+                ShardedAddressBookStorage.getShard(editedAlice, shardCount), shardCount)), getShardFiles());
+
+        // Replacing every person with the same persons, as undo does, changes no shard
+        deleteShardFiles();
+        addressBook.setPersons(new ArrayList<>(addressBook.getPersonList()));
+        storage.saveAddressBook(addressBook);
+        assertTrue(getShardFiles().isEmpty());
+    }
+
+    @Test
+    public void saveAddressBook_unchangedCopyOfPersonsRead_noShardRewritten() throws Exception {
+        new ShardedAddressBookStorage(testFolder).saveAddressBook(getTypicalAddressBook());
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(testFolder);
+        List<Person> readBack = new ArrayList<>();
+        assertTrue(storage.readAddressBook(3, (chunk, total) -> readBack.addAll(chunk)));
+        deleteShardFiles();
+
+        AddressBook copy = new AddressBook();
+        copy.setPersons(readBack);
+        storage.saveAddressBook(copy);
+        assertTrue(getShardFiles().isEmpty());
+    }
+
+    @Test
+    public void readAddressBook_shardMissing_throwsDataConversionException() throws Exception {
+        new ShardedAddressBookStorage(testFolder).saveAddressBook(getTypicalAddressBook());
+        Files.delete(getShardFiles().get(0));
+        assertThrows(DataConversionException.class, () -> new ShardedAddressBookStorage(testFolder).readAddressBook());
+    }
+
+    @Test
+    public void getShardCount() {
+        assertEquals(ShardedAddressBookStorage.MIN_SHARD_COUNT, ShardedAddressBookStorage.getShardCount(0));
+        assertEquals(ShardedAddressBookStorage.MIN_SHARD_COUNT * 4, ShardedAddressBookStorage.getShardCount(
+                ShardedAddressBookStorage.MIN_SHARD_COUNT * ShardedAddressBookStorage.TARGET_SHARD_SIZE * 3));
+    }
+
+    private static void assertSamePersons(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(new HashSet<>(expected.getPersonList()), new HashSet<>(actual.getPersonList()));
+        assertEquals(expected.getPersonList().size(), actual.getPersonList().size());
+    }
+
+    private List<Path> getShardFiles() throws IOException {
+        try (Stream<Path> files = Files.list(testFolder)) {
+            return files.filter(file -> !file.getFileName().toString().equals(
+                    ShardedAddressBookStorage.MANIFEST_FILE_NAME)).collect(Collectors.toList());
+        }
+    }
+
+    private void deleteShardFiles() throws IOException {
+        for (Path shardFile : getShardFiles()) {
+            Files.delete(shardFile);
+        }
+    }
+}
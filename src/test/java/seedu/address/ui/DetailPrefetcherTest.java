@@ -0,0 +1,122 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.github.Repo;
+import seedu.address.model.person.github.User;
+
+public class DetailPrefetcherTest {
+    private static final Repo ALICE_REPO = repo("alice-repo");
+    private static final Repo BOB_REPO = repo("bob-repo");
+    private static final Person ALICE = person("Alice", "prefetch-test-alice", ALICE_REPO);
+    private static final Person BOB = person("Bob", "prefetch-test-bob", BOB_REPO);
+
+    private final ManualExecutor worker = new ManualExecutor();
+    private final DetailPrefetcher prefetcher = new DetailPrefetcher(worker);
+
+    @Test
+    public void prefetch_personLeavesView_cancelled() {
+        prefetcher.prefetch(Arrays.asList(ALICE, BOB));
+        assertEquals(2, worker.getQueuedCount());
+
+        prefetcher.prefetch(List.of(BOB));
+        worker.runAll();
+        assertEquals(Optional.empty(), prefetcher.getLastUpdatedText(ALICE_REPO));
+        assertTrue(prefetcher.getLastUpdatedText(BOB_REPO).isPresent());
+    }
+
+    @Test
+    public void prefetch_alreadyPrefetched_cachedResultReused() {
+        prefetcher.prefetch(List.of(ALICE));
+        worker.runAll();
+        Optional<String> text = prefetcher.getLastUpdatedText(ALICE_REPO);
+        assertTrue(text.isPresent());
+
+        prefetcher.prefetch(List.of(ALICE));
+        assertEquals(0, worker.getQueuedCount());
+        assertEquals(text, prefetcher.getLastUpdatedText(ALICE_REPO));
+    }
+
+    @Test
+    public void prefetch_pendingPersonStillInView_notSubmittedAgain() {
+        prefetcher.prefetch(List.of(ALICE));
+        prefetcher.prefetch(Arrays.asList(BOB, ALICE));
+        assertEquals(2, worker.getQueuedCount());
+
+        worker.runAll();
+        assertFalse(prefetcher.getLastUpdatedText(ALICE_REPO).isEmpty());
+        assertFalse(prefetcher.getLastUpdatedText(BOB_REPO).isEmpty());
+    }
+
+    private static Repo repo(String name) {
+        return new Repo(name, "https://github.com/" + name, null, LocalDateTime.of(2022, 1, 1, 0, 0));
+    }
+
+    private static Person person(String name, String username, Repo repo) {
+        return new Person(new Name(name), null, Collections.emptySet(), new HashMap<>(), null, null,
+                new User(username, List.of(repo)));
+    }
+
+    /**
+     * An executor that only runs the tasks submitted to it when asked to, on the calling thread.
+     */
+    private static class ManualExecutor extends AbstractExecutorService {
+        private final Queue<Runnable> queued = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            queued.add(command);
+        }
+
+        int getQueuedCount() {
+            return queued.size();
+        }
+
+        void runAll() {
+            while (!queued.isEmpty()) {
+                queued.remove().run();
+            }
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return false;
+        }
+    }
+}
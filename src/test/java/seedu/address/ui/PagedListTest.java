@@ -0,0 +1,77 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class PagedListTest {
+    private final ObservableList<String> source = FXCollections.observableArrayList(
+            "a", "b", "c", "d", "e", "f", "g");
+    private final PagedList<String> pagedList = new PagedList<>(source, 3);
+    private final List<String> changes = new ArrayList<>();
+
+    public PagedListTest() {
+        pagedList.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + "-" + change.getTo() + " removed " + change.getRemoved());
+            }
+        });
+    }
+
+    @Test
+    public void constructor_firstPageShown() {
+        assertEquals(List.of("a", "b", "c"), pagedList);
+        assertTrue(pagedList.hasMorePages());
+    }
+
+    @Test
+    public void loadNextPage_nextItemsAdded() {
+        pagedList.loadNextPage();
+        assertEquals(List.of("a", "b", "c", "d", "e", "f"), pagedList);
+        assertEquals(List.of("3-6 removed []"), changes);
+
+        pagedList.loadNextPage();
+        assertEquals(source, pagedList);
+        assertFalse(pagedList.hasMorePages());
+
+        // No more pages to show
+        pagedList.loadNextPage();
+        assertEquals(2, changes.size());
+    }
+
+    @Test
+    public void sourceChanged_beyondPagesShown_notReported() {
+        source.set(5, "z");
+        source.remove(6);
+        assertEquals(List.of("a", "b", "c"), pagedList);
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void sourceChanged_withinPagesShown_changedRangeReported() {
+        source.set(1, "z");
+        assertEquals(List.of("a", "z", "c"), pagedList);
+        assertEquals(List.of("1-2 removed [b]"), changes);
+
+        // Removing a shown item brings the next item in the source into view
+        changes.clear();
+        source.remove(0);
+        assertEquals(List.of("z", "c", "d"), pagedList);
+        assertEquals(List.of("0-0 removed [a]", "2-3 removed []"), changes);
+
+        // Adding an item pushes the last shown item out of view
+        changes.clear();
+        source.add(1, "y");
+        assertEquals(List.of("z", "y", "c"), pagedList);
+        assertEquals(List.of("1-2 removed []", "3-3 removed [d]"), changes);
+    }
+}